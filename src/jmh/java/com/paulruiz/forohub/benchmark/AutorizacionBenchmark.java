@@ -0,0 +1,62 @@
+package com.paulruiz.forohub.benchmark;
+
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.service.AutorizacionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Benchmark de roles y permisos
+ - Usuario.getAuthorities (se llama en cada petición autenticada)
+ - AutorizacionService: esAdmin y validación de autor del tópico
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AutorizacionBenchmark {
+
+    private AutorizacionService autorizacionService;
+    private Usuario usuario;
+    private Topico topicoPropio;
+
+    @Setup
+    public void setUp() {
+        autorizacionService = new AutorizacionService();
+        usuario = DatosBenchmark.usuario(1, "ROLE_USER", "ROLE_MODERADOR");
+        topicoPropio = DatosBenchmark.topico(1, usuario, DatosBenchmark.curso());
+
+        // El contexto de seguridad es por hilo (Scope.Thread)
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return usuario.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean esAdmin() {
+        return autorizacionService.esAdmin();
+    }
+
+    @Benchmark
+    public Topico validarPermisoParaModificarTopico() {
+        autorizacionService.validarPermisoParaModificarTopico(topicoPropio);
+        return topicoPropio;
+    }
+}
@@ -0,0 +1,93 @@
+package com.paulruiz.forohub.benchmark;
+
+import com.paulruiz.forohub.model.Curso;
+import com.paulruiz.forohub.model.Perfil;
+import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.StatusTopico;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.UsuarioRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Entidades de ejemplo compartidas por los benchmarks (sin base de datos)
+
+final class DatosBenchmark {
+
+    // Mensaje de tamaño realista para un tópico (~1 KB)
+    static final String MENSAJE = "Necesito ayuda para implementar autenticación JWT en mi proyecto. ".repeat(16);
+
+    private DatosBenchmark() {
+    }
+
+    static Usuario usuario(long id, String... roles) {
+        Usuario usuario = new Usuario();
+        usuario.setId(id);
+        usuario.setNombre("Usuario " + id);
+        usuario.setEmail("usuario" + id + "@forohub.com");
+        usuario.setContrasena("$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8ssKQqpXRXUhieo2r6");
+        usuario.setActivo(true);
+        usuario.setFechaCreacion(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        long perfilId = 1;
+        for (String rol : roles) {
+            usuario.getPerfiles().add(new Perfil(perfilId++, rol, null));
+        }
+        return usuario;
+    }
+
+    static Curso curso() {
+        return new Curso(1L, "Spring Boot", "Backend", "Desarrollo de APIs REST con Spring Boot", true);
+    }
+
+    static Topico topico(long id, Usuario autor, Curso curso) {
+        Topico topico = new Topico();
+        topico.setId(id);
+        topico.setTitulo("¿Cómo usar Spring Security? #" + id);
+        topico.setMensaje(MENSAJE);
+        topico.setFechaCreacion(LocalDateTime.of(2024, 6, 1, 12, 0));
+        topico.setStatus(StatusTopico.NO_SOLUCIONADO);
+        topico.setAutor(autor);
+        topico.setCurso(curso);
+        return topico;
+    }
+
+    static Respuesta respuesta(long id, Topico topico, Usuario autor) {
+        Respuesta respuesta = new Respuesta();
+        respuesta.setId(id);
+        respuesta.setMensaje(MENSAJE);
+        respuesta.setFechaCreacion(LocalDateTime.of(2024, 6, 2, 12, 0));
+        respuesta.setSolucion(false);
+        respuesta.setTopico(topico);
+        respuesta.setAutor(autor);
+        return respuesta;
+    }
+
+    static List<Topico> topicos(int cantidad) {
+        Curso curso = curso();
+        List<Topico> topicos = new ArrayList<>(cantidad);
+        for (int i = 1; i <= cantidad; i++) {
+            topicos.add(topico(i, usuario(i, "ROLE_USER"), curso));
+        }
+        return topicos;
+    }
+
+    /*
+     UsuarioRepository en memoria: findByEmail siempre retorna el usuario dado
+     Se usa un Proxy dinámico para no depender de Mockito en el benchmark
+     */
+    static UsuarioRepository repositorioCon(Usuario usuario) {
+        return (UsuarioRepository) Proxy.newProxyInstance(
+                UsuarioRepository.class.getClassLoader(),
+                new Class<?>[]{UsuarioRepository.class},
+                (proxy, metodo, args) -> {
+                    if (metodo.getName().equals("findByEmail")) {
+                        return usuario;
+                    }
+                    throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+}
@@ -0,0 +1,76 @@
+package com.paulruiz.forohub.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
+import com.paulruiz.forohub.dto.DetalleTopicoDTO;
+import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.Topico;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Benchmark de conversión entidad → DTO y serialización JSON
+ Simula GET /topicos (página de 10) y GET /topicos/{id}/respuestas
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoBenchmark {
+
+    private static final int TAMANO_PAGINA = 10;
+
+    private ObjectMapper objectMapper;
+    private List<Topico> topicos;
+    private List<Respuesta> respuestas;
+    private Page<DetalleTopicoDTO> pagina;
+
+    @Setup
+    public void setUp() {
+        // Mismo ObjectMapper que arma Spring Boot (incluye soporte de java.time)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        topicos = DatosBenchmark.topicos(TAMANO_PAGINA);
+        Topico topico = topicos.get(0);
+        respuestas = topicos.stream()
+                .map(t -> DatosBenchmark.respuesta(t.getId(), topico, t.getAutor()))
+                .toList();
+
+        pagina = paginar(topicos);
+    }
+
+    @Benchmark
+    public Page<DetalleTopicoDTO> mapearPaginaTopicos() {
+        return paginar(topicos);
+    }
+
+    @Benchmark
+    public List<DetalleRespuestaDTO> mapearRespuestas() {
+        return respuestas.stream()
+                .map(DetalleRespuestaDTO::new)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializarPaginaTopicos() throws Exception {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] mapearYSerializarPaginaTopicos() throws Exception {
+        return objectMapper.writeValueAsBytes(paginar(topicos));
+    }
+
+    private Page<DetalleTopicoDTO> paginar(List<Topico> contenido) {
+        return new PageImpl<>(contenido, PageRequest.of(0, TAMANO_PAGINA), 1_000)
+                .map(DetalleTopicoDTO::new);
+    }
+}
@@ -0,0 +1,84 @@
+package com.paulruiz.forohub.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.paulruiz.forohub.dto.DetalleTopicoDTO;
+import com.paulruiz.forohub.dto.PaginaDTO;
+import com.paulruiz.forohub.dto.TopicoDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Benchmark de formatos de GET /topicos y POST /topicos: JSON vs CBOR vs Smile
+
+ - codificarPagina: respuesta de GET /topicos en el servidor
+ - decodificarPagina: parseo de esa respuesta en el cliente (árbol genérico)
+ - decodificarTopico: cuerpo de POST /topicos en el servidor (TopicoDTO)
+
+ Los bytes de cada formato se imprimen al iniciar:
+ mvn -Pjmh verify -Djmh.args="FormatosBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatosBenchmark {
+
+    private static final int TAMANO_PAGINA = 10;
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    private ObjectMapper objectMapper;
+    private PaginaDTO<DetalleTopicoDTO> pagina;
+    private byte[] paginaCodificada;
+    private byte[] topicoCodificado;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mismo armado que JacksonConfigurations
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule());
+        switch (formato) {
+            case "cbor" -> builder.factory(new CBORFactory());
+            case "smile" -> builder.factory(new SmileFactory());
+            default -> { }
+        }
+        objectMapper = builder.build();
+
+        pagina = new PaginaDTO<>(new PageImpl<>(DatosBenchmark.topicos(TAMANO_PAGINA),
+                PageRequest.of(0, TAMANO_PAGINA), 1_000).map(DetalleTopicoDTO::new));
+        paginaCodificada = objectMapper.writeValueAsBytes(pagina);
+        topicoCodificado = objectMapper.writeValueAsBytes(
+                new TopicoDTO("¿Cómo usar Spring Security?", DatosBenchmark.MENSAJE, 1L));
+
+        System.out.printf(Locale.ROOT, "%n%-6s página: %d bytes, TopicoDTO: %d bytes%n",
+                formato, paginaCodificada.length, topicoCodificado.length);
+    }
+
+    @Benchmark
+    public byte[] codificarPagina() throws IOException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public JsonNode decodificarPagina() throws IOException {
+        return objectMapper.readTree(paginaCodificada);
+    }
+
+    @Benchmark
+    public TopicoDTO decodificarTopico() throws IOException {
+        return objectMapper.readValue(topicoCodificado, TopicoDTO.class);
+    }
+}
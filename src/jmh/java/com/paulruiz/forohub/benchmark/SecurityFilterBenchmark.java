@@ -0,0 +1,64 @@
+package com.paulruiz.forohub.benchmark;
+
+import com.paulruiz.forohub.infra.security.SecurityFilter;
+import com.paulruiz.forohub.infra.security.TokenService;
+import com.paulruiz.forohub.model.Usuario;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ Benchmark del filtro JWT (SecurityFilter) con una cadena de filtros simulada
+ El repositorio de usuarios es en memoria: se mide el costo del filtro sin la BD
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityFilterBenchmark {
+
+    private SecurityFilter securityFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        TokenService tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "clave-secreta-benchmark");
+        ReflectionTestUtils.setField(tokenService, "expiration", 3_600_000L);
+
+        Usuario usuario = DatosBenchmark.usuario(1, "ROLE_USER");
+
+        securityFilter = new SecurityFilter();
+        ReflectionTestUtils.setField(securityFilter, "tokenService", tokenService);
+        ReflectionTestUtils.setField(securityFilter, "usuarioRepository", DatosBenchmark.repositorioCon(usuario));
+
+        authorization = "Bearer " + tokenService.generarToken(usuario);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse peticionConToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/topicos");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        securityFilter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse peticionSinToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        securityFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,96 @@
+package com.paulruiz.forohub.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.paulruiz.forohub.dto.DetalleTopicoDTO;
+import com.paulruiz.forohub.dto.PaginaDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ Benchmark de GET /topicos: CPU de serialización y bytes en el cable
+
+ - mapper: "reflexion" (Jackson por defecto) o "blackbird" (accesores generados)
+ - serializarPageImpl / serializarPagina: sobre anterior vs PaginaDTO
+ - serializarYComprimir: costo de CPU del gzip que agrega Tomcat
+
+ Los bytes (sin comprimir y con gzip) de cada sobre se imprimen al iniciar:
+ mvn -Pjmh verify -Djmh.args="SerializacionBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacionBenchmark {
+
+    private static final int TAMANO_PAGINA = 10;
+
+    @Param({"reflexion", "blackbird"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private Page<DetalleTopicoDTO> pageImpl;
+    private PaginaDTO<DetalleTopicoDTO> pagina;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (mapper.equals("blackbird")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        pageImpl = new PageImpl<>(DatosBenchmark.topicos(TAMANO_PAGINA), PageRequest.of(0, TAMANO_PAGINA), 1_000)
+                .map(DetalleTopicoDTO::new);
+        pagina = new PaginaDTO<>(pageImpl);
+
+        imprimirTamanos();
+    }
+
+    @Benchmark
+    public byte[] serializarPageImpl() throws IOException {
+        return objectMapper.writeValueAsBytes(pageImpl);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws IOException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] serializarYComprimir() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(pagina));
+    }
+
+    // ============================================
+    // Bytes en el cable
+    // ============================================
+
+    private void imprimirTamanos() throws IOException {
+        byte[] anterior = objectMapper.writeValueAsBytes(pageImpl);
+        byte[] compacto = objectMapper.writeValueAsBytes(pagina);
+
+        System.out.printf(Locale.ROOT, "%n%-12s %10s %10s%n", "sobre", "bytes", "gzip");
+        System.out.printf(Locale.ROOT, "%-12s %10d %10d%n", "PageImpl", anterior.length, gzip(anterior).length);
+        System.out.printf(Locale.ROOT, "%-12s %10d %10d%n", "PaginaDTO", compacto.length, gzip(compacto).length);
+    }
+
+    private static byte[] gzip(byte[] datos) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(datos.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(datos);
+        }
+        return salida.toByteArray();
+    }
+}
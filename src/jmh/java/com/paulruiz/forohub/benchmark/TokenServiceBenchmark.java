@@ -0,0 +1,43 @@
+package com.paulruiz.forohub.benchmark;
+
+import com.paulruiz.forohub.infra.security.TokenService;
+import com.paulruiz.forohub.model.Usuario;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Benchmark de generación y validación de tokens JWT (TokenService)
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenServiceBenchmark {
+
+    private TokenService tokenService;
+    private Usuario usuario;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "clave-secreta-benchmark");
+        ReflectionTestUtils.setField(tokenService, "expiration", 3_600_000L);
+
+        usuario = DatosBenchmark.usuario(1, "ROLE_USER");
+        token = tokenService.generarToken(usuario);
+    }
+
+    @Benchmark
+    public String generarToken() {
+        return tokenService.generarToken(usuario);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return tokenService.getSubject(token);
+    }
+}
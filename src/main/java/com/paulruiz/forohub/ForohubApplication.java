@@ -1,13 +1,22 @@
 package com.paulruiz.forohub;
 
+import com.paulruiz.forohub.infra.generador.GeneradorDatos;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ForohubApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(ForohubApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(ForohubApplication.class, args);
+
+		// Con el generador de datos activo la aplicación termina al generar (código de GeneradorDatos)
+		if (context.getBeanProvider(GeneradorDatos.class).getIfAvailable() != null) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
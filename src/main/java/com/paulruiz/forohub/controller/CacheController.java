@@ -0,0 +1,46 @@
+package com.paulruiz.forohub.controller;
+
+import com.paulruiz.forohub.dto.EstadisticasCacheDTO;
+import com.paulruiz.forohub.infra.cache.CacheReferenciaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+
+// Controlador de administración de la caché de segundo nivel (Solo ADMIN)
+
+@RestController
+@RequestMapping("/admin/cache")
+@Tag(name = "Administración", description = "Operaciones de administración del foro (solo ADMIN)")
+@SecurityRequirement(name = "bearer-key")
+public class CacheController {
+
+    @Autowired
+    private CacheReferenciaService cacheReferenciaService;
+
+    // ============================================
+    // GET - Estadísticas de caché
+    // ============================================
+
+    /*
+      GET /admin/cache - Estadísticas de la caché de segundo nivel
+
+      Retorna aciertos, fallos, inserciones y elementos en memoria por región.
+     */
+    @GetMapping
+    @Operation(
+            summary = "Estadísticas de caché",
+            description = "Retorna las estadísticas de la caché de segundo nivel (cursos, perfiles y consultas). " +
+                    "Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<List<EstadisticasCacheDTO>> estadisticas() {
+        return ResponseEntity.ok(cacheReferenciaService.obtenerEstadisticas());
+    }
+}
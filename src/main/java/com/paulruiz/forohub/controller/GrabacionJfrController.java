@@ -0,0 +1,99 @@
+package com.paulruiz.forohub.controller;
+
+import com.paulruiz.forohub.infra.jfr.GrabacionJfrService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+
+// Controlador de grabaciones JFR para perfilar en producción (Solo ADMIN)
+
+@RestController
+@RequestMapping("/admin/jfr")
+@Tag(name = "Administración", description = "Operaciones de administración del foro (solo ADMIN)")
+@SecurityRequirement(name = "bearer-key")
+public class GrabacionJfrController {
+
+    @Autowired
+    private GrabacionJfrService grabacionJfrService;
+
+    // ============================================
+    // GET - Estado de la grabación
+    // ============================================
+
+    @GetMapping
+    @Operation(
+            summary = "Estado de la grabación JFR",
+            description = "Retorna SIN_GRABACION, RUNNING o STOPPED. Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<Map<String, String>> estado() {
+        return ResponseEntity.ok(Map.of("estado", grabacionJfrService.estado()));
+    }
+
+    // ============================================
+    // POST - Iniciar grabación
+    // ============================================
+
+    /*
+      POST /admin/jfr/iniciar?segundos=60 - Inicia una grabación JFR
+
+      La grabación se detiene sola al cumplir la duración (máximo 10 minutos).
+     */
+    @PostMapping("/iniciar")
+    @Operation(
+            summary = "Iniciar grabación JFR",
+            description = "Inicia una grabación JFR acotada (máximo 10 minutos y 100 MB) con los eventos de ForoHub. " +
+                    "Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<Void> iniciar(@RequestParam(defaultValue = "60") long segundos) {
+        grabacionJfrService.iniciar(Duration.ofSeconds(Math.max(segundos, 1)));
+        return ResponseEntity.accepted().build();
+    }
+
+    // ============================================
+    // POST - Detener y descargar grabación
+    // ============================================
+
+    /*
+      POST /admin/jfr/detener - Detiene la grabación y descarga el archivo .jfr
+
+      Se abre con JDK Mission Control o con "jfr print --events com.paulruiz.forohub.* archivo.jfr"
+     */
+    @PostMapping("/detener")
+    @Operation(
+            summary = "Detener grabación JFR",
+            description = "Detiene la grabación (si sigue activa) y retorna el archivo .jfr. " +
+                    "Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<StreamingResponseBody> detener() {
+        Path archivo = grabacionJfrService.detener();
+
+        StreamingResponseBody cuerpo = salida -> {
+            try {
+                Files.copy(archivo, salida);
+            } finally {
+                Files.deleteIfExists(archivo);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"forohub.jfr\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(cuerpo);
+    }
+}
@@ -0,0 +1,93 @@
+package com.paulruiz.forohub.controller;
+
+import com.paulruiz.forohub.dto.ModeracionTopicosDTO;
+import com.paulruiz.forohub.dto.ProgresoModeracionDTO;
+import com.paulruiz.forohub.service.ModeracionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+
+// Controlador de moderación masiva de tópicos (Solo ADMIN)
+
+@RestController
+@RequestMapping("/admin/topicos/moderacion")
+@Tag(name = "Administración", description = "Operaciones de administración del foro (solo ADMIN)")
+@SecurityRequirement(name = "bearer-key")
+public class ModeracionController {
+
+    @Autowired
+    private ModeracionService moderacionService;
+
+    // ============================================
+    // POST - Iniciar moderación masiva
+    // ============================================
+
+    /*
+      POST /admin/topicos/moderacion - Cerrar o eliminar tópicos en lote
+
+      Responde 202 de inmediato: la moderación corre en segundo plano por lotes
+      y su progreso se consulta en la URL del header Location.
+     */
+    @PostMapping
+    @Operation(
+            summary = "Moderación masiva de tópicos",
+            description = "Cierra (CERRAR) o elimina (ELIMINAR) tópicos por lista de `ids` o por filtro " +
+                    "(`cursoId`, `autorId`, `desde`, `hasta` con fechas inclusivas). No se pueden mezclar IDs y filtros.\n\n" +
+                    "Se ejecuta en segundo plano en lotes de `forohub.moderacion.lote` tópicos, cada uno en una " +
+                    "transacción corta con un solo UPDATE/DELETE. Responde 202 con el progreso inicial, " +
+                    "o 503 si ya hay `forohub.moderacion.max-en-cola` moderaciones esperando. " +
+                    "Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<ProgresoModeracionDTO> iniciar(
+            @RequestBody @Valid ModeracionTopicosDTO datos,
+            UriComponentsBuilder uriBuilder) {
+
+        ProgresoModeracionDTO progreso = moderacionService.iniciar(datos);
+
+        URI url = uriBuilder.path("/admin/topicos/moderacion/{id}")
+                .buildAndExpand(progreso.id())
+                .toUri();
+
+        return ResponseEntity.accepted()
+                .location(url)
+                .body(progreso);
+    }
+
+    // ============================================
+    // GET - Progreso de una moderación
+    // ============================================
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Progreso de una moderación",
+            description = "Retorna estado (EN_COLA, EN_CURSO, COMPLETADA, FALLIDA), total estimado, " +
+                    "tópicos procesados y lotes. En cola incluye `posicionEnCola` y `esperandoA` " +
+                    "(moderación en curso). Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<ProgresoModeracionDTO> progreso(@PathVariable String id) {
+        return ResponseEntity.ok(moderacionService.obtenerProgreso(id));
+    }
+
+    // ============================================
+    // GET - Moderaciones recientes
+    // ============================================
+
+    @GetMapping
+    @Operation(
+            summary = "Moderaciones recientes",
+            description = "Lista las últimas moderaciones masivas (la más reciente primero). " +
+                    "Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<List<ProgresoModeracionDTO>> recientes() {
+        return ResponseEntity.ok(moderacionService.listarRecientes());
+    }
+}
@@ -3,7 +3,6 @@ package com.paulruiz.forohub.controller;
 import com.paulruiz.forohub.dto.ActualizarRespuestaDTO;
 import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
 import com.paulruiz.forohub.dto.RespuestaDTO;
-import com.paulruiz.forohub.model.Respuesta;
 import com.paulruiz.forohub.service.RespuestaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -76,15 +75,15 @@ public class RespuestaController {
             UriComponentsBuilder uriBuilder) {
 
         // Delegar creación al servicio (autor se obtiene del JWT automáticamente)
-        Respuesta respuesta = respuestaService.crearRespuesta(respuestaDTO);
+        DetalleRespuestaDTO respuesta = respuestaService.crearRespuesta(respuestaDTO);
 
         // Construir URI del recurso creado
         URI url = uriBuilder.path("/respuestas/{id}")
-                .buildAndExpand(respuesta.getId())
+                .buildAndExpand(respuesta.id())
                 .toUri();
 
         return ResponseEntity.created(url)
-                .body(new DetalleRespuestaDTO(respuesta));
+                .body(respuesta);
     }
 
     // ============================================
@@ -111,9 +110,9 @@ public class RespuestaController {
     public ResponseEntity<DetalleRespuestaDTO> detalleRespuesta(@PathVariable Long id) {
 
         // Obtener respuesta del servicio
-        Respuesta respuesta = respuestaService.obtenerRespuestaPorId(id);
+        DetalleRespuestaDTO respuesta = respuestaService.obtenerDetalleRespuesta(id);
 
-        return ResponseEntity.ok(new DetalleRespuestaDTO(respuesta));
+        return ResponseEntity.ok(respuesta);
     }
 
     // ============================================
@@ -161,9 +160,9 @@ public class RespuestaController {
             @RequestBody @Valid ActualizarRespuestaDTO actualizarDTO) {
 
         // Delegar actualización al servicio
-        Respuesta respuesta = respuestaService.actualizarRespuesta(id, actualizarDTO);
+        DetalleRespuestaDTO respuesta = respuestaService.actualizarRespuesta(id, actualizarDTO);
 
-        return ResponseEntity.ok(new DetalleRespuestaDTO(respuesta));
+        return ResponseEntity.ok(respuesta);
     }
 
     // ============================================
@@ -226,8 +225,8 @@ public class RespuestaController {
     public ResponseEntity<DetalleRespuestaDTO> marcarComoSolucion(@PathVariable Long id) {
 
         // Delegar al servicio
-        Respuesta respuesta = respuestaService.marcarComoSolucion(id);
+        DetalleRespuestaDTO respuesta = respuestaService.marcarComoSolucion(id);
 
-        return ResponseEntity.ok(new DetalleRespuestaDTO(respuesta));
+        return ResponseEntity.ok(respuesta);
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.paulruiz.forohub.controller;
+
+import com.paulruiz.forohub.dto.SentenciaLentaDTO;
+import com.paulruiz.forohub.infra.sql.RegistroSentencias;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+
+// Controlador de observabilidad SQL: sentencias más lentas (Solo ADMIN)
+
+@RestController
+@RequestMapping("/admin/sql")
+@Tag(name = "Administración", description = "Operaciones de administración del foro (solo ADMIN)")
+@SecurityRequirement(name = "bearer-key")
+public class SentenciasController {
+
+    @Autowired
+    private RegistroSentencias registroSentencias;
+
+    // ============================================
+    // GET - Sentencias más lentas
+    // ============================================
+
+    /*
+      GET /admin/sql/lentas - Top N de sentencias SQL por tiempo máximo
+
+      Acumulado desde el arranque (o desde el último reinicio) por SQL preparado.
+     */
+    @GetMapping("/lentas")
+    @Operation(
+            summary = "Sentencias SQL más lentas",
+            description = "Retorna las sentencias SQL con mayor tiempo máximo de ejecución, " +
+                    "con su cantidad de ejecuciones y tiempo total y promedio. " +
+                    "Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<List<SentenciaLentaDTO>> lentas() {
+        return ResponseEntity.ok(registroSentencias.masLentas());
+    }
+
+    // ============================================
+    // DELETE - Reiniciar la tabla
+    // ============================================
+
+    @DeleteMapping("/lentas")
+    @Operation(
+            summary = "Reiniciar sentencias lentas",
+            description = "Vacía la tabla de sentencias acumuladas. Requiere autenticación JWT con rol ADMIN."
+    )
+    public ResponseEntity<Void> reiniciar() {
+        registroSentencias.reiniciar();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,8 +3,10 @@ package com.paulruiz.forohub.controller;
 import com.paulruiz.forohub.dto.ActualizarTopicoDTO;
 import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
 import com.paulruiz.forohub.dto.DetalleTopicoDTO;
+import com.paulruiz.forohub.dto.LoteDTO;
+import com.paulruiz.forohub.dto.PaginaDTO;
 import com.paulruiz.forohub.dto.TopicoDTO;
-import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.infra.tiemporeal.EventosTopicoService;
 import com.paulruiz.forohub.service.RespuestaService;
 import com.paulruiz.forohub.service.TopicoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,8 +21,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -42,6 +46,9 @@ public class TopicoController {
     @Autowired
     private RespuestaService respuestaService;
 
+    @Autowired
+    private EventosTopicoService eventosTopicoService;
+
     // ============================================
     // POST - Crear tópico
     // ============================================
@@ -87,16 +94,16 @@ public class TopicoController {
             UriComponentsBuilder uriBuilder) {
 
         // Delegar creación al servicio (autor se obtiene del JWT automáticamente)
-        Topico topico = topicoService.crearTopico(topicoDTO);
+        DetalleTopicoDTO topico = topicoService.crearTopico(topicoDTO);
 
         // Construir URI del recurso creado
         URI url = uriBuilder.path("/topicos/{id}")
-                .buildAndExpand(topico.getId())
+                .buildAndExpand(topico.id())
                 .toUri();
 
         // Retornar respuesta con DTO
         return ResponseEntity.created(url)
-                .body(new DetalleTopicoDTO(topico));
+                .body(topico);
     }
 
     // ============================================
@@ -107,11 +114,16 @@ public class TopicoController {
       GET /topicos - Listar todos los tópicos paginados
 
       Retorna lista paginada ordenada por fecha de creación descendente (más recientes primero).
+      La página viaja como PaginaDTO: contenido, pagina, tamano, totalElementos y totalPaginas.
 
       Parámetros opcionales:
       - page: Número de página (comienza en 0, default: 0)
       - size: Elementos por página (default: 10)
       - sort: Campo de ordenamiento (default: fechaCreacion,desc)
+      - fields: Campos a devolver, separados por coma (ej. id,titulo,nombreAutor)
+      - vista: "resumen" devuelve id, titulo, extracto, fechaCreacion, status, nombreAutor y nombreCurso
+
+      Con fields o vista la consulta lee solo esas columnas (sin "mensaje" no se toca el TEXT)
 
       Campos disponibles para ordenar:
       - fechaCreacion: Fecha de creación del tópico
@@ -131,7 +143,12 @@ public class TopicoController {
                     "- `fechaCreacion,asc` - Más antiguos primero\n" +
                     "- `titulo,asc` - Alfabéticamente por título\n" +
                     "- `status,asc` - Por status del tópico\n\n" +
-                    "**Campos ordenables:** fechaCreacion, titulo, status"
+                    "**Campos ordenables:** fechaCreacion, titulo, status\n\n" +
+                    "**Proyección:**\n" +
+                    "- `fields`: id, titulo, mensaje, extracto, fechaCreacion, status, " +
+                    "nombreAutor, emailAutor, nombreCurso, categoriaCurso\n" +
+                    "- `vista=resumen`: id, titulo, extracto (primeros 200 caracteres), fechaCreacion, " +
+                    "status, nombreAutor, nombreCurso"
     )
     @Parameter(
             name = "page",
@@ -150,20 +167,64 @@ public class TopicoController {
                     "Se pueden usar múltiples valores para ordenamiento compuesto.",
             example = "fechaCreacion,desc"
     )
-    public ResponseEntity<Page<DetalleTopicoDTO>> listarTopicos(
+    @Parameter(
+            name = "fields",
+            description = "Campos a devolver separados por coma. Tiene prioridad sobre vista.",
+            example = "id,titulo,nombreAutor"
+    )
+    @Parameter(
+            name = "vista",
+            description = "Vista predefinida. Única disponible: resumen",
+            example = "resumen"
+    )
+    public ResponseEntity<PaginaDTO<?>> listarTopicos(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String vista,
             @PageableDefault(
                     size = 10,
                     sort = "fechaCreacion",
                     direction = Sort.Direction.DESC
             ) Pageable paginacion) {
 
-        // Obtener página de tópicos del servicio
-        Page<Topico> topicos = topicoService.listarTopicos(paginacion);
+        // Con fields o vista: solo las columnas pedidas
+        if (fields != null || vista != null) {
+            return ResponseEntity.ok(new PaginaDTO<>(
+                    topicoService.listarTopicosProyectados(fields, vista, paginacion)));
+        }
+
+        // Obtener página de tópicos del servicio (ya convertidos a DTO)
+        Page<DetalleTopicoDTO> topicos = topicoService.listarTopicos(paginacion);
+
+        return ResponseEntity.ok(new PaginaDTO<>(topicos));
+    }
+
+    // ============================================
+    // GET - Lote de tópicos por ID
+    // ============================================
+
+    /*
+      GET /topicos?ids=3,1,7 - Obtener varios tópicos en una sola petición
 
-        // Convertir entidades a DTOs
-        Page<DetalleTopicoDTO> topicosDTO = topicos.map(DetalleTopicoDTO::new);
+      Pensado para las barras laterales de tópicos relacionados: una sola
+      consulta IN (con autor y curso) en vez de un GET /topicos/{id} por tópico.
+      El contenido respeta el orden de los IDs; los inexistentes van en faltantes.
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+            summary = "Obtener varios tópicos por ID",
+            description = "Retorna los tópicos pedidos en el mismo orden que `ids`, en una sola consulta.\n\n" +
+                    "- Los IDs repetidos se ignoran\n" +
+                    "- Los IDs inexistentes se informan en `faltantes` (no es un error)\n" +
+                    "- Máximo de IDs por petición: `forohub.lote.max-ids` (default 100); si se supera responde 400"
+    )
+    @Parameter(
+            name = "ids",
+            description = "IDs de los tópicos separados por coma",
+            example = "3,1,7"
+    )
+    public ResponseEntity<LoteDTO<DetalleTopicoDTO>> obtenerLoteTopicos(@RequestParam List<Long> ids) {
 
-        return ResponseEntity.ok(topicosDTO);
+        return ResponseEntity.ok(topicoService.obtenerLoteTopicos(ids));
     }
 
     // ============================================
@@ -193,9 +254,9 @@ public class TopicoController {
     public ResponseEntity<DetalleTopicoDTO> detalleTopico(@PathVariable Long id) {
 
         // Obtener tópico del servicio
-        Topico topico = topicoService.obtenerTopicoPorId(id);
+        DetalleTopicoDTO topico = topicoService.obtenerDetalleTopico(id);
 
-        return ResponseEntity.ok(new DetalleTopicoDTO(topico));
+        return ResponseEntity.ok(topico);
     }
 
     // ============================================
@@ -224,16 +285,49 @@ public class TopicoController {
     public ResponseEntity<List<DetalleRespuestaDTO>> listarRespuestasDeTopico(
             @PathVariable Long id) {
 
-        // Validar que el tópico existe
-        topicoService.obtenerTopicoPorId(id);
-
-        // Obtener respuestas del servicio
+        // Obtener respuestas del servicio (valida que el tópico exista)
         List<DetalleRespuestaDTO> respuestas = respuestaService
                 .listarRespuestasDeTopico(id);
 
         return ResponseEntity.ok(respuestas);
     }
 
+    // ============================================
+    // GET - Eventos en tiempo real de un tópico
+    // ============================================
+
+    /*
+      GET /topicos/{id}/eventos - Stream SSE de eventos del tópico
+
+      Eventos: respuesta-creada, respuesta-actualizada, solucion-marcada (DetalleRespuestaDTO),
+      respuesta-eliminada (RespuestaEliminadaDTO) y status (StatusTopicoDTO).
+      Al reconectar con Last-Event-ID se reenvían los eventos perdidos; si ya no están
+      en el historial se recibe "reiniciar" y el cliente debe recargar las respuestas.
+
+     */
+    @GetMapping(value = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Eventos en tiempo real de un tópico (SSE)",
+            description = "Stream Server-Sent Events con las respuestas nuevas, editadas, eliminadas, " +
+                    "la solución marcada y los cambios de status del tópico. " +
+                    "Soporta reanudación con la cabecera Last-Event-ID."
+    )
+    @Parameter(
+            name = "id",
+            description = "ID del tópico a seguir",
+            example = "1",
+            required = true
+    )
+    public SseEmitter eventosDeTopico(
+            @PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) String ultimoEventoId) {
+
+        // Validar que el tópico existe antes de abrir el stream
+        topicoService.validarExistencia(id);
+
+        return eventosTopicoService.suscribir(id, ultimoEventoId);
+    }
+
     // ============================================
     // PUT - Actualizar tópico
     // ============================================
@@ -283,9 +377,9 @@ public class TopicoController {
             @RequestBody @Valid ActualizarTopicoDTO actualizarDTO) {
 
         // Delegar actualización al servicio
-        Topico topico = topicoService.actualizarTopico(id, actualizarDTO);
+        DetalleTopicoDTO topico = topicoService.actualizarTopico(id, actualizarDTO);
 
-        return ResponseEntity.ok(new DetalleTopicoDTO(topico));
+        return ResponseEntity.ok(topico);
     }
 
     // ============================================
@@ -1,6 +1,7 @@
 package com.paulruiz.forohub.controller;
 
 import com.paulruiz.forohub.dto.DetalleUsuarioDTO;
+import com.paulruiz.forohub.dto.LoteDTO;
 import com.paulruiz.forohub.dto.RegistroUsuarioDTO;
 import com.paulruiz.forohub.model.Usuario;
 import com.paulruiz.forohub.service.UsuarioService;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 
 // Controlador para gestionar usuarios
@@ -57,6 +59,29 @@ public class UsuarioController {
                 .body(new DetalleUsuarioDTO(usuario));
     }
 
+    // ============================================
+    // GET - Lote de usuarios por ID
+    // ============================================
+
+    /*
+      GET /usuarios?ids=5,2 - Obtener varios usuarios en una sola petición
+
+      Una sola consulta IN (con perfiles) en el orden de los IDs pedidos.
+      Los IDs inexistentes se informan en faltantes.
+     */
+    @GetMapping(params = "ids")
+    @SecurityRequirement(name = "bearer-key")
+    @Operation(
+            summary = "Obtener varios usuarios por ID",
+            description = "Retorna los usuarios pedidos en el mismo orden que `ids`, en una sola consulta. " +
+                    "Los IDs inexistentes se informan en `faltantes`. Máximo `forohub.lote.max-ids` (default 100) " +
+                    "IDs por petición. NO retorna contraseñas. Requiere autenticación JWT."
+    )
+    public ResponseEntity<LoteDTO<DetalleUsuarioDTO>> obtenerLoteUsuarios(@RequestParam List<Long> ids) {
+
+        return ResponseEntity.ok(usuarioService.obtenerLoteUsuarios(ids));
+    }
+
     // ============================================
     // GET - Detalle de usuario
     // ============================================
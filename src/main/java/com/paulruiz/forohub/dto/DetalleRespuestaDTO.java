@@ -1,6 +1,7 @@
 package com.paulruiz.forohub.dto;
 
 import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.RespuestaArchivada;
 
 import java.time.LocalDateTime;
 
@@ -34,4 +35,22 @@ public record DetalleRespuestaDTO(
                 respuesta.getAutor().getEmail()
         );
     }
-}
\ No newline at end of file
+
+    /*
+     Constructor para una respuesta archivada (misma forma que una viva)
+
+     @param respuesta Entidad RespuestaArchivada con tópico y autor
+     */
+    public DetalleRespuestaDTO(RespuestaArchivada respuesta) {
+        this(
+                respuesta.getId(),
+                respuesta.getMensaje(),
+                respuesta.getFechaCreacion(),
+                respuesta.getSolucion(),
+                respuesta.getTopico().getId(),
+                respuesta.getTopico().getTitulo(),
+                respuesta.getAutor().getNombre(),
+                respuesta.getAutor().getEmail()
+        );
+    }
+}
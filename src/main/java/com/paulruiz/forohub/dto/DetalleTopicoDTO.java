@@ -2,6 +2,7 @@ package com.paulruiz.forohub.dto;
 
 import com.paulruiz.forohub.model.StatusTopico;
 import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.TopicoArchivado;
 
 import java.time.LocalDateTime;
 
@@ -38,4 +39,23 @@ public record DetalleTopicoDTO(
                 topico.getCurso().getCategoria()
         );
     }
-}
\ No newline at end of file
+
+    /*
+     Constructor para un tópico archivado (misma forma que uno vivo)
+
+     @param topico Entidad TopicoArchivado con autor y curso
+     */
+    public DetalleTopicoDTO(TopicoArchivado topico) {
+        this(
+                topico.getId(),
+                topico.getTitulo(),
+                topico.getMensaje(),
+                topico.getFechaCreacion(),
+                topico.getStatus(),
+                topico.getAutor().getNombre(),
+                topico.getAutor().getEmail(),
+                topico.getCurso().getNombre(),
+                topico.getCurso().getCategoria()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.paulruiz.forohub.dto;
+
+import org.hibernate.stat.CacheRegionStatistics;
+
+/*
+ DTO para retornar las estadísticas de una región de la caché de segundo nivel
+ */
+public record EstadisticasCacheDTO(
+        String region,
+        long aciertos,
+        long fallos,
+        long inserciones,
+        long elementosEnMemoria
+) {
+    /*
+     Constructor que convierte las estadísticas de Hibernate en DTO
+
+     @param region Nombre de la región
+     @param estadisticas Estadísticas de la región
+     */
+    public EstadisticasCacheDTO(String region, CacheRegionStatistics estadisticas) {
+        this(
+                region,
+                estadisticas.getHitCount(),
+                estadisticas.getMissCount(),
+                estadisticas.getPutCount(),
+                estadisticas.getElementCountInMemory()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.paulruiz.forohub.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ DTO para las lecturas por lote (GET /topicos?ids=, GET /usuarios?ids=)
+ El contenido respeta el orden de los IDs pedidos; los que no existen van en faltantes
+ */
+public record LoteDTO<T>(
+        List<T> contenido,
+        List<Long> faltantes
+) {
+    /*
+     Arma el lote en el orden pedido a partir de las entidades encontradas
+
+     @param ids IDs pedidos (sin repetidos)
+     @param entidades Entidades encontradas, en cualquier orden
+     @param id Obtiene el ID de una entidad
+     @param convertir Convierte la entidad en DTO
+     */
+    public static <E, T> LoteDTO<T> armar(List<Long> ids, List<E> entidades,
+                                          Function<E, Long> id, Function<E, T> convertir) {
+        Map<Long, E> porId = entidades.stream()
+                .collect(Collectors.toMap(id, Function.identity()));
+
+        List<T> contenido = new ArrayList<>(porId.size());
+        List<Long> faltantes = new ArrayList<>();
+        for (Long pedido : ids) {
+            E entidad = porId.get(pedido);
+            if (entidad != null) {
+                contenido.add(convertir.apply(entidad));
+            } else {
+                faltantes.add(pedido);
+            }
+        }
+        return new LoteDTO<>(contenido, faltantes);
+    }
+}
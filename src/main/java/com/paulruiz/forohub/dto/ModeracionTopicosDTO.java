@@ -0,0 +1,28 @@
+package com.paulruiz.forohub.dto;
+
+import com.paulruiz.forohub.model.AccionModeracion;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+ DTO para RECIBIR una moderación masiva de tópicos
+ Se indica una lista de IDs o al menos un filtro (curso, autor, rango de fechas)
+ Las fechas son inclusivas y se comparan con la fecha de creación
+ */
+public record ModeracionTopicosDTO(
+        @NotNull(message = "La acción es obligatoria (CERRAR o ELIMINAR)")
+        AccionModeracion accion,
+
+        List<Long> ids,
+
+        Long cursoId,
+
+        Long autorId,
+
+        LocalDate desde,
+
+        LocalDate hasta
+) {
+}
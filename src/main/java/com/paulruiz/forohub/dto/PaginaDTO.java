@@ -0,0 +1,39 @@
+package com.paulruiz.forohub.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/*
+ DTO para RETORNAR una página de resultados
+ Reemplaza la serialización de PageImpl (pageable, sort, first, last, empty...
+ repetidos en cada respuesta) por los cinco campos que usa el cliente
+
+ @param contenido Elementos de la página
+ @param pagina Número de página (desde 0)
+ @param tamano Elementos por página solicitados
+ @param totalElementos Total de elementos en todas las páginas
+ @param totalPaginas Total de páginas
+ */
+public record PaginaDTO<T>(
+        List<T> contenido,
+        int pagina,
+        int tamano,
+        long totalElementos,
+        int totalPaginas
+) {
+    /*
+     Constructor que convierte una página de Spring Data en DTO
+
+     @param page Página ya convertida a DTOs
+     */
+    public PaginaDTO(Page<T> page) {
+        this(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.paulruiz.forohub.dto;
+
+import com.paulruiz.forohub.model.AccionModeracion;
+import com.paulruiz.forohub.model.EstadoModeracion;
+
+import java.time.LocalDateTime;
+
+/*
+ DTO para RETORNAR el progreso de una moderación masiva
+ total es la cantidad estimada al iniciar (pueden crearse o borrarse tópicos mientras corre)
+ En EN_COLA, posicionEnCola (desde 1) y esperandoA (ID de la moderación en curso) dicen
+ qué tiene delante; en los demás estados son null
+ */
+public record ProgresoModeracionDTO(
+        String id,
+        AccionModeracion accion,
+        EstadoModeracion estado,
+        long total,
+        long procesados,
+        int lotes,
+        LocalDateTime inicio,
+        LocalDateTime fin,
+        String error,
+        Integer posicionEnCola,
+        String esperandoA
+) {
+}
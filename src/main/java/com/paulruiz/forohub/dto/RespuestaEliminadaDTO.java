@@ -0,0 +1,10 @@
+package com.paulruiz.forohub.dto;
+
+/*
+ DTO para notificar que se eliminó una respuesta (eventos en tiempo real)
+ */
+public record RespuestaEliminadaDTO(
+        Long id,
+        Long topicoId
+) {
+}
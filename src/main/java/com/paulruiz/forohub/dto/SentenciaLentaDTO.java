@@ -0,0 +1,14 @@
+package com.paulruiz.forohub.dto;
+
+/*
+ DTO para retornar una fila de la tabla de sentencias SQL más lentas
+ Los tiempos están en milisegundos
+ */
+public record SentenciaLentaDTO(
+        String sql,
+        long ejecuciones,
+        double tiempoTotalMs,
+        double tiempoPromedioMs,
+        long tiempoMaximoMs
+) {
+}
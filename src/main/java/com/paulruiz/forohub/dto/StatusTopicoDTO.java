@@ -0,0 +1,12 @@
+package com.paulruiz.forohub.dto;
+
+import com.paulruiz.forohub.model.StatusTopico;
+
+/*
+ DTO para notificar el cambio de status de un tópico (eventos en tiempo real)
+ */
+public record StatusTopicoDTO(
+        Long topicoId,
+        StatusTopico status
+) {
+}
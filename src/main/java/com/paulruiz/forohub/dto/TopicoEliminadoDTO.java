@@ -0,0 +1,10 @@
+package com.paulruiz.forohub.dto;
+
+/*
+ DTO para notificar que se eliminó un tópico (eventos en tiempo real)
+ */
+public record TopicoEliminadoDTO(
+        Long id,
+        Long cursoId
+) {
+}
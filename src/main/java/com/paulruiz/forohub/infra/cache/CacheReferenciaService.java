@@ -0,0 +1,76 @@
+package com.paulruiz.forohub.infra.cache;
+
+import com.paulruiz.forohub.dto.EstadisticasCacheDTO;
+import com.paulruiz.forohub.repository.CursoRepository;
+import com.paulruiz.forohub.repository.PerfilRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ Servicio de la caché de segundo nivel para datos de referencia (Curso y Perfil)
+ - Precarga las regiones al arrancar la aplicación
+ - Expone las estadísticas de aciertos/fallos por región
+ */
+
+@Service
+public class CacheReferenciaService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheReferenciaService.class);
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private PerfilRepository perfilRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // ============================================
+    // Precarga al arrancar
+    // ============================================
+
+    /*
+     Carga todos los cursos y perfiles para que queden en la caché
+     y calienta la consulta de perfil usada en el registro de usuarios
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargar() {
+        int cursos = cursoRepository.findAll().size();
+        int perfiles = perfilRepository.findAll().size();
+        perfilRepository.findByNombre("ROLE_USER");
+
+        log.info("Caché de referencia precargada: {} cursos, {} perfiles", cursos, perfiles);
+    }
+
+    // ============================================
+    // Estadísticas
+    // ============================================
+
+    // Retorna las estadísticas de cada región de la caché de segundo nivel
+
+    public List<EstadisticasCacheDTO> obtenerEstadisticas() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics estadisticas = statistics.getCacheRegionStatistics(region);
+                    return estadisticas == null ? null : new EstadisticasCacheDTO(region, estadisticas);
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Bulkhead de concurrencia: semáforo justo con espera acotada
+
+ - espera = 0: falla de inmediato si no hay permiso (fast-fail)
+ - espera > 0: cola corta, espera hasta ese tiempo por un permiso
+
+ Métricas (tag bulkhead = nombre):
+ - forohub.bulkhead.en.curso: permisos en uso
+ - forohub.bulkhead.limite: permisos totales
+ - forohub.bulkhead.rechazos: intentos sin permiso
+ */
+public class Bulkhead {
+
+    private final String nombre;
+    private final int limite;
+    private final long esperaNanos;
+    private final Semaphore permisos;
+    private final Counter rechazos;
+
+    public Bulkhead(String nombre, int limite, Duration espera, MeterRegistry meterRegistry) {
+        this.nombre = nombre;
+        this.limite = limite;
+        this.esperaNanos = espera.toNanos();
+        this.permisos = new Semaphore(limite, true);
+
+        Gauge.builder("forohub.bulkhead.en.curso", this, Bulkhead::enCurso)
+                .tag("bulkhead", nombre)
+                .register(meterRegistry);
+        Gauge.builder("forohub.bulkhead.limite", this, Bulkhead::getLimite)
+                .tag("bulkhead", nombre)
+                .register(meterRegistry);
+        this.rechazos = Counter.builder("forohub.bulkhead.rechazos")
+                .tag("bulkhead", nombre)
+                .register(meterRegistry);
+    }
+
+    /*
+     Intenta obtener un permiso (llamar a salir() en un finally si retorna true)
+
+     @return true si obtuvo permiso, false si fue rechazado
+     */
+    public boolean entrar() throws InterruptedException {
+        boolean obtenido = esperaNanos <= 0
+                ? permisos.tryAcquire()
+                : permisos.tryAcquire(esperaNanos, TimeUnit.NANOSECONDS);
+        if (!obtenido) {
+            rechazos.increment();
+        }
+        return obtenido;
+    }
+
+    public void salir() {
+        permisos.release();
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public double getLimite() {
+        return limite;
+    }
+
+    private double enCurso() {
+        return limite - permisos.availablePermits();
+    }
+}
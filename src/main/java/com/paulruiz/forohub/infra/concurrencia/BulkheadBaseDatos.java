@@ -0,0 +1,108 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import com.paulruiz.forohub.infra.datasource.ReplicasProperties;
+import com.paulruiz.forohub.infra.errores.ServicioSaturadoException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/*
+ Bulkhead de base de datos: limita las transacciones simultáneas al tamaño del pool
+
+ Con hilos virtuales Tomcat ya no limita la concurrencia (no hay un pool de 200 hilos),
+ así que miles de peticiones llegarían a esperar una conexión en Hikari hasta su
+ connectionTimeout (30 s). Este semáforo hace que el pool de conexiones sea el límite real:
+ - Se adquiere un permiso antes de la transacción más externa de un servicio
+   (las llamadas anidadas dentro de una transacción no vuelven a adquirir)
+ - Si no hay permiso en "espera", se responde 503 con Retry-After en vez de encolar
+ - Los permisos son maximumPoolSize - "reserva": las conexiones reservadas quedan para lo que
+   no pasa por los servicios (usuario del JWT en SecurityFilter, tareas programadas, outbox)
+ - Con réplicas configuradas las transacciones readOnly no toman permiso (usan otro pool)
+
+ Se ejecuta antes que el interceptor de @Transactional (HIGHEST_PRECEDENCE), así el permiso
+ cubre toda la vida de la conexión. Activo por defecto junto con spring.threads.virtual.enabled
+
+ Métricas: forohub.bulkhead.* con bulkhead = bd (ver Bulkhead)
+ */
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "forohub.bulkhead.bd.activo", havingValue = "true")
+public class BulkheadBaseDatos {
+
+    // Permisos simultáneos (0 = maximumPoolSize del pool primario menos la reserva)
+    @Value("${forohub.bulkhead.bd.permisos:0}")
+    private int permisosConfigurados;
+
+    // Conexiones del primario que quedan fuera del bulkhead
+    @Value("${forohub.bulkhead.bd.reserva:2}")
+    private int reserva;
+
+    // Tiempo máximo esperando un permiso antes de rechazar
+    @Value("${forohub.bulkhead.bd.espera:2s}")
+    private Duration espera;
+
+    @Autowired
+    private HikariDataSource primarioDataSource;
+
+    @Autowired
+    private ReplicasProperties replicasProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Bulkhead bulkhead;
+    private boolean hayReplicas;
+
+    @PostConstruct
+    public void inicializar() {
+        int permisos = permisosConfigurados > 0
+                ? permisosConfigurados
+                : Math.max(1, primarioDataSource.getMaximumPoolSize() - reserva);
+        bulkhead = new Bulkhead("bd", permisos, espera, meterRegistry);
+        hayReplicas = !replicasProperties.replicas().isEmpty();
+    }
+
+    @Around("within(com.paulruiz.forohub.service..*) " +
+            "&& @annotation(org.springframework.transaction.annotation.Transactional)")
+    public Object limitar(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Transacción anidada: la externa ya tiene el permiso
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        // Lectura en réplica: no ocupa el pool del primario
+        // (la anotación se lee del método: con HIGHEST_PRECEDENCE Spring no puede enlazarla como argumento)
+        if (hayReplicas && ((MethodSignature) joinPoint.getSignature()).getMethod()
+                .getAnnotation(Transactional.class).readOnly()) {
+            return joinPoint.proceed();
+        }
+
+        if (!bulkhead.entrar()) {
+            throw new ServicioSaturadoException(
+                    "Demasiadas operaciones simultáneas en la base de datos, intente más tarde",
+                    Duration.ofSeconds(1));
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.salir();
+        }
+    }
+}
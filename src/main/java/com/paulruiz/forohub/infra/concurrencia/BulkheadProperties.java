@@ -0,0 +1,35 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ Propiedades de los bulkheads por clase de endpoint (prefijo forohub.bulkhead)
+
+ - login: POST /login (BCrypt, limitado por CPU)
+ - lecturas: GET y HEAD
+ - escrituras: POST, PUT, PATCH y DELETE (excepto login y admin)
+ - admin: /admin/**, DELETE /usuarios/{id} y PUT /usuarios/{id}/desbloquear
+
+ Cada uno con concurrencia (peticiones simultáneas) y espera (0 = rechazo inmediato)
+
+ Escrituras ocupan el pool primario: su concurrencia no puede superar maximumPoolSize
+ menos reservaLecturas (0 = exactamente ese valor), así las lecturas siempre tienen conexiones
+ */
+@ConfigurationProperties(prefix = "forohub.bulkhead")
+public record BulkheadProperties(
+        @DefaultValue Limite login,
+        @DefaultValue Limite lecturas,
+        @DefaultValue Limite escrituras,
+        @DefaultValue Limite admin,
+        @DefaultValue("4") int reservaLecturas
+) {
+
+    public record Limite(
+            @DefaultValue("50") int concurrencia,
+            @DefaultValue("0s") Duration espera
+    ) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/*
+ Filtro de bulkheads por clase de endpoint (login, lecturas, escrituras, admin)
+
+ Cada clase tiene su propio límite de peticiones simultáneas, así las escrituras lentas
+ (bloqueos en respuestas o tópicos) no ocupan todas las conexiones que necesitan las lecturas.
+ Sin permiso dentro de la espera configurada se responde 503 con Retry-After.
+
+ El límite de escrituras sale del pool primario (maximumPoolSize - reservaLecturas) si se
+ configura en 0, y si se configura a mano no puede superarlo: el arranque falla en ese caso.
+
+ Se ejecuta justo antes de la cadena de Spring Security: una petición rechazada
+ no llega a verificar el JWT ni a buscar el usuario en la base de datos.
+ En peticiones asíncronas el permiso se libera al terminar el despacho inicial.
+ */
+
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class FiltroBulkheads extends OncePerRequestFilter {
+
+    private final Bulkhead login;
+    private final Bulkhead lecturas;
+    private final Bulkhead escrituras;
+    private final Bulkhead admin;
+
+    public FiltroBulkheads(BulkheadProperties properties, HikariDataSource primarioDataSource,
+                           MeterRegistry meterRegistry) {
+        this.login = crear("login", properties.login(), meterRegistry);
+        this.lecturas = crear("lecturas", properties.lecturas(), meterRegistry);
+        this.escrituras = new Bulkhead("escrituras",
+                concurrenciaEscrituras(properties, primarioDataSource.getMaximumPoolSize()),
+                properties.escrituras().espera(), meterRegistry);
+        this.admin = crear("admin", properties.admin(), meterRegistry);
+    }
+
+    /*
+     Concurrencia de escrituras acotada por el pool primario
+
+     @throws IllegalStateException si el pool no deja conexiones para lecturas o el límite lo supera
+     */
+    static int concurrenciaEscrituras(BulkheadProperties properties, int tamanoPool) {
+        int maximo = tamanoPool - properties.reservaLecturas();
+        if (maximo < 1) {
+            throw new IllegalStateException("El pool primario (" + tamanoPool
+                    + ") debe ser mayor que forohub.bulkhead.reserva-lecturas (" + properties.reservaLecturas() + ")");
+        }
+
+        int configurada = properties.escrituras().concurrencia();
+        if (configurada == 0) {
+            return maximo;
+        }
+        if (configurada > maximo) {
+            throw new IllegalStateException("forohub.bulkhead.escrituras.concurrencia (" + configurada
+                    + ") supera el pool primario (" + tamanoPool + ") menos forohub.bulkhead.reserva-lecturas ("
+                    + properties.reservaLecturas() + "): use como máximo " + maximo + " o 0 para calcularlo");
+        }
+        return configurada;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        Bulkhead bulkhead = clasificar(request);
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean obtenido;
+        try {
+            obtenido = bulkhead.entrar();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            obtenido = false;
+        }
+
+        if (!obtenido) {
+            rechazar(response, bulkhead);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.salir();
+        }
+    }
+
+    // ============================================
+    // Clasificación de la petición
+    // ============================================
+
+    /*
+     Retorna el bulkhead de la petición o null si no se limita
+     (documentación de la API y páginas de error)
+     */
+    private Bulkhead clasificar(HttpServletRequest request) {
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        String metodo = request.getMethod();
+
+        if (ruta.startsWith("/swagger-ui") || ruta.startsWith("/v3/api-docs") || ruta.startsWith("/error")) {
+            return null;
+        }
+        if (ruta.startsWith("/admin/") || esAdminDeUsuarios(metodo, ruta)) {
+            return admin;
+        }
+        if (HttpMethod.POST.matches(metodo) && ruta.equals("/login")) {
+            return login;
+        }
+        if (HttpMethod.GET.matches(metodo) || HttpMethod.HEAD.matches(metodo)) {
+            return lecturas;
+        }
+        return escrituras;
+    }
+
+    // DELETE /usuarios/{id} y PUT /usuarios/{id}/desbloquear (ver SecurityConfigurations)
+
+    private boolean esAdminDeUsuarios(String metodo, String ruta) {
+        if (!ruta.startsWith("/usuarios/")) {
+            return false;
+        }
+        return HttpMethod.DELETE.matches(metodo)
+                || (HttpMethod.PUT.matches(metodo) && ruta.endsWith("/desbloquear"));
+    }
+
+    // ============================================
+    // Rechazo
+    // ============================================
+
+    private void rechazar(HttpServletResponse response, Bulkhead bulkhead) throws IOException {
+        RespuestaSaturado.escribir(response,
+                "Demasiadas peticiones de tipo " + bulkhead.getNombre() + ", intente más tarde");
+    }
+
+    private static Bulkhead crear(String nombre, BulkheadProperties.Limite limite, MeterRegistry meterRegistry) {
+        return new Bulkhead(nombre, limite.concurrencia(), limite.espera(), meterRegistry);
+    }
+}
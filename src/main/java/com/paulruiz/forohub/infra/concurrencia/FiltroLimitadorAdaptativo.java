@@ -0,0 +1,144 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ Limitador de concurrencia adaptativo delante de los controladores
+
+ El límite global de peticiones simultáneas lo ajusta LimiteGradiente según la latencia
+ observada. Lo que excede el límite se descarta con 503 y Retry-After.
+
+ Prioridades (fracción del límite que puede ocupar cada tipo de petición):
+ - Lecturas autenticadas: límite completo
+ - Escrituras autenticadas: forohub.limitador.fraccion-escrituras
+ - Anónimas (/login, POST /usuarios): forohub.limitador.fraccion-anonimas
+ Así, en un pico de logins o registros siempre queda capacidad para leer el foro.
+
+ Se ejecuta después de la cadena de Spring Security para conocer la autenticación.
+ Las peticiones asíncronas liberan su lugar al terminar el despacho y no aportan latencia.
+
+ Métricas: forohub.limitador.limite, forohub.limitador.en.curso
+ y forohub.limitador.rechazos (tag prioridad)
+ */
+
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@ConditionalOnProperty(name = "forohub.limitador.activo", havingValue = "true")
+@EnableConfigurationProperties(LimitadorProperties.class)
+public class FiltroLimitadorAdaptativo extends OncePerRequestFilter {
+
+    enum Prioridad {
+        LECTURA_AUTENTICADA, ESCRITURA_AUTENTICADA, ANONIMA
+    }
+
+    private final LimiteGradiente limite;
+    private final Map<Prioridad, Double> fracciones = new EnumMap<>(Prioridad.class);
+    private final Map<Prioridad, Counter> rechazos = new EnumMap<>(Prioridad.class);
+    private final AtomicInteger enCurso = new AtomicInteger();
+
+    public FiltroLimitadorAdaptativo(LimitadorProperties properties, MeterRegistry meterRegistry) {
+        this.limite = new LimiteGradiente(
+                properties.limiteInicial(),
+                properties.limiteMinimo(),
+                properties.limiteMaximo(),
+                properties.tolerancia(),
+                properties.suavizado(),
+                properties.ventana()
+        );
+
+        fracciones.put(Prioridad.LECTURA_AUTENTICADA, 1.0);
+        fracciones.put(Prioridad.ESCRITURA_AUTENTICADA, properties.fraccionEscrituras());
+        fracciones.put(Prioridad.ANONIMA, properties.fraccionAnonimas());
+
+        Gauge.builder("forohub.limitador.limite", limite, LimiteGradiente::getLimite)
+                .register(meterRegistry);
+        Gauge.builder("forohub.limitador.en.curso", enCurso, AtomicInteger::get)
+                .register(meterRegistry);
+        for (Prioridad prioridad : Prioridad.values()) {
+            rechazos.put(prioridad, Counter.builder("forohub.limitador.rechazos")
+                    .tag("prioridad", prioridad.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        if (excluida(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Prioridad prioridad = clasificar(request);
+        int actuales = enCurso.incrementAndGet();
+
+        if (actuales > limite.getLimite() * fracciones.get(prioridad)) {
+            enCurso.decrementAndGet();
+            rechazos.get(prioridad).increment();
+            RespuestaSaturado.escribir(response, "Servidor saturado, intente más tarde");
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            enCurso.decrementAndGet();
+            if (!request.isAsyncStarted()) {
+                long ahora = System.nanoTime();
+                limite.registrar(ahora, ahora - inicio, actuales);
+            }
+        }
+    }
+
+    // ============================================
+    // Clasificación
+    // ============================================
+
+    private Prioridad clasificar(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean autenticada = authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+
+        if (!autenticada) {
+            return Prioridad.ANONIMA;
+        }
+        String metodo = request.getMethod();
+        return HttpMethod.GET.matches(metodo) || HttpMethod.HEAD.matches(metodo)
+                ? Prioridad.LECTURA_AUTENTICADA
+                : Prioridad.ESCRITURA_AUTENTICADA;
+    }
+
+    // Documentación de la API y páginas de error no se limitan
+
+    private boolean excluida(HttpServletRequest request) {
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        return ruta.startsWith("/swagger-ui") || ruta.startsWith("/v3/api-docs") || ruta.startsWith("/error");
+    }
+}
@@ -0,0 +1,30 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ Propiedades del limitador de concurrencia adaptativo (prefijo forohub.limitador)
+
+ - limiteInicial, limiteMinimo, limiteMaximo: rango del límite de peticiones simultáneas
+ - tolerancia: cuánto puede subir la latencia (factor) antes de reducir el límite
+ - suavizado: fracción del cambio calculado que se aplica en cada ventana
+ - ventana: tiempo mínimo entre recálculos del límite
+ - fraccionEscrituras: parte del límite usable por escrituras autenticadas
+ - fraccionAnonimas: parte del límite usable sin autenticación (/login, registro)
+   Las lecturas autenticadas pueden usar el límite completo
+ */
+@ConfigurationProperties(prefix = "forohub.limitador")
+public record LimitadorProperties(
+        @DefaultValue("100") int limiteInicial,
+        @DefaultValue("10") int limiteMinimo,
+        @DefaultValue("1000") int limiteMaximo,
+        @DefaultValue("1.5") double tolerancia,
+        @DefaultValue("0.2") double suavizado,
+        @DefaultValue("500ms") Duration ventana,
+        @DefaultValue("0.8") double fraccionEscrituras,
+        @DefaultValue("0.5") double fraccionAnonimas
+) {
+}
@@ -0,0 +1,110 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ Límite de concurrencia adaptativo por gradiente de latencia (estilo Gradient2)
+
+ Compara la latencia reciente (promedio de una ventana) con la latencia de referencia
+ (promedio móvil de largo plazo):
+ - Latencia estable → gradiente 1: el límite crece en sqrt(límite) (margen de cola)
+ - Latencia en aumento → gradiente < 1: el límite baja, como mucho a la mitad por ventana
+ - "tolerancia" permite que la latencia suba hasta ese factor antes de reducir
+
+ Si la aplicación usa menos de la mitad del límite no hay información para crecer.
+ Las muestras se agregan con tryLock: si otro hilo está actualizando, la muestra se descarta.
+ */
+public class LimiteGradiente {
+
+    // Peso de cada ventana en la latencia de referencia (~20 ventanas)
+    private static final double PESO_REFERENCIA = 0.05;
+    private static final int MIN_MUESTRAS_POR_VENTANA = 10;
+
+    private final int minimo;
+    private final int maximo;
+    private final double tolerancia;
+    private final double suavizado;
+    private final long ventanaNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limite;
+    private double limiteEstimado;
+    private double rttReferencia;
+
+    // Ventana actual
+    private long inicioVentana;
+    private long sumaRtt;
+    private int muestras;
+    private int maxEnCurso;
+
+    public LimiteGradiente(int inicial, int minimo, int maximo,
+                           double tolerancia, double suavizado, Duration ventana) {
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.tolerancia = tolerancia;
+        this.suavizado = suavizado;
+        this.ventanaNanos = ventana.toNanos();
+        this.limiteEstimado = inicial;
+        this.limite = inicial;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    /*
+     Registra la latencia de una petición terminada
+
+     @param ahora Instante actual (System.nanoTime)
+     @param rtt Latencia de la petición en nanosegundos
+     @param enCurso Peticiones en curso cuando empezó
+     */
+    public void registrar(long ahora, long rtt, int enCurso) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (muestras == 0) {
+                inicioVentana = ahora;
+            }
+            sumaRtt += rtt;
+            muestras++;
+            maxEnCurso = Math.max(maxEnCurso, enCurso);
+
+            if (ahora - inicioVentana >= ventanaNanos && muestras >= MIN_MUESTRAS_POR_VENTANA) {
+                actualizar((double) sumaRtt / muestras, maxEnCurso);
+                sumaRtt = 0;
+                muestras = 0;
+                maxEnCurso = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void actualizar(double rttVentana, int enCurso) {
+        if (rttReferencia == 0) {
+            rttReferencia = rttVentana;
+        } else {
+            rttReferencia = rttReferencia * (1 - PESO_REFERENCIA) + rttVentana * PESO_REFERENCIA;
+        }
+
+        // Tras un pico la referencia queda alta: se acerca más rápido a la latencia actual
+        if (rttReferencia / rttVentana > 2) {
+            rttReferencia *= 0.95;
+        }
+
+        if (enCurso < limiteEstimado / 2) {
+            return;
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, tolerancia * rttReferencia / rttVentana));
+        double nuevo = limiteEstimado * gradiente + Math.sqrt(limiteEstimado);
+        nuevo = limiteEstimado * (1 - suavizado) + nuevo * suavizado;
+
+        limiteEstimado = Math.max(minimo, Math.min(maximo, nuevo));
+        limite = (int) limiteEstimado;
+    }
+}
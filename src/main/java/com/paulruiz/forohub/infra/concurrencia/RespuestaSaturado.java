@@ -0,0 +1,28 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+
+/*
+ Respuesta 503 de los filtros de concurrencia
+ Mismo formato de error que TratadorDeErrores (los filtros corren fuera de los controladores)
+ */
+final class RespuestaSaturado {
+
+    static final int REINTENTAR_SEGUNDOS = 1;
+
+    private RespuestaSaturado() {
+    }
+
+    static void escribir(HttpServletResponse response, String mensaje) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(REINTENTAR_SEGUNDOS));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"campo\":null,\"error\":\"" + mensaje + "\"}");
+    }
+}
@@ -0,0 +1,114 @@
+package com.paulruiz.forohub.infra.datasource;
+
+import com.paulruiz.forohub.infra.sql.RegistroSentencias;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ Configuración de DataSources
+ - Primario: spring.datasource.* (escrituras y lecturas fuera de readOnly)
+ - Réplicas: forohub.datasource.replicas[n].* (transacciones readOnly)
+ - Reserva: pool pequeño contra el primario para conexiones anidadas (generador de IDs)
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicasProperties.class)
+public class DataSourceConfigurations {
+
+    // ============================================
+    // DataSource primario
+    // ============================================
+
+    // Pool del primario, acepta la configuración spring.datasource.hikari.*
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    // ============================================
+    // DataSource de la aplicación (enrutado)
+    // ============================================
+
+    /*
+     Enrutador primario/réplicas (cierra los pools de reserva y réplicas al apagar)
+     Los pools de reserva y réplicas no son beans: se registran a mano en Micrometer
+     (el primario lo instrumenta Spring Boot como hikaricp.connections{pool=primario})
+     */
+
+    @Bean
+    public RoutingDataSource routingDataSource(HikariDataSource primarioDataSource,
+                                               DataSourceProperties properties,
+                                               ReplicasProperties replicasProperties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+
+        for (int i = 0; i < replicasProperties.replicas().size(); i++) {
+            ReplicasProperties.Replica replica = replicasProperties.replicas().get(i);
+
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username());
+            dataSource.setPassword(replica.password());
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setReadOnly(true);
+            // No fallar al arrancar si la réplica está caída (se usa el primario)
+            dataSource.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+            replicas.add(dataSource);
+        }
+
+        HikariDataSource reserva = null;
+        if (replicasProperties.reservaGenerador() > 0) {
+            reserva = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            reserva.setPoolName("primario-reserva");
+            reserva.setMaximumPoolSize(replicasProperties.reservaGenerador());
+            reserva.setMinimumIdle(0);
+            meterRegistry.ifAvailable(reserva::setMetricRegistry);
+        }
+
+        return new RoutingDataSource(
+                primarioDataSource,
+                reserva,
+                replicas,
+                replicasProperties.ventanaLecturaPropia(),
+                replicasProperties.reintentoReplica()
+        );
+    }
+
+    /*
+     DataSource usado por JPA y Flyway
+     El proxy lazy retrasa la obtención de la conexión hasta la primera sentencia,
+     cuando Spring ya marcó la transacción como readOnly
+     El proxy de datasource-proxy mide cada sentencia (RegistroSentencias)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSource routingDataSource, RegistroSentencias registroSentencias) {
+        DataSource medido = ProxyDataSourceBuilder.create(routingDataSource)
+                .name("forohub")
+                .listener(registroSentencias)
+                .build();
+        return new LazyConnectionDataSourceProxy(medido);
+    }
+}
@@ -0,0 +1,28 @@
+package com.paulruiz.forohub.infra.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ Propiedades de las réplicas de lectura (prefijo forohub.datasource)
+
+ - replicas: lista de réplicas (url, username, password). Si está vacía, todo va al primario
+ - ventanaLecturaPropia: tiempo que un usuario lee del primario después de escribir
+ - reintentoReplica: tiempo que una réplica caída queda fuera de rotación
+ - reservaGenerador: conexiones del pool de reserva para conexiones anidadas del primario
+   (asignación de bloques de IDs por tabla). 0 = sin reserva
+ */
+@ConfigurationProperties(prefix = "forohub.datasource")
+public record ReplicasProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration ventanaLecturaPropia,
+        @DefaultValue("30s") Duration reintentoReplica,
+        @DefaultValue("2") int reservaGenerador
+) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
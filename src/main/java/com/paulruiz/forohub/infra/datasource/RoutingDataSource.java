@@ -0,0 +1,255 @@
+package com.paulruiz.forohub.infra.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ DataSource que enruta conexiones entre el primario y las réplicas de lectura
+
+ - Transacciones @Transactional(readOnly = true) → réplica (round robin)
+ - Cualquier otra operación → primario
+ - Lectura propia: tras un commit de escritura, el usuario lee del primario
+   durante "ventanaLecturaPropia" para no ver datos atrasados de la réplica
+ - Si una réplica falla al dar conexión, queda fuera de rotación durante
+   "reintentoReplica" y la lectura pasa a la siguiente réplica o al primario
+ - Conexión anidada: si el hilo ya tiene una conexión del primario y pide otra
+   (el generador de IDs por tabla asigna bloques en una conexión aparte), se
+   toma del pool de reserva. Así el pool del primario lleno nunca deja a una
+   transacción esperando por su propia segunda conexión
+
+ IMPORTANTE: debe envolverse en un LazyConnectionDataSourceProxy para que la
+ conexión se pida después de que Spring marque la transacción como readOnly
+ */
+public class RoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RoutingDataSource.class);
+
+    // Límite de usuarios recordados antes de purgar entradas vencidas
+    private static final int MAX_ESCRITURAS_RECORDADAS = 10_000;
+
+    private final DataSource primario;
+    private final DataSource reserva;
+    private final List<DataSource> replicas;
+    private final long ventanaLecturaPropiaNanos;
+    private final long reintentoReplicaNanos;
+
+    private final AtomicInteger siguienteReplica = new AtomicInteger();
+
+    // Instante (System.nanoTime) hasta el que cada réplica queda fuera de rotación
+    private final AtomicLongArray replicaCaidaHasta;
+
+    // Instante de la última escritura confirmada por usuario (email)
+    private final Map<String, Long> ultimaEscritura = new ConcurrentHashMap<>();
+
+    // Conexiones del primario abiertas por cada hilo (el proxy de la conexión descuenta al cerrar)
+    private final ThreadLocal<AtomicInteger> abiertasPorHilo = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public RoutingDataSource(DataSource primario, List<DataSource> replicas,
+                             Duration ventanaLecturaPropia, Duration reintentoReplica) {
+        this(primario, null, replicas, ventanaLecturaPropia, reintentoReplica);
+    }
+
+    /*
+     @param reserva Pool para conexiones anidadas del primario (null = sin reserva)
+     */
+    public RoutingDataSource(DataSource primario, DataSource reserva, List<DataSource> replicas,
+                             Duration ventanaLecturaPropia, Duration reintentoReplica) {
+        this.primario = primario;
+        this.reserva = reserva;
+        this.replicas = List.copyOf(replicas);
+        this.ventanaLecturaPropiaNanos = ventanaLecturaPropia.toNanos();
+        this.reintentoReplicaNanos = reintentoReplica.toNanos();
+        this.replicaCaidaHasta = new AtomicLongArray(this.replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (debeLeerDeReplica()) {
+            Connection conexion = conexionDeReplica(null, null);
+            if (conexion != null) {
+                return conexion;
+            }
+        } else {
+            registrarEscritura();
+        }
+        return conexionDelPrimario(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (debeLeerDeReplica()) {
+            Connection conexion = conexionDeReplica(username, password);
+            if (conexion != null) {
+                return conexion;
+            }
+        } else {
+            registrarEscritura();
+        }
+        return conexionDelPrimario(username, password);
+    }
+
+    // ============================================
+    // Decisión de enrutamiento
+    // ============================================
+
+    private boolean debeLeerDeReplica() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+
+        // Lectura propia: si el usuario escribió hace poco, leer del primario
+        String usuario = usuarioActual();
+        if (usuario != null) {
+            Long instante = ultimaEscritura.get(usuario);
+            if (instante != null) {
+                if (System.nanoTime() - instante < ventanaLecturaPropiaNanos) {
+                    return false;
+                }
+                ultimaEscritura.remove(usuario, instante);
+            }
+        }
+        return true;
+    }
+
+    /*
+     Intenta obtener conexión de alguna réplica disponible
+     Retorna null si todas están caídas (el llamador usa el primario)
+     */
+    private Connection conexionDeReplica(String username, String password) {
+        int total = replicas.size();
+        int inicio = Math.floorMod(siguienteReplica.getAndIncrement(), total);
+
+        for (int i = 0; i < total; i++) {
+            int indice = (inicio + i) % total;
+            long ahora = System.nanoTime();
+            if (ahora - replicaCaidaHasta.get(indice) < 0) {
+                continue;
+            }
+            try {
+                DataSource replica = replicas.get(indice);
+                return username == null
+                        ? replica.getConnection()
+                        : replica.getConnection(username, password);
+            } catch (SQLException e) {
+                replicaCaidaHasta.set(indice, ahora + reintentoReplicaNanos);
+                log.warn("Réplica {} no disponible, se usará otra fuente durante {} ms: {}",
+                        indice, reintentoReplicaNanos / 1_000_000, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /*
+     Conexión del primario, o del pool de reserva si el hilo ya tiene una abierta
+     Las del primario se cuentan por hilo hasta que se cierran
+     */
+    private Connection conexionDelPrimario(String username, String password) throws SQLException {
+        if (reserva == null) {
+            return username == null ? primario.getConnection() : primario.getConnection(username, password);
+        }
+
+        AtomicInteger abiertas = abiertasPorHilo.get();
+        if (abiertas.get() > 0) {
+            return username == null ? reserva.getConnection() : reserva.getConnection(username, password);
+        }
+
+        Connection conexion = username == null ? primario.getConnection() : primario.getConnection(username, password);
+        abiertas.incrementAndGet();
+        return contarCierre(conexion, abiertas);
+    }
+
+    // Proxy que descuenta la conexión del hilo que la abrió al cerrarla (una sola vez)
+
+    private static Connection contarCierre(Connection conexion, AtomicInteger abiertas) {
+        AtomicBoolean cerrada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> switch (metodo.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        if (metodo.getName().equals("close") && cerrada.compareAndSet(false, true)) {
+                            abiertas.decrementAndGet();
+                        }
+                        try {
+                            yield metodo.invoke(conexion, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+
+    /*
+     Si hay una transacción de escritura activa, al confirmar se recuerda
+     el instante para que las lecturas siguientes del usuario vayan al primario
+     */
+    private void registrarEscritura() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+
+        String usuario = usuarioActual();
+        if (usuario == null) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (ultimaEscritura.size() >= MAX_ESCRITURAS_RECORDADAS) {
+                    purgarEscriturasVencidas();
+                }
+                ultimaEscritura.put(usuario, System.nanoTime());
+            }
+        });
+    }
+
+    private void purgarEscriturasVencidas() {
+        long ahora = System.nanoTime();
+        ultimaEscritura.values().removeIf(instante -> ahora - instante >= ventanaLecturaPropiaNanos);
+    }
+
+    // Cierra los pools de reserva y de las réplicas (el primario es un bean propio)
+
+    @Override
+    public void close() throws Exception {
+        if (reserva instanceof AutoCloseable cerrable) {
+            cerrable.close();
+        }
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable cerrable) {
+                cerrable.close();
+            }
+        }
+    }
+
+    private String usuarioActual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,11 @@
+package com.paulruiz.forohub.infra.errores;
+
+
+// Excepción lanzada cuando no se puede iniciar o detener una grabación JFR
+
+public class GrabacionJfrException extends RuntimeException {
+
+    public GrabacionJfrException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -0,0 +1,11 @@
+package com.paulruiz.forohub.infra.errores;
+
+
+// Excepción lanzada cuando no se encuentra una moderación masiva (o ya salió del historial)
+
+public class ModeracionNotFoundException extends RuntimeException {
+
+    public ModeracionNotFoundException(String id) {
+        super("Moderación con ID " + id + " no encontrada");
+    }
+}
@@ -0,0 +1,19 @@
+package com.paulruiz.forohub.infra.errores;
+
+
+// Excepción lanzada cuando un parámetro de la petición tiene un valor no permitido
+
+public class ParametroInvalidoException extends RuntimeException {
+
+    // Nombre del parámetro (se devuelve como "campo" en el error 400)
+    private final String parametro;
+
+    public ParametroInvalidoException(String parametro, String mensaje) {
+        super(mensaje);
+        this.parametro = parametro;
+    }
+
+    public String getParametro() {
+        return parametro;
+    }
+}
@@ -0,0 +1,11 @@
+package com.paulruiz.forohub.infra.errores;
+
+
+// Excepción lanzada al intentar modificar una respuesta que pasó al archivo con su tópico (solo lectura)
+
+public class RespuestaArchivadaException extends RuntimeException {
+
+    public RespuestaArchivadaException(Long id) {
+        super("La respuesta con ID " + id + " está archivada y no se puede modificar");
+    }
+}
@@ -0,0 +1,21 @@
+package com.paulruiz.forohub.infra.errores;
+
+import java.time.Duration;
+
+
+// Excepción lanzada cuando la aplicación rechaza una petición por exceso de carga (503)
+
+public class ServicioSaturadoException extends RuntimeException {
+
+    // Tiempo sugerido al cliente antes de reintentar (cabecera Retry-After)
+    private final Duration reintentarEn;
+
+    public ServicioSaturadoException(String mensaje, Duration reintentarEn) {
+        super(mensaje);
+        this.reintentarEn = reintentarEn;
+    }
+
+    public Duration getReintentarEn() {
+        return reintentarEn;
+    }
+}
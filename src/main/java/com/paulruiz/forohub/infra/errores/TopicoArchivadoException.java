@@ -0,0 +1,11 @@
+package com.paulruiz.forohub.infra.errores;
+
+
+// Excepción lanzada al intentar modificar un tópico que ya pasó al archivo (solo lectura)
+
+public class TopicoArchivadoException extends RuntimeException {
+
+    public TopicoArchivadoException(Long id) {
+        super("El tópico con ID " + id + " está archivado y no se puede modificar");
+    }
+}
@@ -0,0 +1,11 @@
+package com.paulruiz.forohub.infra.errores;
+
+
+// Excepción lanzada al responder o marcar una solución en un tópico CERRADO
+
+public class TopicoCerradoException extends RuntimeException {
+
+    public TopicoCerradoException(Long id) {
+        super("El tópico con ID " + id + " está cerrado y no admite respuestas ni soluciones");
+    }
+}
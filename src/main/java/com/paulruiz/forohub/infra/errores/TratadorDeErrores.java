@@ -1,5 +1,6 @@
 package com.paulruiz.forohub.infra.errores;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -66,6 +67,15 @@ public class TratadorDeErrores {
                 .body(new DatosErrorValidacion(e.getMessage()));
     }
 
+    // Maneja errores cuando no se encuentra una moderación masiva
+
+    @ExceptionHandler(ModeracionNotFoundException.class)
+    public ResponseEntity<DatosErrorValidacion> tratarErrorModeracionNoEncontrada(
+            ModeracionNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new DatosErrorValidacion(e.getMessage()));
+    }
+
 
     // Maneja errores genéricos de entidad no encontrada
     // (fallback para compatibilidad con código legacy)
@@ -140,6 +150,15 @@ public class TratadorDeErrores {
                 .body(new DatosErrorValidacion("solucion", e.getMessage()));
     }
 
+    // Maneja parámetros de consulta con valores no permitidos (fields, vista, ids...)
+
+    @ExceptionHandler(ParametroInvalidoException.class)
+    public ResponseEntity<DatosErrorValidacion> tratarErrorParametroInvalido(
+            ParametroInvalidoException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new DatosErrorValidacion(e.getParametro(), e.getMessage()));
+    }
+
     // ============================================
     // Errores 401 - Unauthorized
     // ============================================
@@ -192,4 +211,56 @@ public class TratadorDeErrores {
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(new DatosErrorValidacion("permiso", e.getMessage()));
     }
+
+    // ============================================
+    // Errores 409 - Conflict
+    // ============================================
+
+    // Maneja respuestas y soluciones en tópicos cerrados
+
+    @ExceptionHandler(TopicoCerradoException.class)
+    public ResponseEntity<DatosErrorValidacion> tratarErrorTopicoCerrado(
+            TopicoCerradoException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new DatosErrorValidacion(e.getMessage()));
+    }
+
+    // Maneja modificaciones de tópicos y respuestas archivados (solo lectura)
+
+    @ExceptionHandler(TopicoArchivadoException.class)
+    public ResponseEntity<DatosErrorValidacion> tratarErrorTopicoArchivado(
+            TopicoArchivadoException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new DatosErrorValidacion(e.getMessage()));
+    }
+
+    @ExceptionHandler(RespuestaArchivadaException.class)
+    public ResponseEntity<DatosErrorValidacion> tratarErrorRespuestaArchivada(
+            RespuestaArchivadaException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new DatosErrorValidacion(e.getMessage()));
+    }
+
+    // Maneja errores al iniciar o detener grabaciones JFR (ya hay una en curso o no hay ninguna)
+
+    @ExceptionHandler(GrabacionJfrException.class)
+    public ResponseEntity<DatosErrorValidacion> tratarErrorGrabacionJfr(
+            GrabacionJfrException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new DatosErrorValidacion("jfr", e.getMessage()));
+    }
+
+    // ============================================
+    // Errores 503 - Service Unavailable
+    // ============================================
+
+    // Maneja rechazos por exceso de carga (bulkheads), indicando cuándo reintentar
+
+    @ExceptionHandler(ServicioSaturadoException.class)
+    public ResponseEntity<DatosErrorValidacion> tratarErrorServicioSaturado(
+            ServicioSaturadoException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getReintentarEn().toSeconds()))
+                .body(new DatosErrorValidacion(e.getMessage()));
+    }
 }
\ No newline at end of file
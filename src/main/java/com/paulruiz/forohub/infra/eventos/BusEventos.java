@@ -0,0 +1,150 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Bus de eventos de dominio en proceso
+
+ servicio --(después del commit)--> anillo acotado --> despachador --> ejecutor de cada oyente
+
+ - publicar() solo hace offer() en el anillo: nunca bloquea ni suma latencia a la escritura
+ - Un hilo despachador reparte cada evento a los ejecutores de los oyentes interesados
+ - Cada oyente tiene su ejecutor con cola acotada: uno lento solo llena su propia cola
+ - Si el anillo o la cola de un oyente están llenos el evento se descarta para ese destino
+
+ Métricas (tag oyente, "bus" para el anillo): forohub.eventos.pendientes,
+ forohub.eventos.descartados y forohub.eventos.errores
+ */
+
+@Service
+@EnableConfigurationProperties(EventosProperties.class)
+public class BusEventos {
+
+    private static final Logger log = LoggerFactory.getLogger(BusEventos.class);
+
+    private static final String ANILLO = "bus";
+
+    @Autowired
+    private EventosProperties properties;
+
+    @Autowired
+    private List<OyenteDominio> oyentes;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private BlockingQueue<EventoDominio> anillo;
+    private final List<Suscripcion> suscripciones = new ArrayList<>();
+    private Thread despachador;
+
+    private record Suscripcion(OyenteDominio oyente, ThreadPoolExecutor ejecutor) {
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        anillo = new ArrayBlockingQueue<>(properties.capacidad());
+        Gauge.builder("forohub.eventos.pendientes", anillo, BlockingQueue::size)
+                .tag("oyente", ANILLO)
+                .register(meterRegistry);
+
+        for (OyenteDominio oyente : oyentes) {
+            EventosProperties.Ejecutor config = properties.ejecutor(oyente.nombre());
+            ThreadPoolExecutor ejecutor = new ThreadPoolExecutor(
+                    config.hilos(), config.hilos(), 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(config.cola()),
+                    Thread.ofVirtual().name("evento-" + oyente.nombre() + "-", 0).factory(),
+                    new ThreadPoolExecutor.AbortPolicy());
+            Gauge.builder("forohub.eventos.pendientes", ejecutor, e -> e.getQueue().size())
+                    .tag("oyente", oyente.nombre())
+                    .register(meterRegistry);
+            suscripciones.add(new Suscripcion(oyente, ejecutor));
+        }
+
+        despachador = Thread.ofPlatform().name("forohub-bus-eventos").daemon().start(this::despachar);
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        despachador.interrupt();
+        despachador.join(TimeUnit.SECONDS.toMillis(5));
+        for (Suscripcion suscripcion : suscripciones) {
+            suscripcion.ejecutor().shutdown();
+        }
+        for (Suscripcion suscripcion : suscripciones) {
+            suscripcion.ejecutor().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // ============================================
+    // Publicación
+    // ============================================
+
+    /*
+     Publica un evento; dentro de una transacción se encola recién después del commit
+
+     @param evento Evento de dominio
+     */
+    public void publicar(EventoDominio evento) {
+        DespuesDelCommit.ejecutar(() -> {
+            if (!anillo.offer(evento)) {
+                descartar(ANILLO, evento);
+            }
+        });
+    }
+
+    // ============================================
+    // Despacho
+    // ============================================
+
+    private void despachar() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                EventoDominio evento = anillo.take();
+                for (Suscripcion suscripcion : suscripciones) {
+                    if (suscripcion.oyente().tipos().contains(evento.getClass())) {
+                        entregar(suscripcion, evento);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void entregar(Suscripcion suscripcion, EventoDominio evento) {
+        OyenteDominio oyente = suscripcion.oyente();
+        try {
+            suscripcion.ejecutor().execute(() -> {
+                try {
+                    oyente.recibir(evento);
+                } catch (Exception e) {
+                    log.warn("El oyente {} falló con {}: {}", oyente.nombre(), evento, e.getMessage());
+                    meterRegistry.counter("forohub.eventos.errores", "oyente", oyente.nombre()).increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            descartar(oyente.nombre(), evento);
+        }
+    }
+
+    private void descartar(String destino, EventoDominio evento) {
+        log.debug("Evento descartado en {} (cola llena): {}", destino, evento);
+        meterRegistry.counter("forohub.eventos.descartados", "oyente", destino).increment();
+    }
+}
@@ -0,0 +1,28 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ Ejecuta una acción después del commit de la transacción actual
+ Sin transacción activa se ejecuta en el momento; si hay rollback no se ejecuta
+ Usado por el bus de eventos de dominio (SSE y el hub WebSocket son oyentes del bus)
+ */
+public final class DespuesDelCommit {
+
+    private DespuesDelCommit() {
+    }
+
+    public static void ejecutar(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.paulruiz.forohub.infra.eventos;
+
+/*
+ Evento de dominio publicado por los servicios después del commit (BusEventos)
+ Lleva IDs y, si los oyentes en tiempo real (SSE, WebSocket) lo difunden, el DTO que
+ el servicio ya armó: los oyentes corren fuera de la transacción y no vuelven a consultar
+ */
+public sealed interface EventoDominio
+        permits TopicoCreado, TopicoEliminado, RespuestaCreada, RespuestaActualizada, RespuestaEliminada,
+        SolucionMarcada, StatusCambiado, UsuarioBloqueado {
+}
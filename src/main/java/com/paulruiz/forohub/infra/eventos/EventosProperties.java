@@ -0,0 +1,35 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/*
+ Propiedades del bus de eventos de dominio (prefijo forohub.eventos)
+
+ - capacidad: eventos en el anillo entre los servicios y el despachador
+ - por-defecto: ejecutor de los oyentes sin configuración propia
+ - oyentes.{nombre}: ejecutor de un oyente (hilos y cola de eventos pendientes)
+ */
+@ConfigurationProperties(prefix = "forohub.eventos")
+public record EventosProperties(
+        @DefaultValue("4096") int capacidad,
+        @DefaultValue Ejecutor porDefecto,
+        Map<String, Ejecutor> oyentes
+) {
+
+    public EventosProperties {
+        oyentes = oyentes != null ? oyentes : Map.of();
+    }
+
+    public Ejecutor ejecutor(String oyente) {
+        return oyentes.getOrDefault(oyente, porDefecto);
+    }
+
+    public record Ejecutor(
+            @DefaultValue("1") int hilos,
+            @DefaultValue("1000") int cola
+    ) {
+    }
+}
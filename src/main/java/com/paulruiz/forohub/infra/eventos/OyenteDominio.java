@@ -0,0 +1,23 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import java.util.Set;
+
+/*
+ Oyente de eventos de dominio: todo bean que implemente esta interfaz se registra en BusEventos
+
+ - Corre en su propio ejecutor (forohub.eventos.oyentes.{nombre}.hilos / .cola),
+   nunca en el hilo de la petición ni dentro de la transacción
+ - Con 1 hilo (por defecto) recibe los eventos en el orden en que se publicaron
+ - Si su cola se llena los eventos nuevos se descartan (métrica forohub.eventos.descartados):
+   no debe usarse para lo que no puede perderse (para eso está el outbox de notificaciones)
+ */
+public interface OyenteDominio {
+
+    // Nombre usado en la configuración y en las métricas
+
+    String nombre();
+
+    Set<Class<? extends EventoDominio>> tipos();
+
+    void recibir(EventoDominio evento) throws Exception;
+}
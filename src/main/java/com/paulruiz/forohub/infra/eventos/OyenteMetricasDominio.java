@@ -0,0 +1,46 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/*
+ Oyente que cuenta los eventos de dominio (forohub.eventos.dominio, tag tipo)
+ Tópicos y respuestas creados por minuto, soluciones, bloqueos... sin tocar los servicios
+ */
+
+@Component
+public class OyenteMetricasDominio implements OyenteDominio {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String nombre() {
+        return "metricas";
+    }
+
+    @Override
+    public Set<Class<? extends EventoDominio>> tipos() {
+        return Set.of(TopicoCreado.class, TopicoEliminado.class, RespuestaCreada.class,
+                RespuestaActualizada.class, RespuestaEliminada.class, SolucionMarcada.class,
+                StatusCambiado.class, UsuarioBloqueado.class);
+    }
+
+    @Override
+    public void recibir(EventoDominio evento) {
+        String tipo = switch (evento) {
+            case TopicoCreado e -> "topico_creado";
+            case TopicoEliminado e -> "topico_eliminado";
+            case RespuestaCreada e -> "respuesta_creada";
+            case RespuestaActualizada e -> "respuesta_actualizada";
+            case RespuestaEliminada e -> "respuesta_eliminada";
+            case SolucionMarcada e -> "solucion_marcada";
+            case StatusCambiado e -> "status_cambiado";
+            case UsuarioBloqueado e -> "usuario_bloqueado";
+        };
+        meterRegistry.counter("forohub.eventos.dominio", "tipo", tipo).increment();
+    }
+}
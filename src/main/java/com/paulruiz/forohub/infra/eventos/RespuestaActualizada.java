@@ -0,0 +1,9 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
+
+// Se editó el mensaje de una respuesta (RespuestaService.actualizarRespuesta)
+
+public record RespuestaActualizada(Long respuestaId, Long topicoId, DetalleRespuestaDTO detalle)
+        implements EventoDominio {
+}
@@ -0,0 +1,9 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
+
+// Se respondió un tópico (RespuestaService.crearRespuesta)
+
+public record RespuestaCreada(Long respuestaId, Long topicoId, Long autorId, DetalleRespuestaDTO detalle)
+        implements EventoDominio {
+}
@@ -0,0 +1,6 @@
+package com.paulruiz.forohub.infra.eventos;
+
+// Se eliminó una respuesta (RespuestaService.eliminarRespuesta)
+
+public record RespuestaEliminada(Long respuestaId, Long topicoId) implements EventoDominio {
+}
@@ -0,0 +1,9 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
+
+// Se marcó una respuesta como solución (RespuestaService.marcarComoSolucion)
+
+public record SolucionMarcada(Long respuestaId, Long topicoId, Long autorRespuestaId, DetalleRespuestaDTO detalle)
+        implements EventoDominio {
+}
@@ -0,0 +1,8 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import com.paulruiz.forohub.model.StatusTopico;
+
+// Cambió el status de un tópico (respuestas, soluciones, moderación, cierre de inactivos)
+
+public record StatusCambiado(Long topicoId, Long cursoId, StatusTopico status) implements EventoDominio {
+}
@@ -0,0 +1,8 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import com.paulruiz.forohub.dto.DetalleTopicoDTO;
+
+// Se creó un tópico (TopicoService.crearTopico)
+
+public record TopicoCreado(Long topicoId, Long cursoId, Long autorId, DetalleTopicoDTO detalle) implements EventoDominio {
+}
@@ -0,0 +1,6 @@
+package com.paulruiz.forohub.infra.eventos;
+
+// Se eliminó un tópico junto con sus respuestas (TopicoService.eliminarTopico)
+
+public record TopicoEliminado(Long topicoId, Long cursoId) implements EventoDominio {
+}
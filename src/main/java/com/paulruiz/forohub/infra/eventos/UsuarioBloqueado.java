@@ -0,0 +1,6 @@
+package com.paulruiz.forohub.infra.eventos;
+
+// Un ADMIN bloqueó a un usuario (UsuarioService.bloquearUsuario)
+
+public record UsuarioBloqueado(Long usuarioId) implements EventoDominio {
+}
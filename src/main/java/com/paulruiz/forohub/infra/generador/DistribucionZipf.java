@@ -0,0 +1,33 @@
+package com.paulruiz.forohub.infra.generador;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ Distribución Zipf sobre los rangos 0..n-1: P(k) ∝ 1 / (k + 1)^s
+ El rango 0 es el más frecuente (curso más popular, usuario más activo, etc.)
+
+ Precalcula la función acumulada una vez y muestrea con búsqueda binaria
+ */
+class DistribucionZipf {
+
+    private final double[] acumulada;
+
+    DistribucionZipf(int n, double exponente) {
+        acumulada = new double[n];
+        double suma = 0;
+        for (int k = 0; k < n; k++) {
+            suma += 1.0 / Math.pow(k + 1, exponente);
+            acumulada[k] = suma;
+        }
+        for (int k = 0; k < n; k++) {
+            acumulada[k] /= suma;
+        }
+    }
+
+    int muestrear(Random random) {
+        int indice = Arrays.binarySearch(acumulada, random.nextDouble());
+        int rango = indice >= 0 ? indice : -indice - 1;
+        return Math.min(rango, acumulada.length - 1);
+    }
+}
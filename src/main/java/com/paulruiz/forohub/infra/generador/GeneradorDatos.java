@@ -0,0 +1,277 @@
+package com.paulruiz.forohub.infra.generador;
+
+import com.paulruiz.forohub.model.Topico;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/*
+ Generador de datos sintéticos para pruebas de escala
+ Se activa con --forohub.generador.activo=true y termina la aplicación al finalizar
+ (ForohubApplication cierra el contexto y sale con el código de getExitCode)
+
+ Ejemplo:
+ mvn spring-boot:run -Dspring-boot.run.arguments="--forohub.generador.activo=true --forohub.generador.topicos=2000000"
+
+ Distribuciones:
+ - Respuestas por tópico: Zipf (la mayoría con 0-2 respuestas, pocos con cientos)
+ - Autores y cursos: Zipf (usuarios muy activos y cursos populares)
+ - fecha_creacion: repartida en "anios" años antes de "referencia", con más actividad reciente
+   (instante fijo: la misma semilla da las mismas fechas en cualquier día)
+
+ Inserta con INSERT multi-fila por lotes (rewriteBatchedStatements en la URL)
+ y al final ajusta id_generadores para que Hibernate siga por encima de los IDs generados.
+ Debe ejecutarse con la aplicación detenida en los demás nodos.
+ */
+
+@Component
+@ConditionalOnProperty(name = "forohub.generador.activo", havingValue = "true")
+@EnableConfigurationProperties(GeneradorProperties.class)
+public class GeneradorDatos implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(GeneradorDatos.class);
+
+    // Hash BCrypt de "123456" (mismo que el usuario de prueba de V6)
+    private static final String CONTRASENA = "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8ssKQqpXRXUhieo2r6";
+
+    private static final String[] CATEGORIAS = {"Backend", "Frontend", "Base de Datos", "DevOps", "Data Science"};
+
+    // Porcentaje de tópicos con respuestas que terminan con una solución marcada
+    private static final int PORCENTAJE_SOLUCIONADOS = 30;
+
+    private static final String TEXTO = ("Tengo un problema al configurar la aplicación y no encuentro la causa. "
+            + "Ya revisé la documentación oficial, probé varias versiones de las dependencias "
+            + "y limpié la caché del proyecto, pero el error sigue apareciendo al arrancar. ").repeat(20);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GeneradorProperties properties;
+
+    private Random random;
+    private LocalDateTime referencia;
+    private volatile boolean terminado;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        random = new Random(properties.semilla());
+        referencia = properties.referencia();
+        long inicio = System.nanoTime();
+
+        long primerUsuario = generarUsuarios();
+        long primerCurso = generarCursos();
+        generarTopicosYRespuestas(primerUsuario, primerCurso);
+
+        terminado = true;
+        log.info("Generación terminada en {} s", (System.nanoTime() - inicio) / 1_000_000_000);
+    }
+
+    // 0 si la generación terminó (si falla, run lanza la excepción y el arranque ya termina con error)
+
+    @Override
+    public int getExitCode() {
+        return terminado ? 0 : 1;
+    }
+
+    // ============================================
+    // Usuarios
+    // ============================================
+
+    private long generarUsuarios() {
+        long primerId = siguienteId("usuarios");
+        Long perfilUser = jdbcTemplate.queryForObject(
+                "SELECT id FROM perfiles WHERE nombre = 'ROLE_USER'", Long.class);
+
+        List<Object[]> usuarios = new ArrayList<>(properties.tamanoLote());
+        List<Object[]> perfiles = new ArrayList<>(properties.tamanoLote());
+
+        for (int i = 0; i < properties.usuarios(); i++) {
+            long id = primerId + i;
+            usuarios.add(new Object[]{
+                    id,
+                    "Usuario " + id,
+                    "usuario" + id + "@forohub.test",
+                    CONTRASENA,
+                    random.nextInt(100) >= 2,  // ~2% bloqueados
+                    Timestamp.valueOf(fechaAleatoria())
+            });
+            perfiles.add(new Object[]{id, perfilUser});
+
+            if (usuarios.size() == properties.tamanoLote()) {
+                insertarUsuarios(usuarios, perfiles);
+            }
+        }
+        insertarUsuarios(usuarios, perfiles);
+
+        actualizarGenerador("usuarios", primerId + properties.usuarios() - 1);
+        log.info("{} usuarios generados", properties.usuarios());
+        return primerId;
+    }
+
+    private void insertarUsuarios(List<Object[]> usuarios, List<Object[]> perfiles) {
+        insertar("INSERT INTO usuarios (id, nombre, email, contrasena, activo, fecha_creacion) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", usuarios);
+        insertar("INSERT INTO usuarios_perfiles (usuario_id, perfil_id) VALUES (?, ?)", perfiles);
+    }
+
+    // ============================================
+    // Cursos
+    // ============================================
+
+    private long generarCursos() {
+        long primerId = siguienteId("cursos");
+        List<Object[]> cursos = new ArrayList<>(properties.cursos());
+
+        for (int i = 0; i < properties.cursos(); i++) {
+            long id = primerId + i;
+            cursos.add(new Object[]{
+                    id,
+                    "Curso sintético " + id,
+                    CATEGORIAS[random.nextInt(CATEGORIAS.length)],
+                    texto(80, 300),
+                    true
+            });
+        }
+        insertar("INSERT INTO cursos (id, nombre, categoria, descripcion, activo) VALUES (?, ?, ?, ?, ?)", cursos);
+
+        actualizarGenerador("cursos", primerId + properties.cursos() - 1);
+        log.info("{} cursos generados", properties.cursos());
+        return primerId;
+    }
+
+    // ============================================
+    // Tópicos y respuestas
+    // ============================================
+
+    private void generarTopicosYRespuestas(long primerUsuario, long primerCurso) {
+        DistribucionZipf autores = new DistribucionZipf(properties.usuarios(), properties.exponenteZipf());
+        DistribucionZipf cursos = new DistribucionZipf(properties.cursos(), properties.exponenteZipf());
+        DistribucionZipf respuestasPorTopico = new DistribucionZipf(
+                properties.maxRespuestasPorTopico() + 1, properties.exponenteZipf());
+
+        long primerTopico = siguienteId("topicos");
+        long siguienteRespuesta = siguienteId("respuestas");
+        long totalRespuestas = 0;
+
+        List<Object[]> topicos = new ArrayList<>(properties.tamanoLote());
+        List<Object[]> respuestas = new ArrayList<>(properties.tamanoLote());
+
+        for (int i = 0; i < properties.topicos(); i++) {
+            long id = primerTopico + i;
+            LocalDateTime fecha = fechaAleatoria();
+            int cantidadRespuestas = respuestasPorTopico.muestrear(random);
+            boolean solucionado = cantidadRespuestas > 0 && random.nextInt(100) < PORCENTAJE_SOLUCIONADOS;
+            int indiceSolucion = solucionado ? random.nextInt(cantidadRespuestas) : -1;
+
+            String status = cantidadRespuestas == 0 ? "NO_RESPONDIDO"
+                    : solucionado ? "SOLUCIONADO" : "NO_SOLUCIONADO";
+
+            String mensaje = texto(200, 2000);
+            topicos.add(new Object[]{
+                    id,
+                    "Tópico sintético " + id,
+                    mensaje,
+                    Topico.extraer(mensaje),
+                    Timestamp.valueOf(fecha),
+                    status,
+                    primerUsuario + autores.muestrear(random),
+                    primerCurso + cursos.muestrear(random)
+            });
+
+            // Respuestas posteriores a la creación del tópico
+            LocalDateTime fechaRespuesta = fecha;
+            for (int r = 0; r < cantidadRespuestas; r++) {
+                fechaRespuesta = fechaRespuesta.plusMinutes(1 + random.nextInt(24 * 60));
+                respuestas.add(new Object[]{
+                        siguienteRespuesta++,
+                        texto(50, 1500),
+                        id,
+                        Timestamp.valueOf(fechaRespuesta.isAfter(referencia) ? referencia : fechaRespuesta),
+                        primerUsuario + autores.muestrear(random),
+                        r == indiceSolucion
+                });
+            }
+            totalRespuestas += cantidadRespuestas;
+
+            if (topicos.size() >= properties.tamanoLote() || respuestas.size() >= properties.tamanoLote()) {
+                insertarTopicosYRespuestas(topicos, respuestas);
+                log.info("{} / {} tópicos generados", i + 1, properties.topicos());
+            }
+        }
+        insertarTopicosYRespuestas(topicos, respuestas);
+
+        actualizarGenerador("topicos", primerTopico + properties.topicos() - 1);
+        actualizarGenerador("respuestas", siguienteRespuesta - 1);
+        log.info("{} tópicos y {} respuestas generados", properties.topicos(), totalRespuestas);
+    }
+
+    // Los tópicos se insertan antes que sus respuestas (clave foránea)
+
+    private void insertarTopicosYRespuestas(List<Object[]> topicos, List<Object[]> respuestas) {
+        insertar("INSERT INTO topicos (id, titulo, mensaje, extracto, fecha_creacion, status, autor_id, curso_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", topicos);
+        insertar("INSERT INTO respuestas (id, mensaje, topico_id, fecha_creacion, autor_id, solucion) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", respuestas);
+    }
+
+    // ============================================
+    // Utilidades
+    // ============================================
+
+    // Ejecuta el lote y vacía la lista
+
+    private void insertar(String sql, List<Object[]> filas) {
+        if (!filas.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, filas);
+            filas.clear();
+        }
+    }
+
+    /*
+     Primer ID libre para la entidad: por encima del máximo en la tabla
+     y del bloque que Hibernate pudo haber reservado en id_generadores
+     */
+    private long siguienteId(String tabla) {
+        Long maximoTabla = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + tabla, Long.class);
+        Long maximoGenerador = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(siguiente_valor), 0) FROM id_generadores WHERE entidad = ?",
+                Long.class, tabla);
+        return Math.max(maximoTabla, maximoGenerador) + 1;
+    }
+
+    // Deja el contador pooled por encima del último ID generado (bloques de 50)
+
+    private void actualizarGenerador(String tabla, long ultimoId) {
+        jdbcTemplate.update("UPDATE id_generadores SET siguiente_valor = ? WHERE entidad = ?",
+                ultimoId + 50, tabla);
+    }
+
+    // Fecha en los "anios" años anteriores a la referencia, con más densidad en los recientes
+
+    private LocalDateTime fechaAleatoria() {
+        long segundosRango = properties.anios() * 365L * 24 * 60 * 60;
+        long atras = (long) (segundosRango * (1 - Math.sqrt(random.nextDouble())));
+        return referencia.minusSeconds(atras);
+    }
+
+    private String texto(int minimo, int maximo) {
+        int largo = minimo + random.nextInt(maximo - minimo + 1);
+        int inicio = random.nextInt(TEXTO.length() - largo);
+        return TEXTO.substring(inicio, inicio + largo);
+    }
+}
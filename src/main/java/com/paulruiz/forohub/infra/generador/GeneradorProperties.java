@@ -0,0 +1,31 @@
+package com.paulruiz.forohub.infra.generador;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDateTime;
+
+/*
+ Propiedades del generador de datos sintéticos (prefijo forohub.generador)
+
+ - semilla: misma semilla → mismos datos (benchmarks comparables)
+ - usuarios, cursos, topicos: cantidad de filas a generar
+ - maxRespuestasPorTopico: tope de la distribución Zipf de respuestas por tópico
+ - exponenteZipf: sesgo de respuestas, autores y cursos (mayor → más concentrado)
+ - anios: años hacia atrás en los que se reparte fecha_creacion
+ - referencia: instante desde el que se cuentan esos años (fijo para que los datos no dependan del día)
+ - tamanoLote: filas por INSERT multi-fila
+ */
+@ConfigurationProperties(prefix = "forohub.generador")
+public record GeneradorProperties(
+        @DefaultValue("42") long semilla,
+        @DefaultValue("100000") int usuarios,
+        @DefaultValue("50") int cursos,
+        @DefaultValue("1000000") int topicos,
+        @DefaultValue("200") int maxRespuestasPorTopico,
+        @DefaultValue("1.1") double exponenteZipf,
+        @DefaultValue("5") int anios,
+        @DefaultValue("2026-01-01T00:00:00") LocalDateTime referencia,
+        @DefaultValue("5000") int tamanoLote
+) {
+}
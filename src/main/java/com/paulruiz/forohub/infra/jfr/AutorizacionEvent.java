@@ -0,0 +1,30 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Evento JFR: validación de permisos de AutorizacionService
+
+@Name("com.paulruiz.forohub.Autorizacion")
+@Label("Autorización")
+@Category({"ForoHub", "Seguridad"})
+@Description("Validación de permisos sobre un tópico o una respuesta")
+@StackTrace(false)
+public class AutorizacionEvent extends Event {
+
+    @Label("Validación")
+    public String validacion;
+
+    @Label("ID del recurso")
+    public long recursoId;
+
+    @Label("ID de usuario")
+    public long usuarioId;
+
+    @Label("Permitido")
+    public boolean permitido;
+}
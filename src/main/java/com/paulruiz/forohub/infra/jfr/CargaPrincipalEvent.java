@@ -0,0 +1,58 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import com.paulruiz.forohub.model.Usuario;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.function.Supplier;
+
+// Evento JFR: búsqueda del usuario autenticado por email (SecurityFilter y login)
+
+@Name("com.paulruiz.forohub.CargaPrincipal")
+@Label("Carga de principal")
+@Category({"ForoHub", "Seguridad"})
+@Description("Búsqueda del usuario del token o del login en la base de datos")
+@StackTrace(false)
+public class CargaPrincipalEvent extends Event {
+
+    // Sin grabación JFR activa el evento no se crea (solo se consulta isEnabled)
+    private static final EventType TIPO = EventType.getEventType(CargaPrincipalEvent.class);
+
+    @Label("Origen")
+    @Description("jwt o login")
+    public String origen;
+
+    @Label("ID de usuario")
+    public long usuarioId;
+
+    @Label("Encontrado")
+    public boolean encontrado;
+
+    /*
+     Ejecuta la búsqueda del usuario registrando su duración si hay una grabación activa
+
+     @param origen jwt o login
+     @param busqueda Búsqueda del usuario por email
+     @return Usuario encontrado (null si no existe)
+     */
+    public static UserDetails medir(String origen, Supplier<UserDetails> busqueda) {
+        if (!TIPO.isEnabled()) {
+            return busqueda.get();
+        }
+
+        CargaPrincipalEvent evento = new CargaPrincipalEvent();
+        evento.begin();
+        UserDetails usuario = busqueda.get();
+        evento.origen = origen;
+        evento.encontrado = usuario != null;
+        evento.usuarioId = usuario instanceof Usuario u ? u.getId() : 0;
+        evento.commit();
+        return usuario;
+    }
+}
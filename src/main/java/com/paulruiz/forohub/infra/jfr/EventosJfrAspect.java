@@ -0,0 +1,110 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.Usuario;
+import jdk.jfr.EventType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/*
+ Aspecto que emite eventos JFR de los servicios
+ - LlamadaServicioEvent: cada método público del paquete service
+ - AutorizacionEvent: validaciones de permisos de AutorizacionService
+
+ Si no hay una grabación activa con el evento habilitado no se crea nada
+ (solo se consulta isEnabled), así que el costo fuera de una grabación es mínimo
+ */
+
+@Aspect
+@Component
+public class EventosJfrAspect {
+
+    private static final String RESULTADO_EXITO = "exito";
+
+    private static final EventType TIPO_LLAMADA = EventType.getEventType(LlamadaServicioEvent.class);
+    private static final EventType TIPO_AUTORIZACION = EventType.getEventType(AutorizacionEvent.class);
+
+    @Around("within(com.paulruiz.forohub.service..*) && execution(public * *(..))")
+    public Object llamadaServicio(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!TIPO_LLAMADA.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        LlamadaServicioEvent evento = new LlamadaServicioEvent();
+        evento.begin();
+        evento.clase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        evento.metodo = joinPoint.getSignature().getName();
+        evento.id = primerId(joinPoint.getArgs());
+        evento.resultado = RESULTADO_EXITO;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            evento.resultado = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            evento.commit();
+        }
+    }
+
+    @Around("execution(public void com.paulruiz.forohub.service.AutorizacionService.validarPermiso*(..))")
+    public Object autorizacion(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!TIPO_AUTORIZACION.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        AutorizacionEvent evento = new AutorizacionEvent();
+        evento.begin();
+        evento.validacion = joinPoint.getSignature().getName();
+        evento.recursoId = idDeRecurso(joinPoint.getArgs());
+        evento.usuarioId = idDeUsuarioAutenticado();
+
+        try {
+            Object resultado = joinPoint.proceed();
+            evento.permitido = true;
+            return resultado;
+        } finally {
+            evento.commit();
+        }
+    }
+
+    // ============================================
+    // Utilidades
+    // ============================================
+
+    private long primerId(Object[] argumentos) {
+        for (Object argumento : argumentos) {
+            if (argumento instanceof Long id) {
+                return id;
+            }
+        }
+        return 0;
+    }
+
+    // getId() no inicializa los proxies de Hibernate
+
+    private long idDeRecurso(Object[] argumentos) {
+        if (argumentos.length == 0) {
+            return 0;
+        }
+        Long id = switch (argumentos[0]) {
+            case Topico topico -> topico.getId();
+            case Respuesta respuesta -> respuesta.getId();
+            case null, default -> null;
+        };
+        return id != null ? id : 0;
+    }
+
+    private long idDeUsuarioAutenticado() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Usuario usuario) {
+            return usuario.getId();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import com.paulruiz.forohub.infra.errores.GrabacionJfrException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ Grabaciones JFR bajo demanda (/admin/jfr)
+
+ - Una sola grabación a la vez
+ - Configuración "default" de la JDK (diseñada para < 1% de overhead) más los eventos de ForoHub
+ - Acotada: duración máxima, tamaño máximo en disco y se detiene sola al cumplir la duración
+
+ Usa ReentrantLock en vez de synchronized: el volcado escribe a disco y con
+ hilos virtuales un bloque synchronized fijaría el hilo portador (pinning)
+ */
+
+@Service
+public class GrabacionJfrService {
+
+    private static final Logger log = LoggerFactory.getLogger(GrabacionJfrService.class);
+
+    public static final Duration DURACION_MAXIMA = Duration.ofMinutes(10);
+    private static final long TAMANO_MAXIMO = 100L * 1024 * 1024;
+
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTOS = List.of(
+            VerificacionJwtEvent.class,
+            CargaPrincipalEvent.class,
+            VerificacionContrasenaEvent.class,
+            AutorizacionEvent.class,
+            LlamadaServicioEvent.class,
+            SentenciaSqlEvent.class
+    );
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording grabacion;
+
+    // ============================================
+    // Iniciar
+    // ============================================
+
+    /*
+     Inicia una grabación que se detiene sola al pasar la duración indicada
+
+     @param duracion Duración de la grabación (máximo DURACION_MAXIMA)
+     @throws GrabacionJfrException si ya hay una grabación en curso
+     */
+    public void iniciar(Duration duracion) {
+        lock.lock();
+        try {
+            if (grabacion != null && grabacion.getState() == RecordingState.RUNNING) {
+                throw new GrabacionJfrException("Ya hay una grabación JFR en curso");
+            }
+            descartar();
+
+            Duration acotada = duracion.compareTo(DURACION_MAXIMA) > 0 ? DURACION_MAXIMA : duracion;
+
+            try {
+                grabacion = new Recording(Configuration.getConfiguration("default"));
+            } catch (IOException | ParseException e) {
+                throw new GrabacionJfrException("No se pudo cargar la configuración JFR: " + e.getMessage());
+            }
+            grabacion.setName("forohub");
+            grabacion.setDuration(acotada);
+            grabacion.setMaxSize(TAMANO_MAXIMO);
+            grabacion.setToDisk(true);
+            EVENTOS.forEach(evento -> grabacion.enable(evento).withoutStackTrace());
+            grabacion.start();
+
+            log.info("Grabación JFR iniciada por {} s", acotada.toSeconds());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ============================================
+    // Detener y exportar
+    // ============================================
+
+    /*
+     Detiene la grabación (si sigue activa) y la vuelca a un archivo temporal
+     El llamador debe borrar el archivo después de enviarlo
+
+     @return Ruta del archivo .jfr
+     @throws GrabacionJfrException si no hay ninguna grabación
+     */
+    public Path detener() {
+        lock.lock();
+        try {
+            if (grabacion == null) {
+                throw new GrabacionJfrException("No hay ninguna grabación JFR para detener");
+            }
+            if (grabacion.getState() == RecordingState.RUNNING) {
+                grabacion.stop();
+            }
+            Path archivo = Files.createTempFile("forohub-", ".jfr");
+            grabacion.dump(archivo);
+            log.info("Grabación JFR detenida ({} bytes)", Files.size(archivo));
+            return archivo;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            descartar();
+            lock.unlock();
+        }
+    }
+
+    public String estado() {
+        lock.lock();
+        try {
+            return grabacion == null ? "SIN_GRABACION" : grabacion.getState().name();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void descartar() {
+        if (grabacion != null) {
+            grabacion.close();
+            grabacion = null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Evento JFR: llamada a un método público de los servicios
+
+@Name("com.paulruiz.forohub.LlamadaServicio")
+@Label("Llamada a servicio")
+@Category({"ForoHub", "Servicios"})
+@Description("Método público de un servicio, con el ID recibido (si lo hay) y el resultado")
+@StackTrace(false)
+public class LlamadaServicioEvent extends Event {
+
+    @Label("Clase")
+    public String clase;
+
+    @Label("Método")
+    public String metodo;
+
+    @Label("ID")
+    @Description("Primer argumento Long del método (0 si no tiene)")
+    public long id;
+
+    @Label("Resultado")
+    @Description("exito o el nombre simple de la excepción")
+    public String resultado;
+}
@@ -0,0 +1,24 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Evento JFR: ejecución JDBC de una sentencia o un lote (RegistroSentencias)
+
+@Name("com.paulruiz.forohub.SentenciaSql")
+@Label("Sentencia SQL")
+@Category({"ForoHub", "Base de Datos"})
+@Description("Ejecución JDBC de una sentencia SQL o de un lote")
+@StackTrace(false)
+public class SentenciaSqlEvent extends Event {
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Lote")
+    public boolean lote;
+}
@@ -0,0 +1,21 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Evento JFR: comparación BCrypt de la contraseña en el login
+
+@Name("com.paulruiz.forohub.VerificacionContrasena")
+@Label("Verificación de contraseña")
+@Category({"ForoHub", "Seguridad"})
+@Description("Comparación BCrypt de la contraseña ingresada con el hash guardado")
+@StackTrace(false)
+public class VerificacionContrasenaEvent extends Event {
+
+    @Label("Coincide")
+    public boolean coincide;
+}
@@ -0,0 +1,21 @@
+package com.paulruiz.forohub.infra.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Evento JFR: verificación de firma y expiración de un token JWT (TokenService.getSubject)
+
+@Name("com.paulruiz.forohub.VerificacionJwt")
+@Label("Verificación JWT")
+@Category({"ForoHub", "Seguridad"})
+@Description("Verificación de un token JWT")
+@StackTrace(false)
+public class VerificacionJwtEvent extends Event {
+
+    @Label("Válido")
+    public boolean valido;
+}
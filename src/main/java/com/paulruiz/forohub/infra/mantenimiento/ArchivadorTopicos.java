@@ -0,0 +1,170 @@
+package com.paulruiz.forohub.infra.mantenimiento;
+
+import com.paulruiz.forohub.repository.RespuestaRepository;
+import com.paulruiz.forohub.repository.TopicoArchivadoRepository;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ Archivador de tópicos antiguos
+
+ Mueve a topicos_archivo / respuestas_archivo (particionadas por año en MySQL) los tópicos
+ sin actividad en los últimos forohub.archivo.meses meses, para que las tablas vivas
+ y sus índices se queden con el conjunto de trabajo reciente
+
+ - Recorre topicos por keyset en lotes de forohub.archivo.lote, con pausa entre lotes
+ - Cada lote es una transacción: bloquea los tópicos volviendo a verificar la inactividad
+   (uno que recibió una respuesta tras el SELECT del lote sigue vivo), INSERT ... SELECT al
+   archivo (tópicos y respuestas) y DELETE de las tablas vivas; nunca quedan a medias
+ - Con varios nodos solo corre el titular del arriendo "archivo-topicos"
+ - Las lecturas siguen encontrando los tópicos: TopicoService consulta el archivo
+   cuando el tópico ya no está vivo
+
+ Métricas: forohub.archivo.topicos, forohub.archivo.respuestas y
+ forohub.archivo.ejecuciones (resultado = completada | parcial | sin-arriendo | error)
+ */
+
+@Component
+@ConditionalOnProperty(name = "forohub.archivo.activo", havingValue = "true", matchIfMissing = true)
+public class ArchivadorTopicos {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivadorTopicos.class);
+
+    private static final String ARRIENDO = "archivo-topicos";
+
+    @Value("${forohub.archivo.meses:6}")
+    private int meses;
+
+    @Value("${forohub.archivo.lote:200}")
+    private int tamanoLote;
+
+    @Value("${forohub.archivo.pausa:200ms}")
+    private Duration pausa;
+
+    @Value("${forohub.archivo.arriendo:10m}")
+    private Duration arriendo;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    @Autowired
+    private TopicoArchivadoRepository topicoArchivadoRepository;
+
+    @Autowired
+    private ArriendosTareas arriendos;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transaccion;
+    private Counter topicosArchivados;
+    private Counter respuestasArchivadas;
+
+    @PostConstruct
+    public void inicializar() {
+        transaccion = new TransactionTemplate(transactionManager);
+        topicosArchivados = meterRegistry.counter("forohub.archivo.topicos");
+        respuestasArchivadas = meterRegistry.counter("forohub.archivo.respuestas");
+    }
+
+    // ============================================
+    // Ejecución programada
+    // ============================================
+
+    @Scheduled(cron = "${forohub.archivo.cron:0 30 3 * * *}")
+    public void archivar() {
+        if (!arriendos.tomar(ARRIENDO, arriendo)) {
+            contarEjecucion("sin-arriendo");
+            return;
+        }
+
+        LocalDateTime corte = LocalDateTime.now().minusMonths(meses);
+        long ultimoId = 0;
+        int lotes = 0;
+        long total = 0;
+        String resultado = "completada";
+
+        try {
+            while (true) {
+                List<Long> candidatos = topicoRepository.buscarParaArchivar(ultimoId, corte, Limit.of(tamanoLote));
+                if (candidatos.isEmpty()) {
+                    break;
+                }
+                Integer archivados = transaccion.execute(status -> archivarLote(candidatos, corte));
+                lotes++;
+                total += archivados;
+                ultimoId = candidatos.get(candidatos.size() - 1);
+
+                if (candidatos.size() < tamanoLote) {
+                    break;
+                }
+                if (!arriendos.tomar(ARRIENDO, arriendo)) {
+                    log.warn("Archivo de tópicos: arriendo perdido tras {} lotes, se detiene", lotes);
+                    resultado = "parcial";
+                    break;
+                }
+                Thread.sleep(pausa.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resultado = "parcial";
+        } catch (RuntimeException e) {
+            resultado = "error";
+            log.error("Archivo de tópicos falló tras {} lotes", lotes, e);
+        } finally {
+            arriendos.liberar(ARRIENDO);
+        }
+
+        contarEjecucion(resultado);
+        if (total > 0) {
+            log.info("Archivo de tópicos ({}): {} tópicos sin actividad desde {} archivados en {} lotes",
+                    resultado, total, corte.toLocalDate(), lotes);
+        }
+    }
+
+    /*
+     Copia y borra en la misma transacción; las respuestas se borran antes que sus tópicos
+     Solo se archivan los que al bloquearlos siguen sin actividad desde corte
+     */
+    private int archivarLote(List<Long> candidatos, LocalDateTime corte) {
+        List<Long> ids = topicoRepository.bloquearLote(candidatos, corte);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int topicos = topicoArchivadoRepository.archivarTopicos(ids);
+        int respuestas = topicoArchivadoRepository.archivarRespuestas(ids);
+        respuestaRepository.eliminarPorTopicos(ids);
+        topicoRepository.eliminarLote(ids);
+
+        topicosArchivados.increment(topicos);
+        respuestasArchivadas.increment(respuestas);
+        return topicos;
+    }
+
+    private void contarEjecucion(String resultado) {
+        meterRegistry.counter("forohub.archivo.ejecuciones", "resultado", resultado).increment();
+    }
+}
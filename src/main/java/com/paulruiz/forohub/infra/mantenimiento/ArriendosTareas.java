@@ -0,0 +1,46 @@
+package com.paulruiz.forohub.infra.mantenimiento;
+
+import com.paulruiz.forohub.repository.ArriendoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/*
+ Arriendos en base de datos para tareas programadas con varios nodos
+
+ Cada nodo se identifica como pid@host. Un arriendo se toma solo si está vencido
+ (o ya es propio) y se renueva mientras la tarea avanza: si el nodo cae,
+ otro lo toma al vencer la duración
+
+ Los vencimientos se calculan con el reloj de la base, no con el de cada nodo
+ */
+
+@Component
+public class ArriendosTareas {
+
+    private final String titular = ManagementFactory.getRuntimeMXBean().getName();
+
+    @Autowired
+    private ArriendoRepository arriendoRepository;
+
+    /*
+     Toma o renueva el arriendo
+
+     @param nombre Nombre de la tarea (fila de la tabla arriendos)
+     @param duracion Tiempo que el arriendo queda reservado para este nodo
+     @return true si este nodo tiene el arriendo
+     */
+    public boolean tomar(String nombre, Duration duracion) {
+        return arriendoRepository.tomar(nombre, titular, duracion.toSeconds()) == 1;
+    }
+
+    public void liberar(String nombre) {
+        arriendoRepository.liberar(nombre, titular);
+    }
+
+    public String getTitular() {
+        return titular;
+    }
+}
@@ -0,0 +1,189 @@
+package com.paulruiz.forohub.infra.mantenimiento;
+
+import com.paulruiz.forohub.infra.eventos.BusEventos;
+import com.paulruiz.forohub.infra.eventos.StatusCambiado;
+import com.paulruiz.forohub.model.StatusTopico;
+import com.paulruiz.forohub.repository.TopicoCurso;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ Cierre programado de tópicos inactivos
+
+ Pasa a CERRADO los tópicos NO_RESPONDIDO / NO_SOLUCIONADO sin actividad
+ (creación ni respuestas) en los últimos forohub.cierre-inactivos.dias días
+
+ - Recorre topicos por keyset (id > último) en lotes de forohub.cierre-inactivos.lote
+ - Cada lote es una transacción corta: SELECT por keyset, SELECT ... FOR UPDATE que vuelve a
+   verificar las condiciones y un UPDATE con IN de los bloqueados; pausa entre lotes
+ - Solo los tópicos bloqueados se cuentan y se avisan (StatusCambiado después del commit)
+ - Cada ejecución procesa como máximo max-lotes lotes; el resto queda para la siguiente
+ - Con varios nodos solo corre el que tiene el arriendo "cierre-inactivos" (se renueva por lote)
+
+ Métricas: forohub.cierre.inactivos.topicos (cerrados), forohub.cierre.inactivos.lotes
+ y forohub.cierre.inactivos.ejecuciones (resultado = completada | parcial | sin-arriendo | error)
+ */
+
+@Component
+@ConditionalOnProperty(name = "forohub.cierre-inactivos.activo", havingValue = "true", matchIfMissing = true)
+public class CierreTopicosInactivos {
+
+    private static final Logger log = LoggerFactory.getLogger(CierreTopicosInactivos.class);
+
+    private static final String ARRIENDO = "cierre-inactivos";
+    private static final List<StatusTopico> ABIERTOS = List.of(StatusTopico.NO_RESPONDIDO, StatusTopico.NO_SOLUCIONADO);
+    private static final List<String> NOMBRES_ABIERTOS = ABIERTOS.stream().map(Enum::name).toList();
+
+    @Value("${forohub.cierre-inactivos.dias:90}")
+    private int dias;
+
+    @Value("${forohub.cierre-inactivos.lote:200}")
+    private int tamanoLote;
+
+    @Value("${forohub.cierre-inactivos.max-lotes:50}")
+    private int maxLotes;
+
+    // Pausa entre lotes para no competir con el tráfico de la API
+    @Value("${forohub.cierre-inactivos.pausa:100ms}")
+    private Duration pausa;
+
+    // Debe superar con holgura lo que tarda un lote más su pausa
+    @Value("${forohub.cierre-inactivos.arriendo:5m}")
+    private Duration arriendo;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private ArriendosTareas arriendos;
+
+    @Autowired
+    private BusEventos busEventos;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transaccion;
+    private Counter cerrados;
+    private Counter lotes;
+
+    @PostConstruct
+    public void inicializar() {
+        transaccion = new TransactionTemplate(transactionManager);
+        cerrados = meterRegistry.counter("forohub.cierre.inactivos.topicos");
+        lotes = meterRegistry.counter("forohub.cierre.inactivos.lotes");
+    }
+
+    // ============================================
+    // Ejecución programada
+    // ============================================
+
+    @Scheduled(fixedDelayString = "${forohub.cierre-inactivos.intervalo:1h}",
+            initialDelayString = "${forohub.cierre-inactivos.retraso-inicial:1m}")
+    public void cerrarInactivos() {
+        if (!arriendos.tomar(ARRIENDO, arriendo)) {
+            contarEjecucion("sin-arriendo");
+            return;
+        }
+
+        LocalDateTime inactivoDesde = LocalDateTime.now().minusDays(dias);
+        long ultimoId = 0;
+        int lotesEjecutados = 0;
+        long total = 0;
+        String resultado = "completada";
+
+        try {
+            while (true) {
+                if (lotesEjecutados == maxLotes) {
+                    resultado = "parcial";
+                    break;
+                }
+                long despuesDeId = ultimoId;
+                Lote lote = transaccion.execute(status -> cerrarLote(despuesDeId, inactivoDesde));
+                if (lote.candidatos() == 0) {
+                    break;
+                }
+                lotesEjecutados++;
+                total += lote.cerrados();
+                ultimoId = lote.ultimoId();
+
+                if (lote.candidatos() < tamanoLote) {
+                    break;
+                }
+                if (!arriendos.tomar(ARRIENDO, arriendo)) {
+                    log.warn("Cierre de inactivos: arriendo perdido tras {} lotes, se detiene", lotesEjecutados);
+                    resultado = "parcial";
+                    break;
+                }
+                Thread.sleep(pausa.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resultado = "parcial";
+        } catch (RuntimeException e) {
+            resultado = "error";
+            log.error("Cierre de inactivos falló tras {} lotes", lotesEjecutados, e);
+        } finally {
+            arriendos.liberar(ARRIENDO);
+        }
+
+        contarEjecucion(resultado);
+        if (total > 0) {
+            log.info("Cierre de inactivos ({}): {} tópicos sin actividad desde {} cerrados en {} lotes",
+                    resultado, total, inactivoDesde.toLocalDate(), lotesEjecutados);
+        }
+    }
+
+    // Resultado de un lote: candidatos del SELECT (avanzan el keyset) y tópicos cerrados
+    private record Lote(int candidatos, long ultimoId, int cerrados) {
+    }
+
+    // Un lote dentro de la transacción; los avisos salen después del commit
+
+    private Lote cerrarLote(long despuesDeId, LocalDateTime inactivoDesde) {
+        List<TopicoCurso> candidatos = topicoRepository.buscarInactivos(
+                despuesDeId, ABIERTOS, inactivoDesde, Limit.of(tamanoLote));
+        if (candidatos.isEmpty()) {
+            return new Lote(0, despuesDeId, 0);
+        }
+
+        Set<Long> bloqueados = new HashSet<>(topicoRepository.bloquearInactivos(
+                candidatos.stream().map(TopicoCurso::topicoId).toList(), NOMBRES_ABIERTOS, inactivoDesde));
+        if (!bloqueados.isEmpty()) {
+            topicoRepository.cambiarStatusLote(bloqueados, StatusTopico.CERRADO);
+        }
+        cerrados.increment(bloqueados.size());
+        lotes.increment();
+
+        candidatos.stream()
+                .filter(topico -> bloqueados.contains(topico.topicoId()))
+                .forEach(topico -> busEventos.publicar(
+                        new StatusCambiado(topico.topicoId(), topico.cursoId(), StatusTopico.CERRADO)));
+        return new Lote(candidatos.size(), candidatos.get(candidatos.size() - 1).topicoId(), bloqueados.size());
+    }
+
+    private void contarEjecucion(String resultado) {
+        meterRegistry.counter("forohub.cierre.inactivos.ejecuciones", "resultado", resultado).increment();
+    }
+}
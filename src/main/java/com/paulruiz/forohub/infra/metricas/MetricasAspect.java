@@ -0,0 +1,76 @@
+package com.paulruiz.forohub.infra.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ Aspecto que mide la latencia de los servicios y del TokenService con Micrometer
+
+ Métricas:
+ - forohub.servicio: cada método público de los servicios (paquete service)
+ - forohub.jwt: generación y verificación de tokens (TokenService)
+
+ Tags: clase, metodo y resultado ("exito" o el nombre simple de la excepción)
+ Sin IDs ni datos del usuario en los tags para mantener la cardinalidad acotada
+ Las consultas de los repositorios las mide Spring Boot (spring.data.repository.invocations)
+
+ El Timer de éxito se guarda por método (camino caliente sin builder ni búsqueda en el registro);
+ los de excepción se registran al ocurrir
+ */
+
+@Aspect
+@Component
+public class MetricasAspect {
+
+    static final String RESULTADO_EXITO = "exito";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Method, Timer> timersExito = new ConcurrentHashMap<>();
+
+    @Around("within(com.paulruiz.forohub.service..*) && execution(public * *(..))")
+    public Object medirServicio(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir("forohub.servicio", joinPoint);
+    }
+
+    @Around("execution(public * com.paulruiz.forohub.infra.security.TokenService.*(..))")
+    public Object medirJwt(ProceedingJoinPoint joinPoint) throws Throwable {
+        return medir("forohub.jwt", joinPoint);
+    }
+
+    private Object medir(String metrica, ProceedingJoinPoint joinPoint) throws Throwable {
+        long inicio = System.nanoTime();
+
+        try {
+            Object retorno = joinPoint.proceed();
+            Method metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timersExito.computeIfAbsent(metodo, m -> timer(metrica, joinPoint, RESULTADO_EXITO))
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            return retorno;
+        } catch (Throwable e) {
+            timer(metrica, joinPoint, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(String metrica, ProceedingJoinPoint joinPoint, String resultado) {
+        return Timer.builder(metrica)
+                .tag("clase", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("metodo", joinPoint.getSignature().getName())
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
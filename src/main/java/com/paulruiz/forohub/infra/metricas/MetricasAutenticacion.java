@@ -0,0 +1,45 @@
+package com.paulruiz.forohub.infra.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationFailureDisabledEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+/*
+ Contador de intentos de login (POST /login) por resultado
+ Spring Security publica estos eventos desde el AuthenticationManager
+
+ Métrica: forohub.login
+ Tags: resultado = exito | credenciales_invalidas | usuario_bloqueado | error
+ */
+
+@Component
+public class MetricasAutenticacion {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @EventListener
+    public void loginExitoso(AuthenticationSuccessEvent evento) {
+        contar(MetricasAspect.RESULTADO_EXITO);
+    }
+
+    @EventListener
+    public void loginFallido(AbstractAuthenticationFailureEvent evento) {
+        if (evento instanceof AuthenticationFailureBadCredentialsEvent) {
+            contar("credenciales_invalidas");
+        } else if (evento instanceof AuthenticationFailureDisabledEvent) {
+            contar("usuario_bloqueado");
+        } else {
+            contar("error");
+        }
+    }
+
+    private void contar(String resultado) {
+        meterRegistry.counter("forohub.login", "resultado", resultado).increment();
+    }
+}
@@ -0,0 +1,57 @@
+package com.paulruiz.forohub.infra.notificaciones;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paulruiz.forohub.model.NotificacionPendiente;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ Canal que agrega cada notificación como una línea JSON a un archivo
+ Pensado para pruebas: permite verificar qué se entregó y cuántas veces
+ */
+
+@Component
+public class CanalArchivo implements CanalNotificacion {
+
+    @Value("${forohub.notificaciones.archivo:logs/forohub-notificaciones.jsonl}")
+    private Path archivo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    public String nombre() {
+        return "archivo";
+    }
+
+    @Override
+    public void enviar(NotificacionPendiente notificacion) throws IOException {
+        Map<String, Object> linea = new LinkedHashMap<>();
+        linea.put("id", notificacion.getId());
+        linea.put("tipo", notificacion.getTipo());
+        linea.put("destinatarioId", notificacion.getDestinatarioId());
+        linea.put("datos", objectMapper.readTree(notificacion.getDatos()));
+        String json = objectMapper.writeValueAsString(linea) + System.lineSeparator();
+
+        lock.lock();
+        try {
+            if (archivo.getParent() != null) {
+                Files.createDirectories(archivo.getParent());
+            }
+            Files.writeString(archivo, json, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.paulruiz.forohub.infra.notificaciones;
+
+import com.paulruiz.forohub.model.NotificacionPendiente;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Canal que escribe las notificaciones en el log "forohub.notificaciones" (desarrollo y pruebas)
+
+@Component
+public class CanalLog implements CanalNotificacion {
+
+    private static final Logger log = LoggerFactory.getLogger("forohub.notificaciones");
+
+    @Override
+    public String nombre() {
+        return "log";
+    }
+
+    @Override
+    public void enviar(NotificacionPendiente notificacion) {
+        log.info("Notificación {} {} para el usuario {}: {}",
+                notificacion.getId(), notificacion.getTipo(), notificacion.getDestinatarioId(), notificacion.getDatos());
+    }
+}
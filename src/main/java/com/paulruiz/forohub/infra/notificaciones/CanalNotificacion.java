@@ -0,0 +1,22 @@
+package com.paulruiz.forohub.infra.notificaciones;
+
+import com.paulruiz.forohub.model.NotificacionPendiente;
+
+/*
+ Canal de entrega de notificaciones (log, archivo, correo, push...)
+ Cada bean se identifica por nombre(); los activos se eligen con forohub.notificaciones.canales
+
+ La entrega es "al menos una vez": ante un error o un reinicio la notificación
+ puede reenviarse, el canal debe tolerar duplicados (usar el id para descartarlos)
+ */
+public interface CanalNotificacion {
+
+    String nombre();
+
+    /*
+     Entrega la notificación
+
+     @throws Exception si falla (se reintenta con backoff)
+     */
+    void enviar(NotificacionPendiente notificacion) throws Exception;
+}
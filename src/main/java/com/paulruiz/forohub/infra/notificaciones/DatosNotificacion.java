@@ -0,0 +1,21 @@
+package com.paulruiz.forohub.infra.notificaciones;
+
+import com.paulruiz.forohub.model.TipoNotificacion;
+
+/*
+ Contenido de una notificación (columna "datos" en JSON)
+
+ @param tipo Tipo de notificación
+ @param topicoId Tópico respondido o solucionado
+ @param tituloTopico Título del tópico
+ @param respuestaId Respuesta nueva o marcada como solución
+ @param autorRespuesta Nombre del autor de la respuesta
+ */
+public record DatosNotificacion(
+        TipoNotificacion tipo,
+        Long topicoId,
+        String tituloTopico,
+        Long respuestaId,
+        String autorRespuesta
+) {
+}
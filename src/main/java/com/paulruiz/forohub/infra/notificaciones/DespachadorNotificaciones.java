@@ -0,0 +1,187 @@
+package com.paulruiz.forohub.infra.notificaciones;
+
+import com.paulruiz.forohub.model.EstadoNotificacion;
+import com.paulruiz.forohub.model.NotificacionPendiente;
+import com.paulruiz.forohub.repository.NotificacionPendienteRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ Despachador del outbox de notificaciones
+
+ Cada ciclo:
+ 1. Transacción corta: reclama un lote con SELECT ... FOR UPDATE SKIP LOCKED y le pone
+    un "arriendo" (proximo_intento = ahora + arriendo) para que nadie más lo tome
+ 2. Sin transacción ni conexión abierta: entrega cada notificación por su canal
+ 3. Transacción corta: borra las entregadas y reprograma las fallidas con backoff exponencial
+
+ Varios nodos pueden despachar a la vez: SKIP LOCKED reparte los lotes sin esperas.
+ Si un nodo cae a mitad de un lote, sus filas vuelven a estar disponibles al vencer el arriendo.
+
+ Métricas: forohub.notificaciones.pendientes (notificaciones listas que reclamó el
+ último ciclo, sin un COUNT aparte) y
+ forohub.notificaciones.entregas (canal, resultado = enviada | reintento | fallida)
+ */
+
+@Component
+@ConditionalOnProperty(name = "forohub.notificaciones.despachador.activo", havingValue = "true", matchIfMissing = true)
+public class DespachadorNotificaciones {
+
+    private static final Logger log = LoggerFactory.getLogger(DespachadorNotificaciones.class);
+
+    private static final int LARGO_MAXIMO_ERROR = 500;
+
+    @Value("${forohub.notificaciones.lote:100}")
+    private int tamanoLote;
+
+    // Tiempo que un lote reclamado queda reservado para este nodo
+    @Value("${forohub.notificaciones.arriendo:1m}")
+    private Duration arriendo;
+
+    @Value("${forohub.notificaciones.max-intentos:8}")
+    private int maxIntentos;
+
+    // Espera del primer reintento; se duplica en cada intento hasta backoff-maximo
+    @Value("${forohub.notificaciones.backoff-inicial:5s}")
+    private Duration backoffInicial;
+
+    @Value("${forohub.notificaciones.backoff-maximo:30m}")
+    private Duration backoffMaximo;
+
+    @Autowired
+    private NotificacionPendienteRepository notificacionRepository;
+
+    @Autowired
+    private List<CanalNotificacion> listaCanales;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Map<String, CanalNotificacion> canales;
+    private TransactionTemplate transaccion;
+    private final AtomicLong pendientes = new AtomicLong();
+
+    @PostConstruct
+    public void inicializar() {
+        canales = listaCanales.stream()
+                .collect(Collectors.toMap(CanalNotificacion::nombre, Function.identity()));
+        transaccion = new TransactionTemplate(transactionManager);
+        Gauge.builder("forohub.notificaciones.pendientes", pendientes, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    // ============================================
+    // Ciclo de despacho
+    // ============================================
+
+    // Vacía el backlog listo en lotes; la métrica sale de lo reclamado en el ciclo
+
+    @Scheduled(fixedDelayString = "${forohub.notificaciones.intervalo:1s}")
+    public void despachar() {
+        List<NotificacionPendiente> lote;
+        long reclamadas = 0;
+        do {
+            lote = reclamar();
+            reclamadas += lote.size();
+            if (!lote.isEmpty()) {
+                entregar(lote);
+            }
+        } while (lote.size() == tamanoLote);
+
+        pendientes.set(reclamadas);
+    }
+
+    private List<NotificacionPendiente> reclamar() {
+        return transaccion.execute(status -> {
+            LocalDateTime ahora = LocalDateTime.now();
+            List<NotificacionPendiente> lote = notificacionRepository.reclamarLote(ahora, tamanoLote);
+            lote.forEach(notificacion -> notificacion.setProximoIntento(ahora.plus(arriendo)));
+            return lote;
+        });
+    }
+
+    private void entregar(List<NotificacionPendiente> lote) {
+        List<Long> entregadas = new ArrayList<>();
+        List<NotificacionPendiente> fallidas = new ArrayList<>();
+
+        for (NotificacionPendiente notificacion : lote) {
+            try {
+                CanalNotificacion canal = canales.get(notificacion.getCanal());
+                if (canal == null) {
+                    throw new IllegalStateException("Canal desconocido: " + notificacion.getCanal());
+                }
+                canal.enviar(notificacion);
+                entregadas.add(notificacion.getId());
+                contar(notificacion, "enviada");
+            } catch (Exception e) {
+                programarReintento(notificacion, e);
+                fallidas.add(notificacion);
+            }
+        }
+
+        transaccion.executeWithoutResult(status -> {
+            if (!entregadas.isEmpty()) {
+                notificacionRepository.deleteAllByIdInBatch(entregadas);
+            }
+            notificacionRepository.saveAll(fallidas);
+        });
+    }
+
+    // ============================================
+    // Reintentos
+    // ============================================
+
+    private void programarReintento(NotificacionPendiente notificacion, Exception error) {
+        int intentos = notificacion.getIntentos() + 1;
+        notificacion.setIntentos(intentos);
+        notificacion.setUltimoError(recortar(error.getClass().getSimpleName() + ": " + error.getMessage()));
+
+        if (intentos >= maxIntentos) {
+            notificacion.setEstado(EstadoNotificacion.FALLIDA);
+            log.warn("Notificación {} descartada tras {} intentos por el canal {}: {}",
+                    notificacion.getId(), intentos, notificacion.getCanal(), notificacion.getUltimoError());
+            contar(notificacion, "fallida");
+        } else {
+            notificacion.setProximoIntento(LocalDateTime.now().plus(backoff(intentos)));
+            contar(notificacion, "reintento");
+        }
+    }
+
+    // backoffInicial * 2^(intentos - 1), acotado a backoffMaximo
+
+    private Duration backoff(int intentos) {
+        Duration espera = backoffInicial.multipliedBy(1L << Math.min(intentos - 1, 30));
+        return espera.compareTo(backoffMaximo) > 0 ? backoffMaximo : espera;
+    }
+
+    private String recortar(String texto) {
+        return texto.length() <= LARGO_MAXIMO_ERROR ? texto : texto.substring(0, LARGO_MAXIMO_ERROR);
+    }
+
+    private void contar(NotificacionPendiente notificacion, String resultado) {
+        meterRegistry.counter("forohub.notificaciones.entregas",
+                "canal", notificacion.getCanal(), "resultado", resultado).increment();
+    }
+}
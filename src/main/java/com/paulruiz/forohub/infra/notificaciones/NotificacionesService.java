@@ -0,0 +1,116 @@
+package com.paulruiz.forohub.infra.notificaciones;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paulruiz.forohub.model.NotificacionPendiente;
+import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.TipoNotificacion;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.NotificacionPendienteRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+ Escritura en el outbox de notificaciones (notificaciones_pendientes)
+
+ - Se llama dentro de la transacción de RespuestaService (MANDATORY): la fila
+   se confirma o se descarta junto con la respuesta
+ - Solo inserta; la entrega la hace DespachadorNotificaciones en segundo plano,
+   así responder no espera a ningún canal
+ - Una fila por destinatario y canal activo: cada canal se reintenta por separado
+ - Nadie recibe notificaciones de sus propias acciones
+ */
+
+@Service
+public class NotificacionesService {
+
+    // Canales activos, separados por coma (log, archivo)
+    @Value("${forohub.notificaciones.canales:log}")
+    private List<String> canales;
+
+    @Autowired
+    private List<CanalNotificacion> canalesDisponibles;
+
+    @Autowired
+    private NotificacionPendienteRepository notificacionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void validarCanales() {
+        for (String canal : canales) {
+            if (canalesDisponibles.stream().noneMatch(disponible -> disponible.nombre().equals(canal))) {
+                throw new IllegalStateException("Canal de notificaciones desconocido: " + canal);
+            }
+        }
+    }
+
+    /*
+     Notifica al autor del tópico que recibió una respuesta
+
+     @param respuesta Respuesta recién creada
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarRespuestaNueva(Respuesta respuesta) {
+        Topico topico = respuesta.getTopico();
+        registrar(TipoNotificacion.RESPUESTA_NUEVA, respuesta, respuesta.getAutor(),
+                Set.of(topico.getAutor().getId()));
+    }
+
+    /*
+     Notifica la solución al autor del tópico y al autor de la respuesta
+
+     @param respuesta Respuesta marcada como solución
+     @param marcadaPor Usuario que la marcó (autor del tópico o ADMIN)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarSolucionMarcada(Respuesta respuesta, Usuario marcadaPor) {
+        Set<Long> destinatarios = new LinkedHashSet<>();
+        destinatarios.add(respuesta.getTopico().getAutor().getId());
+        destinatarios.add(respuesta.getAutor().getId());
+        registrar(TipoNotificacion.SOLUCION_MARCADA, respuesta, marcadaPor, destinatarios);
+    }
+
+    // ============================================
+    // Métodos privados
+    // ============================================
+
+    private void registrar(TipoNotificacion tipo, Respuesta respuesta, Usuario actor, Set<Long> destinatarios) {
+        Topico topico = respuesta.getTopico();
+        String datos = serializar(new DatosNotificacion(
+                tipo, topico.getId(), topico.getTitulo(), respuesta.getId(), respuesta.getAutor().getNombre()));
+
+        List<NotificacionPendiente> notificaciones = destinatarios.stream()
+                .filter(destinatarioId -> !Objects.equals(destinatarioId, actor.getId()))
+                .flatMap(destinatarioId -> canales.stream().map(canal -> {
+                    NotificacionPendiente notificacion = new NotificacionPendiente();
+                    notificacion.setTipo(tipo);
+                    notificacion.setCanal(canal);
+                    notificacion.setDestinatarioId(destinatarioId);
+                    notificacion.setDatos(datos);
+                    return notificacion;
+                }))
+                .toList();
+
+        notificacionRepository.saveAll(notificaciones);
+    }
+
+    private String serializar(DatosNotificacion datos) {
+        try {
+            return objectMapper.writeValueAsString(datos);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la notificación", e);
+        }
+    }
+}
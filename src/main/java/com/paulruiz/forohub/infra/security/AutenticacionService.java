@@ -1,5 +1,6 @@
 package com.paulruiz.forohub.infra.security;
 
+import com.paulruiz.forohub.infra.jfr.CargaPrincipalEvent;
 import com.paulruiz.forohub.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,8 +28,8 @@ public class AutenticacionService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Buscar usuario por email
-        UserDetails usuario = usuarioRepository.findByEmail(username);
+        // Buscar usuario por email (evento JFR con la duración, solo con grabación activa)
+        UserDetails usuario = CargaPrincipalEvent.medir("login", () -> usuarioRepository.findByEmail(username));
 
         if (usuario == null) {
             throw new UsernameNotFoundException("Usuario no encontrado: " + username);
@@ -1,5 +1,8 @@
 package com.paulruiz.forohub.infra.security;
 
+import com.paulruiz.forohub.infra.jfr.VerificacionContrasenaEvent;
+import jakarta.servlet.DispatcherType;
+import jdk.jfr.EventType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,7 +39,8 @@ public class SecurityConfigurations {
      Configura las reglas de seguridad HTTP
      - Endpoints públicos: /login, /usuarios (registro), /swagger-ui/**
      - Endpoints protegidos: todos los demás requieren JWT
-     - Solo ADMIN puede bloquear/desbloquear usuarios
+     - Solo ADMIN puede bloquear/desbloquear usuarios y acceder a /admin/**
+     - Actuator (/actuator/**) solo se expone en el puerto de gestión (management.server.port)
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -51,14 +55,21 @@ public class SecurityConfigurations {
 
                 // Configurar autorización de requests
                 .authorizeHttpRequests(auth -> auth
+                        // Despachos asíncronos (SSE, descargas): la petición original ya fue autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Endpoints públicos (sin autenticación)
                         .requestMatchers(HttpMethod.POST, "/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/usuarios").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // Hub WebSocket: el JWT se valida en el handshake (AutenticacionHandshake)
+                        .requestMatchers(HttpMethod.GET, "/ws/foro").permitAll()
 
                         // Endpoints solo para ADMIN
                         .requestMatchers(HttpMethod.DELETE, "/usuarios/*").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/usuarios/*/desbloquear").hasRole("ADMIN")
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
 
                         // Todos los demás endpoints requieren autenticación
                         .anyRequest().authenticated()
@@ -90,9 +101,23 @@ public class SecurityConfigurations {
     /*
      Bean para encriptar contraseñas con BCrypt
      Spring Security lo usa automáticamente para comparar passwords
+     Cada comparación emite un evento JFR si hay una grabación activa (es la parte más costosa del login)
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        EventType tipoEvento = EventType.getEventType(VerificacionContrasenaEvent.class);
+        return new BCryptPasswordEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                if (!tipoEvento.isEnabled()) {
+                    return super.matches(rawPassword, encodedPassword);
+                }
+                VerificacionContrasenaEvent evento = new VerificacionContrasenaEvent();
+                evento.begin();
+                evento.coincide = super.matches(rawPassword, encodedPassword);
+                evento.commit();
+                return evento.coincide;
+            }
+        };
     }
 }
\ No newline at end of file
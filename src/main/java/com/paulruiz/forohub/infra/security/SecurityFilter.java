@@ -1,5 +1,6 @@
 package com.paulruiz.forohub.infra.security;
 
+import com.paulruiz.forohub.infra.jfr.CargaPrincipalEvent;
 import com.paulruiz.forohub.repository.UsuarioRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -57,8 +58,8 @@ public class SecurityFilter extends OncePerRequestFilter {
 
             if (email != null) {
 
-                // 3. Buscar el usuario en la base de datos
-                UserDetails usuario = usuarioRepository.findByEmail(email);
+                // 3. Buscar el usuario en la base de datos (evento JFR con la duración)
+                UserDetails usuario = CargaPrincipalEvent.medir("jwt", () -> usuarioRepository.findByEmail(email));
 
                 // 4. Crear objeto de autenticación
                 UsernamePasswordAuthenticationToken authentication =
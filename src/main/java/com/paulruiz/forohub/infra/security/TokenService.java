@@ -4,7 +4,9 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.paulruiz.forohub.infra.jfr.VerificacionJwtEvent;
 import com.paulruiz.forohub.model.Usuario;
+import jdk.jfr.EventType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -18,6 +20,8 @@ import java.time.ZoneOffset;
 @Service
 public class TokenService {
 
+    private static final EventType TIPO_VERIFICACION = EventType.getEventType(VerificacionJwtEvent.class);
+
     // Inyectar la clave secreta desde application.properties
     @Value("${jwt.secret}")
     private String secret;
@@ -64,19 +68,35 @@ public class TokenService {
             throw new RuntimeException("Token nulo");
         }
 
+        // Evento JFR con la duración de la verificación (solo se crea con JFR activo)
+        VerificacionJwtEvent evento = null;
+        if (TIPO_VERIFICACION.isEnabled()) {
+            evento = new VerificacionJwtEvent();
+            evento.begin();
+        }
+
         try {
             // Crear algoritmo de verificación
             Algorithm algorithm = Algorithm.HMAC256(secret);
 
             // Verificar y decodificar el token
-            return JWT.require(algorithm)
+            String subject = JWT.require(algorithm)
                     .withIssuer("forohub")              // Verificar que el emisor sea correcto
                     .build()
                     .verify(token)                      // Verificar firma y expiración
                     .getSubject();                      // Obtener el subject (email)
 
+            if (evento != null) {
+                evento.valido = true;
+            }
+            return subject;
+
         } catch (JWTVerificationException exception) {
             throw new RuntimeException("Token JWT inválido o expirado");
+        } finally {
+            if (evento != null) {
+                evento.commit();
+            }
         }
     }
 
@@ -0,0 +1,89 @@
+package com.paulruiz.forohub.infra.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ Contador de sentencias SQL de la petición HTTP actual (uno por hilo)
+ Lo alimenta RegistroSentencias (cantidad y tiempo de cada ejecución JDBC)
+ y lo inicia/cierra FiltroSentencias
+ */
+public class ContadorSentencias {
+
+    private static final ThreadLocal<ContadorSentencias> ACTUAL = new ThreadLocal<>();
+
+    // Límite de sentencias distintas recordadas para detectar N+1
+    private static final int MAX_SENTENCIAS_DISTINTAS = 200;
+
+    private int sentencias;
+    private long nanos;
+    private long inicioSentencia;
+    private final Map<String, Integer> repeticiones = new HashMap<>();
+
+    // ============================================
+    // Ciclo de vida por petición
+    // ============================================
+
+    public static ContadorSentencias iniciar() {
+        ContadorSentencias contador = new ContadorSentencias();
+        ACTUAL.set(contador);
+        return contador;
+    }
+
+    // Retorna el contador de la petición actual o null fuera de una petición
+
+    public static ContadorSentencias actual() {
+        return ACTUAL.get();
+    }
+
+    public static void finalizar() {
+        ACTUAL.remove();
+    }
+
+    // ============================================
+    // Registro
+    // ============================================
+
+    void iniciarSentencia() {
+        inicioSentencia = System.nanoTime();
+    }
+
+    void terminarSentencia(String sql) {
+        nanos += System.nanoTime() - inicioSentencia;
+        sentencias++;
+        Integer veces = repeticiones.get(sql);
+        if (veces != null) {
+            repeticiones.put(sql, veces + 1);
+        } else if (repeticiones.size() < MAX_SENTENCIAS_DISTINTAS) {
+            repeticiones.put(sql, 1);
+        }
+    }
+
+    public int getSentencias() {
+        return sentencias;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    // Veces que se ejecutó cada sentencia distinta (copia)
+
+    public Map<String, Integer> repeticiones() {
+        return Map.copyOf(repeticiones);
+    }
+
+    /*
+     Sentencias ejecutadas al menos "umbral" veces en la petición
+     (síntoma típico de N+1 al recorrer asociaciones lazy)
+     */
+    public Map<String, Integer> repetidas(int umbral) {
+        Map<String, Integer> resultado = new HashMap<>();
+        repeticiones.forEach((sql, veces) -> {
+            if (veces >= umbral) {
+                resultado.put(sql, veces);
+            }
+        });
+        return resultado;
+    }
+}
@@ -0,0 +1,180 @@
+package com.paulruiz.forohub.infra.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ Filtro que mide las sentencias SQL de cada petición HTTP
+ - Agrega las cabeceras X-SQL-Sentencias y X-SQL-Tiempo-Ms a la respuesta
+ - Registra un warning si la petición supera el presupuesto de sentencias
+   o si alguna sentencia se repite (posible N+1)
+
+ Se ejecuta antes que los filtros de seguridad para contar también
+ la búsqueda del usuario del JWT
+ */
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class FiltroSentencias extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(FiltroSentencias.class);
+
+    public static final String CABECERA_SENTENCIAS = "X-SQL-Sentencias";
+    public static final String CABECERA_TIEMPO = "X-SQL-Tiempo-Ms";
+
+    // Agregar cabeceras con la cantidad y tiempo de sentencias
+    @Value("${forohub.sql.cabeceras:true}")
+    private boolean cabeceras;
+
+    // Máximo de sentencias por petición antes de registrar un warning
+    @Value("${forohub.sql.presupuesto-por-peticion:20}")
+    private int presupuesto;
+
+    // Veces que debe repetirse una sentencia para considerarla N+1
+    @Value("${forohub.sql.umbral-repeticiones:5}")
+    private int umbralRepeticiones;
+
+    // Observadores de cada resumen (usados por las pruebas de presupuesto)
+    private final List<Consumer<ResumenSentencias>> observadores = new CopyOnWriteArrayList<>();
+
+    public void agregarObservador(Consumer<ResumenSentencias> observador) {
+        observadores.add(observador);
+    }
+
+    public void quitarObservador(Consumer<ResumenSentencias> observador) {
+        observadores.remove(observador);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        ContadorSentencias contador = ContadorSentencias.iniciar();
+        RespuestaConCabeceras respuesta = new RespuestaConCabeceras(response, contador);
+
+        try {
+            filterChain.doFilter(request, respuesta);
+        } finally {
+            ContadorSentencias.finalizar();
+            respuesta.agregarCabeceras();
+            evaluar(request, contador);
+        }
+    }
+
+    // ============================================
+    // Presupuesto y detección de N+1
+    // ============================================
+
+    private void evaluar(HttpServletRequest request, ContadorSentencias contador) {
+        if (contador.getSentencias() == 0) {
+            return;
+        }
+
+        Map<String, Integer> repetidas = contador.repetidas(umbralRepeticiones);
+        ResumenSentencias resumen = new ResumenSentencias(
+                endpoint(request),
+                contador.getSentencias(),
+                contador.getNanos() / 1_000_000.0,
+                repetidas,
+                contador.repeticiones()
+        );
+
+        if (resumen.sentencias() > presupuesto) {
+            log.warn("{} ejecutó {} sentencias SQL ({} ms), presupuesto: {}",
+                    resumen.endpoint(), resumen.sentencias(), resumen.tiempoMs(), presupuesto);
+        }
+        repetidas.forEach((sql, veces) ->
+                log.warn("Posible N+1 en {}: sentencia ejecutada {} veces: {}",
+                        resumen.endpoint(), veces, sql));
+
+        observadores.forEach(observador -> observador.accept(resumen));
+    }
+
+    // Usa el patrón de la ruta (sin IDs) para agrupar endpoints
+
+    private String endpoint(HttpServletRequest request) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String ruta = patron != null ? patron.toString() : request.getRequestURI();
+        return request.getMethod() + " " + ruta;
+    }
+
+    // ============================================
+    // Respuesta que agrega las cabeceras antes del commit
+    // ============================================
+
+    /*
+     Las cabeceras deben escribirse antes de que el cuerpo comprometa la respuesta
+     Se agregan justo antes de la primera escritura o, si no hay cuerpo, al final
+     */
+    private class RespuestaConCabeceras extends HttpServletResponseWrapper {
+
+        private final ContadorSentencias contador;
+        private boolean agregadas;
+
+        RespuestaConCabeceras(HttpServletResponse response, ContadorSentencias contador) {
+            super(response);
+            this.contador = contador;
+        }
+
+        void agregarCabeceras() {
+            if (agregadas || !cabeceras || isCommitted()) {
+                return;
+            }
+            agregadas = true;
+            setHeader(CABECERA_SENTENCIAS, String.valueOf(contador.getSentencias()));
+            setHeader(CABECERA_TIEMPO, String.format(Locale.ROOT, "%.1f", contador.getNanos() / 1_000_000.0));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            agregarCabeceras();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            agregarCabeceras();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            agregarCabeceras();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            agregarCabeceras();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            agregarCabeceras();
+            super.sendError(sc);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.paulruiz.forohub.infra.sql;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paulruiz.forohub.dto.SentenciaLentaDTO;
+import com.paulruiz.forohub.infra.jfr.SentenciaSqlEvent;
+import jdk.jfr.EventType;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/*
+ Listener del proxy del DataSource (datasource-proxy) que mide cada sentencia JDBC
+ Es la única medición de SQL de la aplicación (ve también JdbcTemplate y las nativas)
+
+ - Suma cantidad y tiempo al contador de la petición actual (FiltroSentencias, N+1)
+ - Con una grabación JFR activa emite un SentenciaSqlEvent por ejecución
+ - Registra como JSON (logger "forohub.sql", appender asíncrono en logback-spring.xml)
+   las sentencias que superan el umbral de lentitud y una muestra aleatoria del resto
+ - Acumula por SQL las ejecuciones y tiempos para la tabla GET /admin/sql/lentas
+
+ Solo se registra el SQL preparado (con ?), nunca los valores de los parámetros
+ */
+
+@Component
+public class RegistroSentencias implements QueryExecutionListener {
+
+    private static final Logger logSql = LoggerFactory.getLogger("forohub.sql");
+
+    private static final EventType TIPO_EVENTO = EventType.getEventType(SentenciaSqlEvent.class);
+
+    // Evento JFR de la sentencia en curso del hilo (solo con el evento habilitado)
+    private static final ThreadLocal<SentenciaSqlEvent> EVENTO = new ThreadLocal<>();
+
+    // Límite de sentencias distintas acumuladas en la tabla
+    private static final int MAX_SENTENCIAS_DISTINTAS = 1000;
+
+    // Sentencias más lentas que este umbral se registran siempre
+    @Value("${forohub.sql.umbral-lenta:200ms}")
+    private Duration umbralLenta;
+
+    // Fracción (0 a 1) de las sentencias rápidas que se registran
+    @Value("${forohub.sql.tasa-muestreo:0.0}")
+    private double tasaMuestreo;
+
+    // Filas que retorna la tabla de sentencias más lentas
+    @Value("${forohub.sql.top-lentas:20}")
+    private int topLentas;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, Estadistica> estadisticas = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        ContadorSentencias contador = ContadorSentencias.actual();
+        if (contador != null) {
+            contador.iniciarSentencia();
+        }
+        if (TIPO_EVENTO.isEnabled()) {
+            SentenciaSqlEvent evento = new SentenciaSqlEvent();
+            evento.begin();
+            EVENTO.set(evento);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining("; "));
+        long ms = execInfo.getElapsedTime();
+
+        ContadorSentencias contador = ContadorSentencias.actual();
+        if (contador != null) {
+            contador.terminarSentencia(sql);
+        }
+        terminarEvento(sql, execInfo.isBatch());
+
+        acumular(sql, ms);
+
+        boolean lenta = ms >= umbralLenta.toMillis();
+        if (lenta || (tasaMuestreo > 0 && ThreadLocalRandom.current().nextDouble() < tasaMuestreo)) {
+            registrar(new SentenciaRegistrada(
+                    Instant.now().toString(),
+                    lenta ? "lenta" : "muestra",
+                    ms,
+                    sql,
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                    execInfo.isSuccess(),
+                    Thread.currentThread().getName()
+            ));
+        }
+    }
+
+    private void terminarEvento(String sql, boolean lote) {
+        SentenciaSqlEvent evento = EVENTO.get();
+        if (evento != null) {
+            EVENTO.remove();
+            evento.sql = sql;
+            evento.lote = lote;
+            evento.commit();
+        }
+    }
+
+    // ============================================
+    // Tabla de sentencias más lentas
+    // ============================================
+
+    // Top N ordenado por el tiempo máximo de una ejecución
+
+    public List<SentenciaLentaDTO> masLentas() {
+        return estadisticas.entrySet().stream()
+                .map(entrada -> entrada.getValue().aDTO(entrada.getKey()))
+                .sorted(Comparator.comparingLong(SentenciaLentaDTO::tiempoMaximoMs).reversed()
+                        .thenComparing(Comparator.comparingDouble(SentenciaLentaDTO::tiempoTotalMs).reversed()))
+                .limit(topLentas)
+                .toList();
+    }
+
+    public void reiniciar() {
+        estadisticas.clear();
+    }
+
+    private void acumular(String sql, long ms) {
+        Estadistica estadistica = estadisticas.get(sql);
+        if (estadistica == null) {
+            if (estadisticas.size() >= MAX_SENTENCIAS_DISTINTAS) {
+                return;
+            }
+            estadistica = estadisticas.computeIfAbsent(sql, s -> new Estadistica());
+        }
+        estadistica.agregar(ms);
+    }
+
+    // ============================================
+    // Log estructurado
+    // ============================================
+
+    private void registrar(SentenciaRegistrada sentencia) {
+        try {
+            logSql.info(objectMapper.writeValueAsString(sentencia));
+        } catch (JsonProcessingException e) {
+            logSql.warn("No se pudo serializar la sentencia: {}", e.getMessage());
+        }
+    }
+
+    // Línea JSON de cada sentencia registrada
+
+    record SentenciaRegistrada(
+            String fecha,
+            String motivo,
+            long ms,
+            String sql,
+            int lote,
+            boolean exito,
+            String hilo
+    ) {
+    }
+
+    // Contadores de una sentencia (sin bloqueo, actualizados desde varios hilos)
+
+    private static class Estadistica {
+
+        private final LongAdder ejecuciones = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final AtomicLong maximoMs = new AtomicLong();
+
+        void agregar(long ms) {
+            ejecuciones.increment();
+            totalMs.add(ms);
+            maximoMs.accumulateAndGet(ms, Math::max);
+        }
+
+        SentenciaLentaDTO aDTO(String sql) {
+            long cantidad = ejecuciones.sum();
+            long total = totalMs.sum();
+            return new SentenciaLentaDTO(
+                    sql,
+                    cantidad,
+                    total,
+                    cantidad == 0 ? 0 : (double) total / cantidad,
+                    maximoMs.get()
+            );
+        }
+    }
+}
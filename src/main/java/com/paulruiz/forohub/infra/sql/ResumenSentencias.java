@@ -0,0 +1,21 @@
+package com.paulruiz.forohub.infra.sql;
+
+import java.util.Map;
+
+/*
+ Resumen de las sentencias SQL ejecutadas en una petición HTTP
+
+ @param endpoint Método y patrón de la ruta (ejem: GET /topicos/{id})
+ @param sentencias Cantidad de sentencias ejecutadas (un lote JDBC cuenta como una)
+ @param tiempoMs Tiempo total de ejecución JDBC en milisegundos
+ @param repetidas Sentencias repetidas sobre el umbral de N+1 (sql → veces)
+ @param repeticiones Todas las sentencias de la petición, sin umbral (sql → veces)
+ */
+public record ResumenSentencias(
+        String endpoint,
+        int sentencias,
+        double tiempoMs,
+        Map<String, Integer> repetidas,
+        Map<String, Integer> repeticiones
+) {
+}
@@ -0,0 +1,85 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import com.auth0.jwt.JWT;
+import com.paulruiz.forohub.infra.security.TokenService;
+import com.paulruiz.forohub.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ Autentica el handshake de /ws/foro con el mismo JWT de la API
+
+ El token se toma de la cabecera Authorization o, para navegadores (la API
+ WebSocket no permite cabeceras), del subprotocolo:
+ new WebSocket(url, ["forohub.jwt", token]) -> Sec-WebSocket-Protocol: forohub.jwt, {token}
+ El servidor responde con "forohub.jwt"; el token nunca va en la URL (ni en los logs de acceso)
+
+ Sin token válido o con el usuario bloqueado se responde 401 y no se abre la conexión
+ La expiración del token queda en los atributos: HubForo cierra la sesión al vencer
+ */
+
+@Component
+public class AutenticacionHandshake implements HandshakeInterceptor {
+
+    static final String PROTOCOLO = "forohub.jwt";
+    static final String ATRIBUTO_EMAIL = "email";
+    static final String ATRIBUTO_EXPIRA = "expira";
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = extraerToken(request);
+        if (token != null) {
+            try {
+                String email = tokenService.getSubject(token);
+                UserDetails usuario = usuarioRepository.findByEmail(email);
+                if (usuario != null && usuario.isEnabled()) {
+                    attributes.put(ATRIBUTO_EMAIL, email);
+                    attributes.put(ATRIBUTO_EXPIRA, JWT.decode(token).getExpiresAtAsInstant());
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                // Token inválido o expirado
+            }
+        }
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        return false;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String extraerToken(ServerHttpRequest request) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring("Bearer ".length());
+        }
+
+        // Subprotocolo: el valor que sigue a "forohub.jwt" es el token
+        List<String> protocolos = new WebSocketHttpHeaders(request.getHeaders()).getSecWebSocketProtocol();
+        int indice = protocolos.indexOf(PROTOCOLO);
+        if (indice >= 0 && indice + 1 < protocolos.size()) {
+            return protocolos.get(indice + 1);
+        }
+        return null;
+    }
+}
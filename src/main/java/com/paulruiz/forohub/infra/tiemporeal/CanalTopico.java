@@ -0,0 +1,122 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ Canal de eventos de un tópico: suscriptores conectados + historial reciente
+
+ El historial permite reanudar con Last-Event-ID. "completoDesde" es el id a partir
+ del cual el historial no tiene huecos: si el cliente pide algo anterior, no se puede
+ reanudar y debe recargar las respuestas.
+
+ Publicar y suscribirse toman el mismo lock, así un cliente que se suscribe
+ recibe cada evento exactamente una vez (por historial o en vivo).
+ */
+class CanalTopico {
+
+    static final String TIPO_REINICIAR = "reiniciar";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<EventoTopico> historial = new ArrayDeque<>();
+    private final Set<SuscriptorSse> suscriptores = new HashSet<>();
+    private final int capacidadHistorial;
+
+    private long completoDesde;
+    private volatile long ultimaActividad;
+
+    CanalTopico(int capacidadHistorial, long creadoEnId) {
+        this.capacidadHistorial = capacidadHistorial;
+        this.completoDesde = creadoEnId;
+        this.ultimaActividad = System.nanoTime();
+    }
+
+    /*
+     Agrega el evento al historial y lo entrega a los suscriptores
+
+     @return Suscriptores lentos (buffer lleno) que deben ser desalojados
+     */
+    List<SuscriptorSse> publicar(EventoTopico evento) {
+        List<SuscriptorSse> lentos = new ArrayList<>();
+        lock.lock();
+        try {
+            if (historial.size() == capacidadHistorial) {
+                completoDesde = historial.removeFirst().id();
+            }
+            historial.addLast(evento);
+
+            for (SuscriptorSse suscriptor : suscriptores) {
+                if (!suscriptor.ofrecer(evento)) {
+                    lentos.add(suscriptor);
+                }
+            }
+            suscriptores.removeAll(lentos);
+        } finally {
+            lock.unlock();
+        }
+        ultimaActividad = System.nanoTime();
+        return lentos;
+    }
+
+    /*
+     Registra al suscriptor y le encola los eventos posteriores a ultimoId
+     Si no se puede reanudar (eventos fuera del historial o que no caben en su buffer)
+     recibe un evento "reiniciar": el cliente debe recargar GET /topicos/{id}/respuestas
+
+     @param ultimoId Último evento recibido por el cliente (null si es una conexión nueva)
+     */
+    void suscribir(SuscriptorSse suscriptor, Long ultimoId) {
+        lock.lock();
+        try {
+            if (ultimoId != null) {
+                List<EventoTopico> pendientes = historial.stream()
+                        .filter(evento -> evento.id() > ultimoId)
+                        .toList();
+
+                if (ultimoId >= completoDesde && pendientes.size() <= suscriptor.capacidadLibre()) {
+                    pendientes.forEach(suscriptor::ofrecer);
+                } else {
+                    long ultimoDelCanal = historial.isEmpty() ? completoDesde : historial.getLast().id();
+                    suscriptor.ofrecer(new EventoTopico(ultimoDelCanal, TIPO_REINICIAR, "{}"));
+                }
+            }
+            suscriptores.add(suscriptor);
+        } finally {
+            lock.unlock();
+        }
+        ultimaActividad = System.nanoTime();
+    }
+
+    // @return true si el suscriptor seguía registrado (cerrar puede llamarse varias veces)
+
+    boolean quitar(SuscriptorSse suscriptor) {
+        boolean quitado;
+        lock.lock();
+        try {
+            quitado = suscriptores.remove(suscriptor);
+        } finally {
+            lock.unlock();
+        }
+        ultimaActividad = System.nanoTime();
+        return quitado;
+    }
+
+    int cantidadSuscriptores() {
+        lock.lock();
+        try {
+            return suscriptores.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Sin suscriptores ni eventos durante "retencionNanos": se puede descartar el canal
+
+    boolean inactivo(long ahora, long retencionNanos) {
+        return ahora - ultimaActividad > retencionNanos && cantidadSuscriptores() == 0;
+    }
+}
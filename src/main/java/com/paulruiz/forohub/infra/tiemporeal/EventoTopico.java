@@ -0,0 +1,11 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+/*
+ Evento de un tópico ya serializado a JSON (se serializa una sola vez para todos los suscriptores)
+
+ @param id Identificador creciente, usado como id SSE (Last-Event-ID)
+ @param tipo Nombre del evento SSE (respuesta-creada, status, ...)
+ @param json Datos del evento en JSON
+ */
+public record EventoTopico(long id, String tipo, String json) {
+}
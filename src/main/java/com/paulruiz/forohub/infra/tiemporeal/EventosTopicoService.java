@@ -0,0 +1,202 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paulruiz.forohub.dto.RespuestaEliminadaDTO;
+import com.paulruiz.forohub.dto.StatusTopicoDTO;
+import com.paulruiz.forohub.dto.TopicoEliminadoDTO;
+import com.paulruiz.forohub.infra.eventos.EventoDominio;
+import com.paulruiz.forohub.infra.eventos.OyenteDominio;
+import com.paulruiz.forohub.infra.eventos.RespuestaActualizada;
+import com.paulruiz.forohub.infra.eventos.RespuestaCreada;
+import com.paulruiz.forohub.infra.eventos.RespuestaEliminada;
+import com.paulruiz.forohub.infra.eventos.SolucionMarcada;
+import com.paulruiz.forohub.infra.eventos.StatusCambiado;
+import com.paulruiz.forohub.infra.eventos.TopicoEliminado;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ Servicio de eventos en tiempo real por tópico (GET /topicos/{id}/eventos, SSE)
+
+ - Oyente "sse" del bus de eventos: recibe respuestas creadas, actualizadas, eliminadas,
+   soluciones, cambios de status y borrados del tópico ya confirmados (con 1 hilo, en orden)
+ - Cada evento se serializa una vez y se comparte entre todos los suscriptores
+ - Registro de canales por tópico con historial para reanudar con Last-Event-ID
+ - Los IDs parten del reloj al arrancar, así siguen creciendo después de un reinicio
+
+ Métricas: forohub.sse.conexiones (gauge) y forohub.sse.desalojos (contador)
+ */
+
+@Service
+public class EventosTopicoService implements OyenteDominio {
+
+    private static final Logger log = LoggerFactory.getLogger(EventosTopicoService.class);
+
+    // Cantidad de canales a partir de la cual se descartan los inactivos
+    private static final int MAX_CANALES_ANTES_DE_PURGAR = 10_000;
+
+    // Eventos pendientes por conexión antes de desalojar al cliente
+    @Value("${forohub.sse.buffer:64}")
+    private int capacidadBuffer;
+
+    // Eventos recientes por tópico disponibles para Last-Event-ID
+    @Value("${forohub.sse.historial:100}")
+    private int capacidadHistorial;
+
+    // Duración máxima de una conexión (el cliente se reconecta con Last-Event-ID)
+    @Value("${forohub.sse.timeout:30m}")
+    private Duration timeout;
+
+    // Intervalo de comentarios "ping" sin eventos
+    @Value("${forohub.sse.ping:30s}")
+    private Duration ping;
+
+    // Tiempo que se conserva el historial de un tópico sin suscriptores ni eventos
+    @Value("${forohub.sse.retencion:2m}")
+    private Duration retencion;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, CanalTopico> canales = new ConcurrentHashMap<>();
+    private final AtomicLong siguienteId = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicInteger conexiones = new AtomicInteger();
+    private Counter desalojos;
+
+    @PostConstruct
+    public void inicializar() {
+        Gauge.builder("forohub.sse.conexiones", conexiones, AtomicInteger::get)
+                .register(meterRegistry);
+        desalojos = meterRegistry.counter("forohub.sse.desalojos");
+    }
+
+    // ============================================
+    // Suscripción
+    // ============================================
+
+    /*
+     Abre una conexión SSE a los eventos del tópico
+
+     @param topicoId ID del tópico (su existencia la valida el controlador)
+     @param ultimoEventoId Cabecera Last-Event-ID (null en una conexión nueva)
+     @return Emisor SSE de la conexión
+     */
+    public SseEmitter suscribir(Long topicoId, String ultimoEventoId) {
+        purgarSiHaceFalta();
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        CanalTopico canal = canales.computeIfAbsent(topicoId,
+                id -> new CanalTopico(capacidadHistorial, siguienteId.get()));
+
+        SuscriptorSse suscriptor = new SuscriptorSse(topicoId, emitter, capacidadBuffer, ping, this::alCerrar);
+        canal.suscribir(suscriptor, parsearId(ultimoEventoId));
+        conexiones.incrementAndGet();
+        suscriptor.iniciar();
+
+        return emitter;
+    }
+
+    // ============================================
+    // Publicación
+    // ============================================
+
+    @Override
+    public String nombre() {
+        return "sse";
+    }
+
+    @Override
+    public Set<Class<? extends EventoDominio>> tipos() {
+        return Set.of(RespuestaCreada.class, RespuestaActualizada.class, RespuestaEliminada.class,
+                SolucionMarcada.class, StatusCambiado.class, TopicoEliminado.class);
+    }
+
+    @Override
+    public void recibir(EventoDominio evento) {
+        switch (evento) {
+            case RespuestaCreada e -> entregar(e.topicoId(), "respuesta-creada", e.detalle());
+            case RespuestaActualizada e -> entregar(e.topicoId(), "respuesta-actualizada", e.detalle());
+            case RespuestaEliminada e -> entregar(e.topicoId(), "respuesta-eliminada",
+                    new RespuestaEliminadaDTO(e.respuestaId(), e.topicoId()));
+            case SolucionMarcada e -> entregar(e.topicoId(), "solucion-marcada", e.detalle());
+            case StatusCambiado e -> entregar(e.topicoId(), "status", new StatusTopicoDTO(e.topicoId(), e.status()));
+            case TopicoEliminado e -> entregar(e.topicoId(), "topico-eliminado",
+                    new TopicoEliminadoDTO(e.topicoId(), e.cursoId()));
+            default -> {
+            }
+        }
+    }
+
+    private void entregar(Long topicoId, String tipo, Object datos) {
+        CanalTopico canal = canales.get(topicoId);
+        if (canal == null) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(datos);
+        } catch (JsonProcessingException e) {
+            log.warn("No se pudo serializar el evento {} del tópico {}: {}", tipo, topicoId, e.getMessage());
+            return;
+        }
+
+        List<SuscriptorSse> lentos = canal.publicar(new EventoTopico(siguienteId.incrementAndGet(), tipo, json));
+        for (SuscriptorSse lento : lentos) {
+            lento.desalojar();
+            conexiones.decrementAndGet();
+            desalojos.increment();
+        }
+    }
+
+    // ============================================
+    // Utilidades
+    // ============================================
+
+    private void alCerrar(SuscriptorSse suscriptor) {
+        CanalTopico canal = canales.get(suscriptor.getTopicoId());
+        if (canal != null && canal.quitar(suscriptor)) {
+            conexiones.decrementAndGet();
+        }
+    }
+
+    private void purgarSiHaceFalta() {
+        if (canales.size() < MAX_CANALES_ANTES_DE_PURGAR) {
+            return;
+        }
+        long ahora = System.nanoTime();
+        canales.values().removeIf(canal -> canal.inactivo(ahora, retencion.toNanos()));
+    }
+
+    private Long parsearId(String ultimoEventoId) {
+        if (ultimoEventoId == null || ultimoEventoId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(ultimoEventoId.trim());
+        } catch (NumberFormatException e) {
+            // Id desconocido: se trata como muy antiguo (el cliente recibe "reiniciar")
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paulruiz.forohub.dto.StatusTopicoDTO;
+import com.paulruiz.forohub.dto.TopicoEliminadoDTO;
+import com.paulruiz.forohub.infra.eventos.EventoDominio;
+import com.paulruiz.forohub.infra.eventos.OyenteDominio;
+import com.paulruiz.forohub.infra.eventos.StatusCambiado;
+import com.paulruiz.forohub.infra.eventos.TopicoCreado;
+import com.paulruiz.forohub.infra.eventos.TopicoEliminado;
+import com.paulruiz.forohub.model.StatusTopico;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ Hub WebSocket del foro (/ws/foro): tópicos nuevos y eliminados por curso y cambios de status
+
+ Canales:
+ - foro: todos los tópicos nuevos, eliminados y cambios de status
+ - curso:{id}: tópicos nuevos, eliminados y cambios de status de un curso
+ - topico:{id}: cambios de status y borrado de un tópico
+
+ - Cada mensaje se serializa una sola vez y se comparte entre todas las sesiones
+ - Suscriptores por canal en sets concurrentes: difundir no toma locks
+ - Cada sesión envía en serie desde su cola (hilos virtuales): los mensajes llegan
+   en orden y un cliente lento no frena a los demás
+ - La sesión se cierra (1008) cuando vence el JWT con el que se abrió
+ - Los cambios de status se agrupan por tópico: como máximo uno cada "coalescencia"
+   con el último status (una ráfaga de respuestas produce un solo mensaje)
+ - Oyente "ws" del bus de eventos: solo recibe cambios ya confirmados
+
+ Métricas: forohub.ws.sesiones (gauge) y forohub.ws.mensajes (envíos a sesiones)
+ */
+
+@Service
+public class HubForo implements OyenteDominio {
+
+    private static final Logger log = LoggerFactory.getLogger(HubForo.class);
+
+    static final String CANAL_FORO = "foro";
+    private static final Pattern CANAL_VALIDO = Pattern.compile("foro|curso:\\d{1,18}|topico:\\d{1,18}");
+
+    // Ventana de agrupación de cambios de status por tópico
+    @Value("${forohub.ws.coalescencia:100ms}")
+    private Duration coalescencia;
+
+    // Canales por sesión
+    @Value("${forohub.ws.max-suscripciones:100}")
+    private int maxSuscripciones;
+
+    // Bytes pendientes por sesión antes de desconectarla
+    @Value("${forohub.ws.buffer:262144}")
+    private int bufferBytes;
+
+    // Tiempo máximo de un envío antes de desconectar la sesión
+    @Value("${forohub.ws.tiempo-envio:5s}")
+    private Duration tiempoEnvio;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, SesionForo> sesiones = new ConcurrentHashMap<>();
+    private final Map<String, Set<SesionForo>> canales = new ConcurrentHashMap<>();
+    private final Map<Long, StatusPendiente> statusPendientes = new ConcurrentHashMap<>();
+
+    private final ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService programador = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("forohub-ws-coalescencia").daemon().factory());
+
+    private Counter mensajes;
+
+    private record StatusPendiente(Long cursoId, StatusTopico status) {
+    }
+
+    @PostConstruct
+    public void inicializar() {
+        Gauge.builder("forohub.ws.sesiones", sesiones, Map::size).register(meterRegistry);
+        mensajes = meterRegistry.counter("forohub.ws.mensajes");
+    }
+
+    @PreDestroy
+    public void detener() {
+        programador.shutdownNow();
+        envios.shutdownNow();
+    }
+
+    // ============================================
+    // Sesiones y suscripciones
+    // ============================================
+
+    // La expiración del token la deja AutenticacionHandshake en los atributos de la sesión
+
+    void registrar(WebSocketSession sesion) {
+        SesionForo sesionForo = new SesionForo(sesion, envios, tiempoEnvio, bufferBytes);
+        sesiones.put(sesion.getId(), sesionForo);
+
+        if (sesion.getAttributes().get(AutenticacionHandshake.ATRIBUTO_EXPIRA) instanceof Instant expira) {
+            long restanteMs = Math.max(0, Duration.between(Instant.now(), expira).toMillis());
+            sesionForo.setExpiracion(programador.schedule(
+                    () -> envios.execute(() -> sesionForo.cerrar(SesionForo.TOKEN_EXPIRADO)),
+                    restanteMs, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    void quitar(String sesionId) {
+        SesionForo sesion = sesiones.remove(sesionId);
+        if (sesion != null) {
+            sesion.liberar();
+            sesion.getCanales().forEach(canal -> quitarDeCanal(canal, sesion));
+        }
+    }
+
+    /*
+     Suscribe la sesión a un canal
+
+     @return Mensaje de confirmación o de error para el cliente
+     */
+    MensajeForo suscribir(String sesionId, String canal) {
+        SesionForo sesion = sesiones.get(sesionId);
+        if (sesion == null) {
+            return error("Sesión cerrada");
+        }
+        if (canal == null || !CANAL_VALIDO.matcher(canal).matches()) {
+            return error("Canal inválido: use foro, curso:{id} o topico:{id}");
+        }
+        if (sesion.getCanales().size() >= maxSuscripciones && !sesion.getCanales().contains(canal)) {
+            return error("Máximo de " + maxSuscripciones + " suscripciones por conexión");
+        }
+
+        sesion.getCanales().add(canal);
+        canales.compute(canal, (clave, suscriptores) -> {
+            Set<SesionForo> set = suscriptores != null ? suscriptores : ConcurrentHashMap.newKeySet();
+            set.add(sesion);
+            return set;
+        });
+        return new MensajeForo("suscrito", Map.of("canal", canal));
+    }
+
+    MensajeForo desuscribir(String sesionId, String canal) {
+        SesionForo sesion = sesiones.get(sesionId);
+        if (sesion != null && canal != null && sesion.getCanales().remove(canal)) {
+            quitarDeCanal(canal, sesion);
+        }
+        return new MensajeForo("desuscrito", Map.of("canal", String.valueOf(canal)));
+    }
+
+    // Respuesta directa a una sesión (confirmaciones y errores)
+
+    void responder(String sesionId, MensajeForo mensaje) {
+        SesionForo sesion = sesiones.get(sesionId);
+        TextMessage texto = serializar(mensaje);
+        if (sesion != null && texto != null) {
+            sesion.enviar(texto);
+        }
+    }
+
+    // Quita la sesión del canal y descarta el canal si quedó vacío
+
+    private void quitarDeCanal(String canal, SesionForo sesion) {
+        canales.computeIfPresent(canal, (clave, suscriptores) -> {
+            suscriptores.remove(sesion);
+            return suscriptores.isEmpty() ? null : suscriptores;
+        });
+    }
+
+    // ============================================
+    // Publicación
+    // ============================================
+
+    @Override
+    public String nombre() {
+        return "ws";
+    }
+
+    @Override
+    public Set<Class<? extends EventoDominio>> tipos() {
+        return Set.of(TopicoCreado.class, TopicoEliminado.class, StatusCambiado.class);
+    }
+
+    @Override
+    public void recibir(EventoDominio evento) {
+        switch (evento) {
+            case TopicoCreado e -> difundir(new MensajeForo("topico-creado", e.detalle()),
+                    CANAL_FORO, "curso:" + e.cursoId());
+            case TopicoEliminado e -> eliminarTopico(e.topicoId(), e.cursoId());
+            case StatusCambiado e -> programarStatus(e.topicoId(), e.cursoId(), e.status());
+            default -> {
+            }
+        }
+    }
+
+    // Un status pendiente del tópico borrado ya no se envía
+
+    private void eliminarTopico(Long topicoId, Long cursoId) {
+        statusPendientes.remove(topicoId);
+        difundir(new MensajeForo("topico-eliminado", new TopicoEliminadoDTO(topicoId, cursoId)),
+                CANAL_FORO, "curso:" + cursoId, "topico:" + topicoId);
+    }
+
+    /*
+     Programa el envío del status del tópico al final de la ventana de coalescencia
+     Si ya había uno pendiente solo se reemplaza (se envía el último)
+     */
+    private void programarStatus(Long topicoId, Long cursoId, StatusTopico status) {
+        if (statusPendientes.put(topicoId, new StatusPendiente(cursoId, status)) == null) {
+            programador.schedule(() -> emitirStatus(topicoId), coalescencia.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void emitirStatus(Long topicoId) {
+        StatusPendiente pendiente = statusPendientes.remove(topicoId);
+        if (pendiente != null) {
+            difundir(new MensajeForo("status", new StatusTopicoDTO(topicoId, pendiente.status())),
+                    CANAL_FORO, "curso:" + pendiente.cursoId(), "topico:" + topicoId);
+        }
+    }
+
+    // Una sesión suscrita a varios de los canales recibe el mensaje una sola vez
+
+    private void difundir(MensajeForo mensaje, String... destinos) {
+        Set<SesionForo> destinatarios = new HashSet<>();
+        for (String canal : destinos) {
+            Set<SesionForo> suscriptores = canales.get(canal);
+            if (suscriptores != null) {
+                destinatarios.addAll(suscriptores);
+            }
+        }
+        if (destinatarios.isEmpty()) {
+            return;
+        }
+
+        TextMessage texto = serializar(mensaje);
+        if (texto == null) {
+            return;
+        }
+        for (SesionForo sesion : destinatarios) {
+            sesion.enviar(texto);
+        }
+        mensajes.increment(destinatarios.size());
+    }
+
+    private TextMessage serializar(MensajeForo mensaje) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(mensaje));
+        } catch (JsonProcessingException e) {
+            log.warn("No se pudo serializar el mensaje {}: {}", mensaje.tipo(), e.getMessage());
+            return null;
+        }
+    }
+
+    private MensajeForo error(String mensaje) {
+        return new MensajeForo("error", Map.of("mensaje", mensaje));
+    }
+}
@@ -0,0 +1,69 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ Protocolo del cliente en /ws/foro (JSON):
+ {"accion": "suscribir", "canal": "curso:3"}
+ {"accion": "desuscribir", "canal": "curso:3"}
+
+ La sesión ya llega autenticada por AutenticacionHandshake
+ Declara el subprotocolo "forohub.jwt" para que el handshake lo acepte y lo devuelva al navegador
+ */
+
+@Component
+public class ManejadorForoWebSocket extends TextWebSocketHandler implements SubProtocolCapable {
+
+    @Autowired
+    private HubForo hub;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    record SolicitudForo(String accion, String canal) {
+    }
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(AutenticacionHandshake.PROTOCOLO);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        hub.registrar(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        SolicitudForo solicitud;
+        try {
+            solicitud = objectMapper.readValue(message.getPayload(), SolicitudForo.class);
+        } catch (JsonProcessingException e) {
+            hub.responder(session.getId(), new MensajeForo("error", Map.of("mensaje", "JSON inválido")));
+            return;
+        }
+
+        MensajeForo respuesta = switch (String.valueOf(solicitud.accion())) {
+            case "suscribir" -> hub.suscribir(session.getId(), solicitud.canal());
+            case "desuscribir" -> hub.desuscribir(session.getId(), solicitud.canal());
+            default -> new MensajeForo("error", Map.of("mensaje", "Acción desconocida: use suscribir o desuscribir"));
+        };
+        hub.responder(session.getId(), respuesta);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        hub.quitar(session.getId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+/*
+ Mensaje del hub WebSocket (/ws/foro), se serializa una vez para todos los destinatarios
+
+ @param tipo topico-creado, status, suscrito, desuscrito o error
+ @param datos DTO del evento
+ */
+public record MensajeForo(String tipo, Object datos) {
+}
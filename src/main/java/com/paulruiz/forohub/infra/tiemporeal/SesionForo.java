@@ -0,0 +1,163 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ Sesión WebSocket conectada al hub con sus canales suscritos
+
+ Envíos en serie: cada mensaje entra en la cola de la sesión y una sola tarea
+ a la vez (en el ejecutor del hub) la vacía, así los mensajes llegan en el orden
+ en que se encolaron aunque los publiquen hilos distintos
+
+ Cliente lento: si la cola supera "bufferBytes" o un envío tarda más de
+ "tiempoEnvio", la sesión se cierra en vez de acumular mensajes
+ */
+class SesionForo {
+
+    private static final Logger log = LoggerFactory.getLogger(SesionForo.class);
+
+    static final CloseStatus TOKEN_EXPIRADO = CloseStatus.POLICY_VIOLATION.withReason("Token expirado");
+
+    private final WebSocketSession sesion;
+    private final Executor ejecutor;
+    private final long tiempoEnvioNanos;
+    private final int bufferBytes;
+    private final Set<String> canales = ConcurrentHashMap.newKeySet();
+
+    private final Queue<TextMessage> pendientes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bytesPendientes = new AtomicInteger();
+    private final AtomicBoolean enviando = new AtomicBoolean();
+
+    // Inicio (System.nanoTime) del envío en curso, 0 si no hay ninguno
+    private volatile long inicioEnvio;
+
+    // Cierre programado al vencer el token (se cancela si la sesión termina antes)
+    private volatile Future<?> expiracion;
+
+    SesionForo(WebSocketSession sesion, Executor ejecutor, Duration tiempoEnvio, int bufferBytes) {
+        this.sesion = sesion;
+        this.ejecutor = ejecutor;
+        this.tiempoEnvioNanos = tiempoEnvio.toNanos();
+        this.bufferBytes = bufferBytes;
+    }
+
+    String getId() {
+        return sesion.getId();
+    }
+
+    Set<String> getCanales() {
+        return canales;
+    }
+
+    void setExpiracion(Future<?> expiracion) {
+        this.expiracion = expiracion;
+    }
+
+    // ============================================
+    // Envío en serie
+    // ============================================
+
+    // Encola el mensaje y, si no hay una tarea enviando, lanza una
+
+    void enviar(TextMessage mensaje) {
+        if (!sesion.isOpen()) {
+            return;
+        }
+        long inicio = inicioEnvio;
+        if (inicio != 0 && System.nanoTime() - inicio > tiempoEnvioNanos) {
+            desconectarLenta("envío de más de " + tiempoEnvioNanos / 1_000_000 + " ms");
+            return;
+        }
+
+        pendientes.add(mensaje);
+        if (bytesPendientes.addAndGet(mensaje.getPayloadLength()) > bufferBytes) {
+            desconectarLenta("más de " + bufferBytes + " bytes pendientes");
+            return;
+        }
+        programar();
+    }
+
+    private void programar() {
+        if (enviando.compareAndSet(false, true)) {
+            ejecutor.execute(this::vaciar);
+        }
+    }
+
+    private void vaciar() {
+        try {
+            TextMessage mensaje;
+            while ((mensaje = pendientes.poll()) != null) {
+                bytesPendientes.addAndGet(-mensaje.getPayloadLength());
+                if (!sesion.isOpen()) {
+                    descartarPendientes();
+                    return;
+                }
+                inicioEnvio = System.nanoTime();
+                try {
+                    sesion.sendMessage(mensaje);
+                } catch (IOException | IllegalStateException e) {
+                    // Cliente desconectado: afterConnectionClosed limpia las suscripciones
+                    descartarPendientes();
+                    cerrar(CloseStatus.SERVER_ERROR);
+                    return;
+                } finally {
+                    inicioEnvio = 0;
+                }
+            }
+        } finally {
+            enviando.set(false);
+            // Un mensaje encolado justo después del último poll
+            if (!pendientes.isEmpty() && sesion.isOpen()) {
+                programar();
+            }
+        }
+    }
+
+    private void desconectarLenta(String motivo) {
+        log.debug("Sesión WebSocket {} desconectada por lenta: {}", getId(), motivo);
+        descartarPendientes();
+        cerrar(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void descartarPendientes() {
+        pendientes.clear();
+        bytesPendientes.set(0);
+    }
+
+    // ============================================
+    // Cierre
+    // ============================================
+
+    void cerrar(CloseStatus status) {
+        try {
+            sesion.close(status);
+        } catch (IOException e) {
+            // La conexión ya estaba cerrada
+        }
+    }
+
+    // Al quitar la sesión del hub
+
+    void liberar() {
+        Future<?> tarea = expiracion;
+        if (tarea != null) {
+            tarea.cancel(false);
+        }
+        descartarPendientes();
+    }
+}
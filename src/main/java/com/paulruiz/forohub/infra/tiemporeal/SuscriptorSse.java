@@ -0,0 +1,116 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+ Conexión SSE de un cliente a un tópico
+
+ - Buffer acotado: quien publica solo hace offer(), nunca espera al cliente
+ - Un hilo virtual por conexión vacía el buffer y escribe en el socket;
+   un cliente lento solo bloquea su propio hilo
+ - Si el buffer se llena el cliente es desalojado (se cierra la conexión y
+   puede reconectarse con Last-Event-ID)
+ - Sin eventos durante "ping" se envía un comentario para detectar conexiones muertas
+ */
+class SuscriptorSse {
+
+    // Marca de fin para despertar al hilo escritor
+    private static final EventoTopico FIN = new EventoTopico(-1, "", "");
+
+    private final Long topicoId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<EventoTopico> buffer;
+    private final Duration ping;
+    private final Consumer<SuscriptorSse> alCerrar;
+    private volatile boolean cerrado;
+
+    SuscriptorSse(Long topicoId, SseEmitter emitter, int capacidad, Duration ping,
+                  Consumer<SuscriptorSse> alCerrar) {
+        this.topicoId = topicoId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(capacidad);
+        this.ping = ping;
+        this.alCerrar = alCerrar;
+
+        emitter.onCompletion(this::cerrar);
+        emitter.onTimeout(this::cerrar);
+        emitter.onError(error -> cerrar());
+    }
+
+    Long getTopicoId() {
+        return topicoId;
+    }
+
+    void iniciar() {
+        Thread.ofVirtual().name("sse-topico-" + topicoId).start(this::escribir);
+    }
+
+    /*
+     Encola un evento sin bloquear
+
+     @return false si el buffer está lleno (cliente lento)
+     */
+    boolean ofrecer(EventoTopico evento) {
+        return !cerrado && buffer.offer(evento);
+    }
+
+    int capacidadLibre() {
+        return buffer.remainingCapacity();
+    }
+
+    // Desaloja al cliente: el hilo escritor cierra la conexión al despertar
+
+    void desalojar() {
+        cerrado = true;
+        buffer.clear();
+        buffer.offer(FIN);
+    }
+
+    // ============================================
+    // Hilo escritor
+    // ============================================
+
+    private void escribir() {
+        try {
+            while (!cerrado) {
+                EventoTopico evento = buffer.poll(ping.toMillis(), TimeUnit.MILLISECONDS);
+                if (cerrado) {
+                    break;
+                }
+                if (evento == null) {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(evento.id()))
+                            .name(evento.tipo())
+                            .data(evento.json(), MediaType.APPLICATION_JSON));
+                }
+            }
+            emitter.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado o respuesta ya cerrada
+            emitter.completeWithError(e);
+        } finally {
+            cerrar();
+        }
+    }
+
+    private void cerrar() {
+        if (!cerrado) {
+            cerrado = true;
+            buffer.offer(FIN);
+        }
+        alCerrar.accept(this);
+    }
+}
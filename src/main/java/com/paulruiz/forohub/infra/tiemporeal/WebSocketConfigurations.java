@@ -0,0 +1,37 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/*
+ Configuración del hub WebSocket en /ws/foro
+ La ruta es pública en Spring Security: la autenticación la hace AutenticacionHandshake
+
+ Orígenes: por defecto solo el mismo origen; los front-ends de otro origen se
+ listan en forohub.ws.origenes (patrones separados por comas)
+ */
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfigurations implements WebSocketConfigurer {
+
+    @Autowired
+    private ManejadorForoWebSocket manejador;
+
+    @Autowired
+    private AutenticacionHandshake autenticacion;
+
+    @Value("${forohub.ws.origenes:}")
+    private String[] origenes;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(manejador, "/ws/foro")
+                .addInterceptors(autenticacion)
+                .setAllowedOriginPatterns(origenes);
+    }
+}
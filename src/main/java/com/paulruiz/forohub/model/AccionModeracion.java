@@ -0,0 +1,9 @@
+package com.paulruiz.forohub.model;
+
+
+// Acciones de moderación masiva sobre tópicos (/admin/topicos/moderacion)
+
+public enum AccionModeracion {
+    CERRAR,     // Pasa los tópicos a CERRADO (ya no cambian de status con las respuestas)
+    ELIMINAR    // Borra los tópicos y sus respuestas
+}
@@ -0,0 +1,32 @@
+package com.paulruiz.forohub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/*
+ Entidad de arriendo (lease) de una tarea programada
+ Se toma y renueva con un UPDATE condicional (ver ArriendoRepository),
+ nunca leyendo y guardando la entidad
+ */
+
+@Entity
+@Table(name = "arriendos")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "nombre")
+public class Arriendo {
+
+    @Id
+    @Column(length = 50)
+    private String nombre;
+
+    // Nodo que tiene el arriendo (pid@host)
+    @Column(length = 100)
+    private String titular;
+
+    @Column(nullable = false)
+    private LocalDateTime vence;
+}
@@ -2,13 +2,18 @@ package com.paulruiz.forohub.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /*
  Entidad que representa un curso/categoría del foro
  Un tópico pertenece a un curso (ejem: Spring Boot, React, MySQL)
+ Datos de referencia que casi no cambian: se guardan en la caché de segundo nivel
 */
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "cursos")
 @Getter
 @Setter
@@ -18,7 +23,15 @@ import lombok.*;
 public class Curso {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cursos_gen")
+    @TableGenerator(
+            name = "cursos_gen",
+            table = "id_generadores",
+            pkColumnName = "entidad",
+            valueColumnName = "siguiente_valor",
+            pkColumnValue = "cursos",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
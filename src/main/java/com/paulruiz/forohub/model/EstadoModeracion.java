@@ -0,0 +1,10 @@
+package com.paulruiz.forohub.model;
+
+// Estados de una moderación masiva (/admin/topicos/moderacion)
+
+public enum EstadoModeracion {
+    EN_COLA,     // Esperando a que termine la moderación en curso
+    EN_CURSO,    // Procesando lotes
+    COMPLETADA,  // Terminó sin errores
+    FALLIDA      // Se detuvo por un error o una interrupción (los lotes ya confirmados quedan aplicados)
+}
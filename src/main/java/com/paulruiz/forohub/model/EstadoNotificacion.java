@@ -0,0 +1,9 @@
+package com.paulruiz.forohub.model;
+
+
+// Enum con los estados de una notificación del outbox
+
+public enum EstadoNotificacion {
+    PENDIENTE,   // Por entregar (o esperando el próximo reintento)
+    FALLIDA      // Agotó los reintentos, queda para revisión
+}
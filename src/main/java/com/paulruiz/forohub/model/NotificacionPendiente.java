@@ -0,0 +1,77 @@
+package com.paulruiz.forohub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/*
+ Entidad del outbox transaccional de notificaciones
+ Se inserta en la misma transacción que el cambio que la origina, así
+ nunca se notifica algo que hizo rollback ni se pierde algo confirmado
+
+ El destinatario se guarda como ID (sin relación) para que el despachador
+ trabaje con la entidad fuera de la transacción
+ */
+
+@Entity
+@Table(name = "notificaciones_pendientes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class NotificacionPendiente {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notificaciones_gen")
+    @TableGenerator(
+            name = "notificaciones_gen",
+            table = "id_generadores",
+            pkColumnName = "entidad",
+            valueColumnName = "siguiente_valor",
+            pkColumnValue = "notificaciones_pendientes",
+            allocationSize = 50
+    )
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private TipoNotificacion tipo;
+
+    // Nombre del canal de entrega (una fila por canal)
+    @Column(nullable = false, length = 30)
+    private String canal;
+
+    @Column(name = "destinatario_id", nullable = false)
+    private Long destinatarioId;
+
+    // Datos de la notificación en JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String datos;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoNotificacion estado = EstadoNotificacion.PENDIENTE;
+
+    @Column(nullable = false)
+    private Integer intentos = 0;
+
+    @Column(name = "proximo_intento", nullable = false)
+    private LocalDateTime proximoIntento;
+
+    @Column(name = "ultimo_error", length = 500)
+    private String ultimoError;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @PrePersist
+    public void prePersist() {
+        if (fechaCreacion == null) {
+            fechaCreacion = LocalDateTime.now();
+        }
+        if (proximoIntento == null) {
+            proximoIntento = fechaCreacion;
+        }
+    }
+}
@@ -2,13 +2,18 @@ package com.paulruiz.forohub.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /*
  Entidad que representa un rol/perfil de usuario
  Ejemplos: ROLE_USER, ROLE_ADMIN, ROLE_MODERADOR
+ Cacheada en segundo nivel (se consulta en cada registro de usuario)
 */
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "perfiles")
 @Getter
 @Setter
@@ -18,7 +23,15 @@ import lombok.*;
 public class Perfil {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "perfiles_gen")
+    @TableGenerator(
+            name = "perfiles_gen",
+            table = "id_generadores",
+            pkColumnName = "entidad",
+            valueColumnName = "siguiente_valor",
+            pkColumnValue = "perfiles",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -21,7 +21,15 @@ import java.time.LocalDateTime;
 public class Respuesta {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "respuestas_gen")
+    @TableGenerator(
+            name = "respuestas_gen",
+            table = "id_generadores",
+            pkColumnName = "entidad",
+            valueColumnName = "siguiente_valor",
+            pkColumnValue = "respuestas",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -0,0 +1,43 @@
+package com.paulruiz.forohub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+
+/*
+ Entidad de solo lectura de una respuesta archivada (tabla respuestas_archivo)
+ Se archiva junto con su tópico y con el mismo anio (misma partición)
+ */
+
+@Entity
+@Immutable
+@Table(name = "respuestas_archivo")
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class RespuestaArchivada {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Short anio;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String mensaje;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(nullable = false)
+    private Boolean solucion;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "topico_id", nullable = false)
+    private TopicoArchivado topico;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "autor_id", nullable = false)
+    private Usuario autor;
+}
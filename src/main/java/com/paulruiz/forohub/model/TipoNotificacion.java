@@ -0,0 +1,9 @@
+package com.paulruiz.forohub.model;
+
+
+// Enum con los tipos de notificación del outbox (notificaciones_pendientes)
+
+public enum TipoNotificacion {
+    RESPUESTA_NUEVA,     // Alguien respondió un tópico del destinatario
+    SOLUCION_MARCADA     // Se marcó la solución de un tópico del destinatario o su respuesta
+}
@@ -21,8 +21,18 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(of = "id")
 public class Topico {
 
+    public static final int LARGO_EXTRACTO = 200;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "topicos_gen")
+    @TableGenerator(
+            name = "topicos_gen",
+            table = "id_generadores",
+            pkColumnName = "entidad",
+            valueColumnName = "siguiente_valor",
+            pkColumnValue = "topicos",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -31,6 +41,10 @@ public class Topico {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String mensaje;
 
+    // Primeros caracteres del mensaje para los listados (sin leer el TEXT)
+    @Column(nullable = false, length = LARGO_EXTRACTO)
+    private String extracto;
+
     @Column(name = "fecha_creacion", nullable = false)
     private LocalDateTime fechaCreacion;
 
@@ -60,6 +74,7 @@ public class Topico {
 
     @PrePersist
     public void prePersist() {
+        extracto = extraer(mensaje);
         if (fechaCreacion == null) {
             fechaCreacion = LocalDateTime.now();
         }
@@ -86,6 +101,7 @@ public class Topico {
         }
         if (datos.mensaje() != null) {
             this.mensaje = datos.mensaje();
+            this.extracto = extraer(datos.mensaje());
         }
         if (curso != null) {
             this.curso = curso;
@@ -101,12 +117,16 @@ public class Topico {
      - NO_RESPONDIDO: Sin respuestas
      - NO_SOLUCIONADO: Con respuestas pero sin solución
      - SOLUCIONADO: Con respuesta marcada como solución
+     Un tópico CERRADO (moderación) conserva su status
 
      @param tieneRespuestas Si el tópico tiene respuestas
      @param tieneSolucion Si hay una respuesta marcada como solución
      */
 
     public void actualizarStatus(boolean tieneRespuestas, boolean tieneSolucion) {
+        if (this.status == StatusTopico.CERRADO) {
+            return;
+        }
         if (tieneSolucion) {
             this.status = StatusTopico.SOLUCIONADO;
         } else if (tieneRespuestas) {
@@ -115,4 +135,18 @@ public class Topico {
             this.status = StatusTopico.NO_RESPONDIDO;
         }
     }
-}
\ No newline at end of file
+
+    // ============================================
+    // Extracto del mensaje
+    // ============================================
+
+    // Primeros LARGO_EXTRACTO caracteres, sin cortar un par sustituto (emoji)
+
+    public static String extraer(String mensaje) {
+        if (mensaje == null || mensaje.length() <= LARGO_EXTRACTO) {
+            return mensaje;
+        }
+        int fin = Character.isHighSurrogate(mensaje.charAt(LARGO_EXTRACTO - 1)) ? LARGO_EXTRACTO - 1 : LARGO_EXTRACTO;
+        return mensaje.substring(0, fin);
+    }
+}
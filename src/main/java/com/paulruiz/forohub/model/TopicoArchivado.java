@@ -0,0 +1,56 @@
+package com.paulruiz.forohub.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+
+/*
+ Entidad de solo lectura de un tópico archivado (tabla topicos_archivo)
+ Las filas las escribe el archivador con INSERT ... SELECT desde topicos;
+ el ID es el mismo que tenía el tópico vivo
+
+ anio (año de creación) es la clave de partición: filtrar por él lee una sola partición
+ */
+
+@Entity
+@Immutable
+@Table(name = "topicos_archivo")
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class TopicoArchivado {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Short anio;
+
+    @Column(nullable = false, length = 200)
+    private String titulo;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String mensaje;
+
+    @Column(nullable = false, length = Topico.LARGO_EXTRACTO)
+    private String extracto;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private StatusTopico status;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "autor_id", nullable = false)
+    private Usuario autor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "curso_id", nullable = false)
+    private Curso curso;
+
+    @Column(name = "fecha_archivo", nullable = false)
+    private LocalDateTime fechaArchivo;
+}
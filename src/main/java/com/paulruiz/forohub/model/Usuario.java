@@ -2,6 +2,7 @@ package com.paulruiz.forohub.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,7 +28,15 @@ import java.util.stream.Collectors;
 public class Usuario implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "usuarios_gen")
+    @TableGenerator(
+            name = "usuarios_gen",
+            table = "id_generadores",
+            pkColumnName = "entidad",
+            valueColumnName = "siguiente_valor",
+            pkColumnValue = "usuarios",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -46,7 +55,9 @@ public class Usuario implements UserDetails {
     private LocalDateTime fechaCreacion;
 
     // Relación: Un usuario puede tener múltiples perfiles (ADMIN, USER, etc.)
+    // BatchSize: en listados los perfiles de todos los autores se cargan en un solo IN
     @ManyToMany(fetch = FetchType.EAGER) // EAGER: carga los perfiles siempre (necesario para auth)
+    @BatchSize(size = 100)
     @JoinTable(
             name = "usuarios_perfiles",
             joinColumns = @JoinColumn(name = "usuario_id"),
@@ -0,0 +1,41 @@
+package com.paulruiz.forohub.repository;
+
+import com.paulruiz.forohub.model.Arriendo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// Repository para los arriendos de tareas programadas
+
+@Repository
+public interface ArriendoRepository extends JpaRepository<Arriendo, String> {
+
+    /*
+     Toma (o renueva) el arriendo si está vencido o ya es de este titular
+     La fila queda bloqueada mientras dura el UPDATE: dos nodos nunca lo toman a la vez
+     Vencimiento con el reloj de la base (local datetime): los relojes de los nodos pueden diferir
+
+     @param segundos Duración del arriendo
+     @return 1 si el arriendo quedó para este titular, 0 si lo tiene otro nodo
+     */
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Arriendo a SET a.titular = :titular, " +
+            "a.vence = timestampadd(second, :segundos, local datetime) " +
+            "WHERE a.nombre = :nombre AND (a.vence < local datetime OR a.titular = :titular)")
+    int tomar(@Param("nombre") String nombre,
+              @Param("titular") String titular,
+              @Param("segundos") long segundos);
+
+    // Libera el arriendo (lo deja vencido según el reloj de la base) solo si sigue siendo de este titular
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Arriendo a SET a.vence = local datetime WHERE a.nombre = :nombre AND a.titular = :titular")
+    int liberar(@Param("nombre") String nombre,
+                @Param("titular") String titular);
+}
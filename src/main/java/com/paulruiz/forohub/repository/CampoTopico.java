@@ -0,0 +1,55 @@
+package com.paulruiz.forohub.repository;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/*
+ Campos de un tópico disponibles en los listados proyectados (GET /topicos?fields=)
+ Cada uno con su nombre en el JSON (mismos que DetalleTopicoDTO), la expresión JPQL
+ y la relación que hay que unir para leerlo
+ */
+public enum CampoTopico {
+
+    ID("id", "t.id", Union.NINGUNA),
+    TITULO("titulo", "t.titulo", Union.NINGUNA),
+    MENSAJE("mensaje", "t.mensaje", Union.NINGUNA),
+    EXTRACTO("extracto", "t.extracto", Union.NINGUNA),
+    FECHA_CREACION("fechaCreacion", "t.fechaCreacion", Union.NINGUNA),
+    STATUS("status", "t.status", Union.NINGUNA),
+    NOMBRE_AUTOR("nombreAutor", "a.nombre", Union.AUTOR),
+    EMAIL_AUTOR("emailAutor", "a.email", Union.AUTOR),
+    NOMBRE_CURSO("nombreCurso", "c.nombre", Union.CURSO),
+    CATEGORIA_CURSO("categoriaCurso", "c.categoria", Union.CURSO);
+
+    public enum Union {
+        NINGUNA, AUTOR, CURSO
+    }
+
+    private final String nombre;
+    private final String expresion;
+    private final Union union;
+
+    CampoTopico(String nombre, String expresion, Union union) {
+        this.nombre = nombre;
+        this.expresion = expresion;
+        this.union = union;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getExpresion() {
+        return expresion;
+    }
+
+    public Union getUnion() {
+        return union;
+    }
+
+    public static Optional<CampoTopico> desde(String nombre) {
+        return Arrays.stream(values())
+                .filter(campo -> campo.nombre.equals(nombre))
+                .findFirst();
+    }
+}
@@ -0,0 +1,8 @@
+package com.paulruiz.forohub.repository;
+
+import java.time.LocalDateTime;
+
+// Clave de orden de un tópico (vivo o archivado): basta para mezclar ambos listados sin leer filas completas
+
+public record ClaveTopico(Long id, LocalDateTime fechaCreacion) {
+}
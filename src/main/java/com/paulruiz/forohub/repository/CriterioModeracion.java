@@ -0,0 +1,21 @@
+package com.paulruiz.forohub.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/*
+ Criterio de selección de una moderación masiva
+ Cada filtro es opcional (null = no filtra); desde inclusivo y hasta exclusivo
+
+ @param ids IDs concretos (un lote de la lista pedida)
+ @param soloAbiertos Excluye los tópicos que ya están CERRADO
+ */
+public record CriterioModeracion(
+        Collection<Long> ids,
+        Long cursoId,
+        Long autorId,
+        LocalDateTime desde,
+        LocalDateTime hasta,
+        boolean soloAbiertos
+) {
+}
@@ -0,0 +1,60 @@
+package com.paulruiz.forohub.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/*
+ Pageable por desplazamiento arbitrario (no múltiplo del tamaño de página)
+ Se usa para leer tramos de vivos o archivados al mezclar el listado por fecha
+
+ @param desplazamiento Filas a saltar
+ @param limite Filas a leer (mayor que 0)
+ @param orden Orden de la consulta
+ */
+public record Desplazamiento(long desplazamiento, int limite, Sort orden) implements Pageable {
+
+    @Override
+    public int getPageNumber() {
+        return (int) (desplazamiento / limite);
+    }
+
+    @Override
+    public int getPageSize() {
+        return limite;
+    }
+
+    @Override
+    public long getOffset() {
+        return desplazamiento;
+    }
+
+    @Override
+    public Sort getSort() {
+        return orden;
+    }
+
+    @Override
+    public Pageable next() {
+        return new Desplazamiento(desplazamiento + limite, limite, orden);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return desplazamiento < limite ? first() : new Desplazamiento(desplazamiento - limite, limite, orden);
+    }
+
+    @Override
+    public Pageable first() {
+        return new Desplazamiento(0, limite, orden);
+    }
+
+    @Override
+    public Pageable withPage(int pagina) {
+        return new Desplazamiento((long) pagina * limite, limite, orden);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return desplazamiento > 0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.paulruiz.forohub.repository;
+
+import com.paulruiz.forohub.model.NotificacionPendiente;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Repository del outbox de notificaciones
+
+@Repository
+public interface NotificacionPendienteRepository extends JpaRepository<NotificacionPendiente, Long> {
+
+    /*
+     Bloquea un lote de notificaciones listas para entregar
+     SKIP LOCKED: las filas que otro nodo ya reclamó se saltan en vez de esperar
+
+     @param ahora Fecha actual
+     @param lote Máximo de filas a reclamar
+     @return Notificaciones bloqueadas hasta el fin de la transacción
+     */
+
+    @Query(value = "SELECT * FROM notificaciones_pendientes " +
+            "WHERE estado = 'PENDIENTE' AND proximo_intento <= :ahora " +
+            "ORDER BY proximo_intento LIMIT :lote FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<NotificacionPendiente> reclamarLote(@Param("ahora") LocalDateTime ahora, @Param("lote") int lote);
+}
@@ -1,7 +1,9 @@
 package com.paulruiz.forohub.repository;
 
 import com.paulruiz.forohub.model.Perfil;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,8 +16,11 @@ public interface PerfilRepository extends JpaRepository<Perfil, Long> {
     /*
      Busca un perfil por su nombre
 
+     Resultado guardado en la caché de consultas de Hibernate
+
      @param nombre Nombre del perfil (ejem: ROLE_USER)
      @return Optional con el perfil si existe
      */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Perfil> findByNombre(String nombre);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.paulruiz.forohub.repository;
+
+import com.paulruiz.forohub.model.RespuestaArchivada;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+// Repository para las respuestas archivadas (respuestas_archivo, particionada por año)
+
+@Repository
+public interface RespuestaArchivadaRepository extends JpaRepository<RespuestaArchivada, Long> {
+
+    /*
+     Respuestas de un tópico archivado, más antiguas primero
+
+     @param topicoId ID del tópico
+     @param anio Año del tópico (lee una sola partición)
+     @return Respuestas con tópico y autor
+     */
+
+    @Query("SELECT r FROM RespuestaArchivada r JOIN FETCH r.topico JOIN FETCH r.autor " +
+            "WHERE r.topico.id = :topicoId AND r.anio = :anio ORDER BY r.fechaCreacion ASC")
+    List<RespuestaArchivada> buscarPorTopico(@Param("topicoId") Long topicoId, @Param("anio") Short anio);
+
+    /*
+     Una respuesta archivada con su tópico y su autor (GET /respuestas/{id} de un tópico archivado)
+
+     @param id ID de la respuesta
+     @return Respuesta con tópico y autor, vacía si no está en el archivo
+     */
+
+    @Query("SELECT r FROM RespuestaArchivada r JOIN FETCH r.topico JOIN FETCH r.autor WHERE r.id = :id")
+    Optional<RespuestaArchivada> buscarConTopicoYAutor(@Param("id") Long id);
+}
@@ -2,10 +2,12 @@ package com.paulruiz.forohub.repository;
 
 import com.paulruiz.forohub.model.Respuesta;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 // Repository para operaciones con Respuesta
@@ -43,4 +45,15 @@ public interface RespuestaRepository extends JpaRepository<Respuesta, Long> {
 
     @Query("SELECT COUNT(r) > 0 FROM Respuesta r WHERE r.topico.id = :topicoId AND r.solucion = true")
     boolean existeSolucionEnTopico(@Param("topicoId") Long topicoId);
-}
\ No newline at end of file
+
+    /*
+     Borra en una sola sentencia las respuestas de un lote de tópicos (moderación masiva)
+
+     @param topicoIds IDs de los tópicos
+     @return Cantidad de respuestas borradas
+     */
+
+    @Modifying
+    @Query("DELETE FROM Respuesta r WHERE r.topico.id IN :topicoIds")
+    int eliminarPorTopicos(@Param("topicoIds") Collection<Long> topicoIds);
+}
@@ -0,0 +1,97 @@
+package com.paulruiz.forohub.repository;
+
+import com.paulruiz.forohub.model.TopicoArchivado;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Repository para los tópicos archivados (topicos_archivo, particionada por año)
+
+@Repository
+public interface TopicoArchivadoRepository extends JpaRepository<TopicoArchivado, Long> {
+
+    @Query("SELECT t FROM TopicoArchivado t JOIN FETCH t.autor JOIN FETCH t.curso WHERE t.id = :id")
+    Optional<TopicoArchivado> buscarConAutorYCurso(@Param("id") Long id);
+
+    @Query("SELECT t FROM TopicoArchivado t JOIN FETCH t.autor JOIN FETCH t.curso WHERE t.id IN :ids")
+    List<TopicoArchivado> buscarLoteConAutorYCurso(@Param("ids") Collection<Long> ids);
+
+    /*
+     @param tramo Desplazamiento, tamaño y orden
+     @return Tópicos archivados del tramo con autor y curso (sin COUNT)
+     */
+
+    @Query("SELECT t FROM TopicoArchivado t JOIN FETCH t.autor JOIN FETCH t.curso")
+    List<TopicoArchivado> listarConAutorYCurso(Pageable tramo);
+
+    /*
+     Claves (ID y fecha) de un tramo, para mezclar con los tópicos vivos
+
+     @param tramo Desplazamiento, tamaño y orden por fechaCreacion e id
+     @return Claves en orden
+     */
+
+    @Query("SELECT new com.paulruiz.forohub.repository.ClaveTopico(t.id, t.fechaCreacion) FROM TopicoArchivado t")
+    List<ClaveTopico> listarClaves(Pageable tramo);
+
+    // Archivados con clave (fechaCreacion, id) mayor / menor que la dada
+
+    @Query("SELECT COUNT(t) FROM TopicoArchivado t WHERE t.fechaCreacion > :fecha " +
+            "OR (t.fechaCreacion = :fecha AND t.id > :id)")
+    long contarPosteriores(@Param("fecha") LocalDateTime fecha, @Param("id") Long id);
+
+    @Query("SELECT COUNT(t) FROM TopicoArchivado t WHERE t.fechaCreacion < :fecha " +
+            "OR (t.fechaCreacion = :fecha AND t.id < :id)")
+    long contarAnteriores(@Param("fecha") LocalDateTime fecha, @Param("id") Long id);
+
+    /*
+     @param anio Año de creación (lee una sola partición)
+     @param paginacion Configuración de paginación
+     @return Página de tópicos archivados del año
+     */
+
+    @Query(value = "SELECT t FROM TopicoArchivado t JOIN FETCH t.autor JOIN FETCH t.curso WHERE t.anio = :anio",
+            countQuery = "SELECT COUNT(t) FROM TopicoArchivado t WHERE t.anio = :anio")
+    Page<TopicoArchivado> findByAnio(@Param("anio") Short anio, Pageable paginacion);
+
+    // ============================================
+    // Archivador (INSERT ... SELECT desde las tablas vivas)
+    // ============================================
+
+    /*
+     Copia un lote de tópicos vivos al archivo; anio = año de creación
+
+     @param ids IDs de los tópicos
+     @return Cantidad de tópicos copiados
+     */
+
+    @Modifying
+    @Query(value = "INSERT INTO topicos_archivo " +
+            "(id, anio, titulo, mensaje, extracto, fecha_creacion, status, autor_id, curso_id) " +
+            "SELECT id, YEAR(fecha_creacion), titulo, mensaje, extracto, fecha_creacion, status, autor_id, curso_id " +
+            "FROM topicos WHERE id IN (:ids)", nativeQuery = true)
+    int archivarTopicos(@Param("ids") Collection<Long> ids);
+
+    /*
+     Copia las respuestas de un lote de tópicos vivos al archivo, con el anio de su tópico
+
+     @param ids IDs de los tópicos
+     @return Cantidad de respuestas copiadas
+     */
+
+    @Modifying
+    @Query(value = "INSERT INTO respuestas_archivo " +
+            "(id, anio, topico_id, mensaje, fecha_creacion, autor_id, solucion) " +
+            "SELECT r.id, YEAR(t.fecha_creacion), r.topico_id, r.mensaje, r.fecha_creacion, r.autor_id, r.solucion " +
+            "FROM respuestas r JOIN topicos t ON t.id = r.topico_id WHERE r.topico_id IN (:ids)", nativeQuery = true)
+    int archivarRespuestas(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,6 @@
+package com.paulruiz.forohub.repository;
+
+// ID de un tópico con el de su curso (lo necesario para avisar a los suscriptores del curso)
+
+public record TopicoCurso(Long topicoId, Long cursoId) {
+}
@@ -0,0 +1,25 @@
+package com.paulruiz.forohub.repository;
+
+import java.util.List;
+
+// Fragmento de TopicoRepository para seleccionar los tópicos de una moderación masiva
+
+public interface TopicoModeracionRepository {
+
+    /*
+     Siguiente lote por keyset: tópicos del criterio con id > despuesDeId, en orden de id
+     Usa la clave primaria como cursor para no releer ni saltar filas entre lotes
+
+     @param criterio Filtros de la moderación
+     @param despuesDeId Último ID del lote anterior (0 al empezar)
+     @param tamano Cantidad máxima de tópicos
+     @return Tópicos del lote con el ID de su curso
+     */
+    List<TopicoCurso> buscarLoteModeracion(CriterioModeracion criterio, long despuesDeId, int tamano);
+
+    /*
+     @param criterio Filtros de la moderación
+     @return Cantidad de tópicos que cumplen el criterio
+     */
+    long contarModeracion(CriterioModeracion criterio);
+}
@@ -0,0 +1,77 @@
+package com.paulruiz.forohub.repository;
+
+import com.paulruiz.forohub.model.StatusTopico;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ Implementación del fragmento de moderación
+ Arma el WHERE solo con los filtros presentes: así MySQL puede usar los índices
+ de curso_id / autor_id en vez de evaluar "(:param IS NULL OR ...)" fila por fila
+ */
+public class TopicoModeracionRepositoryImpl implements TopicoModeracionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TopicoCurso> buscarLoteModeracion(CriterioModeracion criterio, long despuesDeId, int tamano) {
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        String jpql = "SELECT new com.paulruiz.forohub.repository.TopicoCurso(t.id, t.curso.id) FROM Topico t"
+                + " WHERE t.id > :despuesDeId" + condiciones(criterio, parametros)
+                + " ORDER BY t.id";
+        parametros.put("despuesDeId", despuesDeId);
+
+        TypedQuery<TopicoCurso> query = entityManager.createQuery(jpql, TopicoCurso.class).setMaxResults(tamano);
+        parametros.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public long contarModeracion(CriterioModeracion criterio) {
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        String condiciones = condiciones(criterio, parametros);
+        String jpql = "SELECT COUNT(t) FROM Topico t"
+                + (condiciones.isEmpty() ? "" : " WHERE" + condiciones.substring(" AND".length()));
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
+        parametros.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    // Cada condición empieza con " AND "
+
+    private String condiciones(CriterioModeracion criterio, Map<String, Object> parametros) {
+        StringBuilder where = new StringBuilder();
+        if (criterio.ids() != null) {
+            where.append(" AND t.id IN :ids");
+            parametros.put("ids", criterio.ids());
+        }
+        if (criterio.cursoId() != null) {
+            where.append(" AND t.curso.id = :cursoId");
+            parametros.put("cursoId", criterio.cursoId());
+        }
+        if (criterio.autorId() != null) {
+            where.append(" AND t.autor.id = :autorId");
+            parametros.put("autorId", criterio.autorId());
+        }
+        if (criterio.desde() != null) {
+            where.append(" AND t.fechaCreacion >= :desde");
+            parametros.put("desde", criterio.desde());
+        }
+        if (criterio.hasta() != null) {
+            where.append(" AND t.fechaCreacion < :hasta");
+            parametros.put("hasta", criterio.hasta());
+        }
+        if (criterio.soloAbiertos()) {
+            where.append(" AND t.status <> :cerrado");
+            parametros.put("cerrado", StatusTopico.CERRADO);
+        }
+        return where.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.paulruiz.forohub.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+// Fragmento de TopicoRepository para listados que leen solo algunas columnas
+
+public interface TopicoProyeccionRepository {
+
+    /*
+     Lista tópicos vivos y archivados leyendo solo las columnas de los campos pedidos
+     Une usuarios y cursos solo si algún campo (u orden) los necesita
+
+     @param campos Campos a leer, en el orden en que se devuelven
+     @param paginacion Página y orden (propiedades de CampoTopico ya validadas;
+                       offset + tamaño cabe en un int)
+     @return Página de filas campo → valor
+     */
+    Page<Map<String, Object>> proyectar(List<CampoTopico> campos, Pageable paginacion);
+}
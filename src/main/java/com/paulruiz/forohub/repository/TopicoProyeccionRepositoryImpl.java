@@ -0,0 +1,101 @@
+package com.paulruiz.forohub.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ Implementación del fragmento de proyección (Spring Data la une a TopicoRepository por el sufijo Impl)
+ Arma el SELECT solo con las expresiones de los campos pedidos:
+ sin "mensaje" no se lee la columna TEXT ni sus páginas de desborde
+
+ Vivos y archivados en una sola sentencia: cada rama (Topico y TopicoArchivado) lee
+ ordenada sus primeras offset + tamaño filas y la base ordena la unión y corta la página,
+ así el orden de los textos es el de la collation de la base en las dos tablas
+ */
+public class TopicoProyeccionRepositoryImpl implements TopicoProyeccionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> proyectar(List<CampoTopico> campos, Pageable paginacion) {
+        List<CampoTopico> ordenes = paginacion.getSort().stream()
+                .map(orden -> CampoTopico.desde(orden.getProperty()).orElseThrow())
+                .toList();
+
+        // Columnas de la unión: las pedidas, las del orden y el ID (desempate)
+        Set<CampoTopico> columnas = new LinkedHashSet<>(campos);
+        columnas.addAll(ordenes);
+        columnas.add(CampoTopico.ID);
+
+        Set<CampoTopico.Union> uniones = EnumSet.noneOf(CampoTopico.Union.class);
+        columnas.forEach(campo -> uniones.add(campo.getUnion()));
+
+        Sort.Direction desempate = paginacion.getSort().stream().findFirst()
+                .map(Sort.Order::getDirection).orElse(Sort.Direction.ASC);
+
+        String jpql = "SELECT " + campos.stream()
+                .map(campo -> "u." + campo.getNombre() + " AS " + campo.getNombre())
+                .collect(Collectors.joining(", "))
+                + " FROM ((" + rama("Topico", columnas, uniones, paginacion.getSort(), desempate) + ")"
+                + " UNION ALL (" + rama("TopicoArchivado", columnas, uniones, paginacion.getSort(), desempate) + ")) u"
+                + ordenar(paginacion.getSort(), desempate, campo -> "u." + campo.getNombre());
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("limite", (int) (paginacion.getOffset() + paginacion.getPageSize()))
+                .setFirstResult((int) paginacion.getOffset())
+                .setMaxResults(paginacion.getPageSize());
+
+        List<Map<String, Object>> filas = new ArrayList<>();
+        for (Tuple tupla : query.getResultList()) {
+            Map<String, Object> fila = new LinkedHashMap<>();
+            campos.forEach(campo -> fila.put(campo.getNombre(), tupla.get(campo.getNombre())));
+            filas.add(fila);
+        }
+
+        // El COUNT no necesita uniones: autor y curso son obligatorios
+        return PageableExecutionUtils.getPage(filas, paginacion, () -> entityManager.createQuery(
+                "SELECT (SELECT COUNT(t) FROM Topico t) + (SELECT COUNT(t) FROM TopicoArchivado t)",
+                Long.class).getSingleResult());
+    }
+
+    // Primeras offset + tamaño filas de una tabla en el orden pedido
+
+    private String rama(String entidad, Set<CampoTopico> columnas, Set<CampoTopico.Union> uniones,
+                        Sort sort, Sort.Direction desempate) {
+        return "SELECT " + columnas.stream()
+                .map(campo -> campo.getExpresion() + " AS " + campo.getNombre())
+                .collect(Collectors.joining(", "))
+                + " FROM " + entidad + " t"
+                + (uniones.contains(CampoTopico.Union.AUTOR) ? " JOIN t.autor a" : "")
+                + (uniones.contains(CampoTopico.Union.CURSO) ? " JOIN t.curso c" : "")
+                + ordenar(sort, desempate, CampoTopico::getExpresion)
+                + " LIMIT :limite";
+    }
+
+    private String ordenar(Sort sort, Sort.Direction desempate,
+                           Function<CampoTopico, String> expresion) {
+        String ordenes = sort.stream()
+                .map(orden -> expresion.apply(CampoTopico.desde(orden.getProperty()).orElseThrow())
+                        + (orden.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        return " ORDER BY " + (ordenes.isEmpty() ? "" : ordenes + ", ")
+                + expresion.apply(CampoTopico.ID) + (desempate.isAscending() ? " ASC" : " DESC");
+    }
+}
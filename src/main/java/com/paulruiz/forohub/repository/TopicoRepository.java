@@ -1,17 +1,24 @@
 package com.paulruiz.forohub.repository;
 
+import com.paulruiz.forohub.model.StatusTopico;
 import com.paulruiz.forohub.model.Topico;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TopicoRepository extends JpaRepository<Topico, Long> {
+public interface TopicoRepository extends JpaRepository<Topico, Long>,
+        TopicoProyeccionRepository, TopicoModeracionRepository {
 
     // Métodos anteriores
     boolean existsByTituloAndMensaje(String titulo, String mensaje);
@@ -64,8 +71,158 @@ public interface TopicoRepository extends JpaRepository<Topico, Long> {
             @Param("anio") Integer anio,
             Pageable paginacion);
 
+    /*
+     Tramo del listado con autor y curso en la misma consulta (misma forma que el del archivo)
+     Sin COUNT: el total lo calcula quien mezcla vivos y archivados
+
+     @param tramo Desplazamiento, tamaño y orden
+     @return Tópicos vivos del tramo
+     */
+
+    @Query("SELECT t FROM Topico t JOIN FETCH t.autor JOIN FETCH t.curso")
+    List<Topico> listarConAutorYCurso(Pageable tramo);
+
+    /*
+     Claves (ID y fecha) de un tramo, para mezclar con el archivo
+     Solo lee el índice de fecha_creacion (incluye el ID)
+
+     @param tramo Desplazamiento, tamaño y orden por fechaCreacion e id
+     @return Claves en orden
+     */
+
+    @Query("SELECT new com.paulruiz.forohub.repository.ClaveTopico(t.id, t.fechaCreacion) FROM Topico t")
+    List<ClaveTopico> listarClaves(Pageable tramo);
+
+    // Tópicos con clave (fechaCreacion, id) mayor / menor que la dada
+
+    @Query("SELECT COUNT(t) FROM Topico t WHERE t.fechaCreacion > :fecha " +
+            "OR (t.fechaCreacion = :fecha AND t.id > :id)")
+    long contarPosteriores(@Param("fecha") LocalDateTime fecha, @Param("id") Long id);
+
+    @Query("SELECT COUNT(t) FROM Topico t WHERE t.fechaCreacion < :fecha " +
+            "OR (t.fechaCreacion = :fecha AND t.id < :id)")
+    long contarAnteriores(@Param("fecha") LocalDateTime fecha, @Param("id") Long id);
+
+    /*
+     Lectura por lote: un solo IN con autor y curso ya cargados
+
+     @param ids IDs de los tópicos
+     @return Tópicos encontrados (sin orden garantizado)
+     */
+
+    @Query("SELECT t FROM Topico t JOIN FETCH t.autor JOIN FETCH t.curso WHERE t.id IN :ids")
+    List<Topico> buscarLoteConAutorYCurso(@Param("ids") Collection<Long> ids);
+
+    // ============================================
+    // Moderación masiva (sentencias por lote)
+    // ============================================
+
+    /*
+     Cambia el status de un lote de tópicos en una sola sentencia
+
+     @param ids IDs de los tópicos
+     @param status Nuevo status
+     @return Cantidad de tópicos actualizados
+     */
+
+    @Modifying
+    @Query("UPDATE Topico t SET t.status = :status WHERE t.id IN :ids")
+    int cambiarStatusLote(@Param("ids") Collection<Long> ids, @Param("status") StatusTopico status);
 
+    /*
+     Borra un lote de tópicos en una sola sentencia (las respuestas se borran antes)
+
+     @param ids IDs de los tópicos
+     @return Cantidad de tópicos borrados
+     */
+
+    @Modifying
+    @Query("DELETE FROM Topico t WHERE t.id IN :ids")
+    int eliminarLote(@Param("ids") Collection<Long> ids);
+
+    // ============================================
+    // Cierre de tópicos inactivos
+    // ============================================
 
+    /*
+     Siguiente lote por keyset de tópicos abiertos sin actividad desde inactivoDesde
+     (creados antes y sin respuestas desde entonces)
+
+     @param despuesDeId Último ID del lote anterior (0 al empezar)
+     @param estados Status que se consideran abiertos
+     @param inactivoDesde Fecha límite de la última actividad
+     @param limite Tamaño del lote
+     @return Tópicos del lote con el ID de su curso, en orden de id
+     */
+
+    @Query("SELECT new com.paulruiz.forohub.repository.TopicoCurso(t.id, t.curso.id) FROM Topico t " +
+            "WHERE t.id > :despuesDeId AND t.status IN :estados AND t.fechaCreacion < :inactivoDesde " +
+            "AND NOT EXISTS (SELECT r.id FROM Respuesta r " +
+            "WHERE r.topico = t AND r.fechaCreacion >= :inactivoDesde) " +
+            "ORDER BY t.id")
+    List<TopicoCurso> buscarInactivos(
+            @Param("despuesDeId") Long despuesDeId,
+            @Param("estados") Collection<StatusTopico> estados,
+            @Param("inactivoDesde") LocalDateTime inactivoDesde,
+            Limit limite);
+
+    /*
+     Bloquea (FOR UPDATE) los tópicos del lote que siguen inactivos, volviendo a verificar
+     las condiciones: si entró una respuesta después del SELECT del lote el tópico queda fuera,
+     y una respuesta nueva espera el bloqueo (FK de respuestas) hasta el commit.
+     Los IDs devueltos son exactamente los que se cierran: con ellos se cuentan y se avisan
+
+     @param ids IDs del lote
+     @param estados Nombres de los status que se consideran abiertos
+     @param inactivoDesde Fecha límite de la última actividad
+     @return IDs bloqueados que siguen inactivos, en orden
+     */
 
+    @Query(value = "SELECT t.id FROM topicos t WHERE t.id IN (:ids) AND t.status IN (:estados) " +
+            "AND NOT EXISTS (SELECT 1 FROM respuestas r " +
+            "WHERE r.topico_id = t.id AND r.fecha_creacion >= :inactivoDesde) " +
+            "ORDER BY t.id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> bloquearInactivos(
+            @Param("ids") Collection<Long> ids,
+            @Param("estados") Collection<String> estados,
+            @Param("inactivoDesde") LocalDateTime inactivoDesde);
+
+    // ============================================
+    // Archivo de tópicos antiguos
+    // ============================================
+
+    /*
+     Siguiente lote por keyset de tópicos sin actividad desde corte (creados antes y sin respuestas desde entonces)
+
+     @param despuesDeId Último ID del lote anterior (0 al empezar)
+     @param corte Fecha límite de la última actividad
+     @param limite Tamaño del lote
+     @return IDs del lote, en orden
+     */
+
+    @Query("SELECT t.id FROM Topico t WHERE t.id > :despuesDeId AND t.fechaCreacion < :corte " +
+            "AND NOT EXISTS (SELECT r.id FROM Respuesta r WHERE r.topico = t AND r.fechaCreacion >= :corte) " +
+            "ORDER BY t.id")
+    List<Long> buscarParaArchivar(
+            @Param("despuesDeId") Long despuesDeId,
+            @Param("corte") LocalDateTime corte,
+            Limit limite);
+
+    /*
+     Bloquea un lote de tópicos antes de archivarlo, volviendo a verificar las condiciones:
+     si entró una respuesta después del SELECT del lote el tópico queda fuera, y mientras dure
+     la transacción no puede entrar otra (la FK de respuestas espera el bloqueo)
+
+     @param ids IDs de los tópicos
+     @param corte Fecha límite de la última actividad
+     @return IDs que siguen existiendo y sin actividad desde corte, en orden
+     */
 
-}
\ No newline at end of file
+    @Query(value = "SELECT t.id FROM topicos t WHERE t.id IN (:ids) AND t.fecha_creacion < :corte " +
+            "AND NOT EXISTS (SELECT 1 FROM respuestas r " +
+            "WHERE r.topico_id = t.id AND r.fecha_creacion >= :corte) " +
+            "ORDER BY t.id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> bloquearLote(@Param("ids") Collection<Long> ids, @Param("corte") LocalDateTime corte);
+}
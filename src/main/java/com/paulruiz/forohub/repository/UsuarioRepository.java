@@ -2,12 +2,20 @@ package com.paulruiz.forohub.repository;
 
 import com.paulruiz.forohub.model.Usuario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
 
+    // Usado en cada petición autenticada (SecurityFilter) y en el login
+    @Transactional(readOnly = true)
     UserDetails findByEmail(String email);
 
     // ============================================
@@ -22,4 +30,15 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
      */
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /*
+     Lectura por lote: un solo IN con los perfiles en el mismo JOIN
+     (sin el fetch, los perfiles EAGER se cargarían con una consulta por usuario)
+
+     @param ids IDs de los usuarios
+     @return Usuarios encontrados (sin orden garantizado)
+     */
+
+    @Query("SELECT DISTINCT u FROM Usuario u LEFT JOIN FETCH u.perfiles WHERE u.id IN :ids")
+    List<Usuario> buscarLoteConPerfiles(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,37 @@
+package com.paulruiz.forohub.service;
+
+import com.paulruiz.forohub.infra.errores.ParametroInvalidoException;
+
+import java.util.List;
+import java.util.Objects;
+
+// Validación compartida de los IDs de una lectura por lote (?ids=)
+
+final class IdsLote {
+
+    private IdsLote() {
+    }
+
+    /*
+     Quita repetidos (conservando el primer orden) y valida el tamaño del lote
+
+     @param ids IDs pedidos
+     @param maximo Cantidad máxima de IDs distintos
+     @return IDs distintos en el orden pedido
+     @throws ParametroInvalidoException si no hay IDs o se supera el máximo
+     */
+    static List<Long> normalizar(List<Long> ids, int maximo) {
+        List<Long> distintos = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distintos.isEmpty()) {
+            throw new ParametroInvalidoException("ids", "Debe indicar al menos un ID");
+        }
+        if (distintos.size() > maximo) {
+            throw new ParametroInvalidoException("ids",
+                    "Se pueden pedir como máximo " + maximo + " IDs por lote (pedidos: " + distintos.size() + ")");
+        }
+        return distintos;
+    }
+}
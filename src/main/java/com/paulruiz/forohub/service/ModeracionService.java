@@ -0,0 +1,366 @@
+package com.paulruiz.forohub.service;
+
+import com.paulruiz.forohub.dto.ModeracionTopicosDTO;
+import com.paulruiz.forohub.dto.ProgresoModeracionDTO;
+import com.paulruiz.forohub.infra.errores.ModeracionNotFoundException;
+import com.paulruiz.forohub.infra.errores.ParametroInvalidoException;
+import com.paulruiz.forohub.infra.errores.ServicioSaturadoException;
+import com.paulruiz.forohub.infra.eventos.BusEventos;
+import com.paulruiz.forohub.infra.eventos.StatusCambiado;
+import com.paulruiz.forohub.infra.eventos.TopicoEliminado;
+import com.paulruiz.forohub.model.AccionModeracion;
+import com.paulruiz.forohub.model.EstadoModeracion;
+import com.paulruiz.forohub.model.StatusTopico;
+import com.paulruiz.forohub.repository.CriterioModeracion;
+import com.paulruiz.forohub.repository.RespuestaRepository;
+import com.paulruiz.forohub.repository.TopicoCurso;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ Moderación masiva de tópicos (/admin/topicos/moderacion): cerrar o eliminar
+ por lista de IDs o por filtro (curso, autor, rango de fechas)
+
+ - Corre en segundo plano, de a una moderación a la vez (un solo hilo), con hasta
+   forohub.moderacion.max-en-cola esperando; si la cola está llena responde 503
+ - Una moderación EN_COLA informa su posición y el ID de la moderación en curso
+ - Cada lote es una transacción corta: SELECT por keyset + un UPDATE/DELETE con IN
+   (nunca carga las entidades ni revisa permisos tópico por tópico)
+ - Entre lotes hace una pausa para que los bloqueos no se encadenen
+ - El progreso se consulta por ID; se conservan las últimas TAREAS_RETENIDAS (o max-en-cola + 2
+   si es mayor, para que una moderación en cola o en curso nunca salga del historial)
+ */
+
+@Service
+public class ModeracionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ModeracionService.class);
+
+    // Mínimo del historial de moderaciones (ver inicializar)
+    private static final int TAREAS_RETENIDAS = 50;
+
+    private static final Duration REINTENTAR_EN = Duration.ofSeconds(30);
+
+    @Value("${forohub.moderacion.lote:500}")
+    private int tamanoLote;
+
+    // Pausa entre lotes (deja pasar a las transacciones de la API)
+    @Value("${forohub.moderacion.pausa:50ms}")
+    private Duration pausa;
+
+    @Value("${forohub.moderacion.max-ids:10000}")
+    private int maxIds;
+
+    // Moderaciones esperando detrás de la que está en curso
+    @Value("${forohub.moderacion.max-en-cola:10}")
+    private int maxEnCola;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    @Autowired
+    private AutorizacionService autorizacionService;
+
+    @Autowired
+    private BusEventos busEventos;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaccion;
+    private ThreadPoolExecutor ejecutor;
+
+    // Tamaño del historial: cabe siempre la que está en curso y todas las de la cola
+    private int retenidas = TAREAS_RETENIDAS;
+
+    // Historial acotado: al pasar "retenidas" se descarta la más antigua
+    private final Map<String, Tarea> tareas = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Tarea> mayor) {
+            return size() > retenidas;
+        }
+    });
+
+    @PostConstruct
+    public void inicializar() {
+        retenidas = Math.max(TAREAS_RETENIDAS, maxEnCola + 2);
+        transaccion = new TransactionTemplate(transactionManager);
+        ejecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxEnCola),
+                Thread.ofPlatform().name("forohub-moderacion").daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    // ============================================
+    // Iniciar moderación
+    // ============================================
+
+    /*
+      Valida la moderación y la encola para correr en segundo plano
+
+      @param datos Acción y selección (IDs o filtros)
+      @return Progreso inicial (estado EN_COLA)
+      @throws ParametroInvalidoException si la selección no es válida
+      @throws ServicioSaturadoException si ya hay max-en-cola moderaciones esperando
+     */
+    public ProgresoModeracionDTO iniciar(ModeracionTopicosDTO datos) {
+        List<Long> ids = validarIds(datos);
+        CriterioModeracion criterio = crearCriterio(datos, null);
+
+        long total = ids != null ? ids.size() : topicoRepository.contarModeracion(criterio);
+        Tarea tarea = new Tarea(UUID.randomUUID().toString(), datos.accion(), total);
+        tareas.put(tarea.id, tarea);
+
+        try {
+            ejecutor.execute(() -> ejecutar(tarea, datos, ids));
+        } catch (RejectedExecutionException e) {
+            tareas.remove(tarea.id);
+            throw new ServicioSaturadoException(
+                    "Hay " + maxEnCola + " moderaciones en cola; reintente cuando avance la actual", REINTENTAR_EN);
+        }
+
+        log.info("Moderación {} ({}) solicitada por {}: {} tópicos estimados",
+                tarea.id, datos.accion(), autorizacionService.obtenerUsuarioAutenticado().getEmail(), total);
+        return progreso(tarea);
+    }
+
+    // ============================================
+    // Consultar progreso
+    // ============================================
+
+    /*
+      @param id ID de la moderación
+      @return Progreso actual
+      @throws ModeracionNotFoundException si no existe o ya salió del historial
+     */
+    public ProgresoModeracionDTO obtenerProgreso(String id) {
+        Tarea tarea = tareas.get(id);
+        if (tarea == null) {
+            throw new ModeracionNotFoundException(id);
+        }
+        return progreso(tarea);
+    }
+
+    // Moderaciones recientes, la más nueva primero
+
+    public List<ProgresoModeracionDTO> listarRecientes() {
+        List<ProgresoModeracionDTO> recientes;
+        synchronized (tareas) {
+            recientes = new ArrayList<>(tareas.values().stream().map(this::progreso).toList());
+        }
+        Collections.reverse(recientes);
+        return recientes;
+    }
+
+    // Una moderación en cola suma su posición (las EN_COLA del historial en orden de llegada)
+    // y la moderación en curso a la que espera
+
+    private ProgresoModeracionDTO progreso(Tarea tarea) {
+        if (tarea.estado != EstadoModeracion.EN_COLA) {
+            return tarea.progreso(null, null);
+        }
+        int posicion = 0;
+        boolean encontrada = false;
+        String enCurso = null;
+        synchronized (tareas) {
+            for (Tarea otra : tareas.values()) {
+                if (otra.estado == EstadoModeracion.EN_CURSO) {
+                    enCurso = otra.id;
+                } else if (!encontrada && otra.estado == EstadoModeracion.EN_COLA) {
+                    posicion++;
+                    encontrada = otra == tarea;
+                }
+            }
+        }
+        return tarea.progreso(posicion, enCurso);
+    }
+
+    // ============================================
+    // Ejecución por lotes
+    // ============================================
+
+    private void ejecutar(Tarea tarea, ModeracionTopicosDTO datos, List<Long> ids) {
+        tarea.estado = EstadoModeracion.EN_CURSO;
+        try {
+            if (ids != null) {
+                // Lista de IDs: cada tramo ordenado es un lote
+                for (int desde = 0; desde < ids.size(); desde += tamanoLote) {
+                    List<Long> tramo = ids.subList(desde, Math.min(desde + tamanoLote, ids.size()));
+                    procesarLote(tarea, crearCriterio(datos, tramo), 0);
+                    Thread.sleep(pausa.toMillis());
+                }
+            } else {
+                // Filtro: keyset por ID hasta que no queden tópicos
+                CriterioModeracion criterio = crearCriterio(datos, null);
+                Long ultimoId = 0L;
+                while ((ultimoId = procesarLote(tarea, criterio, ultimoId)) != null) {
+                    Thread.sleep(pausa.toMillis());
+                }
+            }
+            tarea.terminar(EstadoModeracion.COMPLETADA, null);
+            log.info("Moderación {} completada: {} tópicos en {} lotes",
+                    tarea.id, tarea.procesados.get(), tarea.lotes.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tarea.terminar(EstadoModeracion.FALLIDA, "Interrumpida");
+        } catch (RuntimeException e) {
+            tarea.terminar(EstadoModeracion.FALLIDA, e.getMessage());
+            log.error("Moderación {} falló tras {} tópicos", tarea.id, tarea.procesados.get(), e);
+        }
+    }
+
+    /*
+      Un lote en su propia transacción: selecciona hasta tamanoLote tópicos y les aplica la acción
+
+      @return Último ID del lote, o null si no quedaban tópicos
+     */
+    private Long procesarLote(Tarea tarea, CriterioModeracion criterio, long despuesDeId) {
+        List<TopicoCurso> lote = transaccion.execute(status -> {
+            List<TopicoCurso> topicos = topicoRepository.buscarLoteModeracion(criterio, despuesDeId, tamanoLote);
+            if (!topicos.isEmpty()) {
+                aplicar(tarea.accion, topicos);
+            }
+            return topicos;
+        });
+        if (lote.isEmpty()) {
+            return null;
+        }
+        tarea.procesados.addAndGet(lote.size());
+        tarea.lotes.incrementAndGet();
+        return lote.get(lote.size() - 1).topicoId();
+    }
+
+    // Los eventos (SSE y WebSocket son oyentes del bus) salen después del commit del lote
+
+    private void aplicar(AccionModeracion accion, List<TopicoCurso> topicos) {
+        List<Long> ids = topicos.stream().map(TopicoCurso::topicoId).toList();
+
+        if (accion == AccionModeracion.CERRAR) {
+            topicoRepository.cambiarStatusLote(ids, StatusTopico.CERRADO);
+            topicos.forEach(topico -> busEventos.publicar(
+                    new StatusCambiado(topico.topicoId(), topico.cursoId(), StatusTopico.CERRADO)));
+        } else {
+            respuestaRepository.eliminarPorTopicos(ids);
+            topicoRepository.eliminarLote(ids);
+            topicos.forEach(topico ->
+                    busEventos.publicar(new TopicoEliminado(topico.topicoId(), topico.cursoId())));
+        }
+    }
+
+    // ============================================
+    // Validación
+    // ============================================
+
+    // IDs distintos y ordenados (el orden de la PK acorta los rangos bloqueados), o null si se usa filtro
+    // @throws ParametroInvalidoException si se mezclan IDs y filtros, no hay selección o se supera el máximo
+
+    private List<Long> validarIds(ModeracionTopicosDTO datos) {
+        boolean hayFiltro = datos.cursoId() != null || datos.autorId() != null
+                || datos.desde() != null || datos.hasta() != null;
+        boolean hayIds = datos.ids() != null && !datos.ids().isEmpty();
+
+        if (hayIds && hayFiltro) {
+            throw new ParametroInvalidoException("ids", "Indique una lista de IDs o filtros, no ambos");
+        }
+        if (!hayIds && !hayFiltro) {
+            throw new ParametroInvalidoException("ids",
+                    "Indique una lista de IDs o al menos un filtro (cursoId, autorId, desde, hasta)");
+        }
+        if (datos.desde() != null && datos.hasta() != null && datos.desde().isAfter(datos.hasta())) {
+            throw new ParametroInvalidoException("desde", "La fecha desde no puede ser posterior a hasta");
+        }
+        if (!hayIds) {
+            return null;
+        }
+
+        List<Long> ids = datos.ids().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        if (ids.size() > maxIds) {
+            throw new ParametroInvalidoException("ids",
+                    "Se pueden moderar como máximo " + maxIds + " IDs por petición (pedidos: " + ids.size() + ")");
+        }
+        return ids;
+    }
+
+    // hasta es inclusivo en la petición: se compara con el inicio del día siguiente
+
+    private CriterioModeracion crearCriterio(ModeracionTopicosDTO datos, List<Long> ids) {
+        return new CriterioModeracion(
+                ids,
+                datos.cursoId(),
+                datos.autorId(),
+                datos.desde() != null ? datos.desde().atStartOfDay() : null,
+                datos.hasta() != null ? datos.hasta().plusDays(1).atStartOfDay() : null,
+                datos.accion() == AccionModeracion.CERRAR
+        );
+    }
+
+    // ============================================
+    // Estado de una moderación
+    // ============================================
+
+    private static class Tarea {
+
+        private final String id;
+        private final AccionModeracion accion;
+        private final long total;
+        private final LocalDateTime inicio = LocalDateTime.now();
+        private final AtomicLong procesados = new AtomicLong();
+        private final AtomicInteger lotes = new AtomicInteger();
+        private volatile EstadoModeracion estado = EstadoModeracion.EN_COLA;
+        private volatile LocalDateTime fin;
+        private volatile String error;
+
+        Tarea(String id, AccionModeracion accion, long total) {
+            this.id = id;
+            this.accion = accion;
+            this.total = total;
+        }
+
+        void terminar(EstadoModeracion estado, String error) {
+            this.error = error;
+            this.fin = LocalDateTime.now();
+            this.estado = estado;
+        }
+
+        ProgresoModeracionDTO progreso(Integer posicionEnCola, String esperandoA) {
+            return new ProgresoModeracionDTO(id, accion, estado, total, procesados.get(), lotes.get(),
+                    inicio, fin, error, posicionEnCola, esperandoA);
+        }
+    }
+}
@@ -3,17 +3,31 @@ package com.paulruiz.forohub.service;
 import com.paulruiz.forohub.dto.ActualizarRespuestaDTO;
 import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
 import com.paulruiz.forohub.dto.RespuestaDTO;
+import com.paulruiz.forohub.infra.errores.RespuestaArchivadaException;
 import com.paulruiz.forohub.infra.errores.RespuestaNotFoundException;
 import com.paulruiz.forohub.infra.errores.SolucionDuplicadaException;
+import com.paulruiz.forohub.infra.errores.TopicoArchivadoException;
+import com.paulruiz.forohub.infra.errores.TopicoCerradoException;
 import com.paulruiz.forohub.infra.errores.TopicoNotFoundException;
+import com.paulruiz.forohub.infra.eventos.BusEventos;
+import com.paulruiz.forohub.infra.eventos.RespuestaActualizada;
+import com.paulruiz.forohub.infra.eventos.RespuestaCreada;
+import com.paulruiz.forohub.infra.eventos.RespuestaEliminada;
+import com.paulruiz.forohub.infra.eventos.SolucionMarcada;
+import com.paulruiz.forohub.infra.eventos.StatusCambiado;
+import com.paulruiz.forohub.infra.notificaciones.NotificacionesService;
 import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.StatusTopico;
 import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.TopicoArchivado;
 import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.RespuestaArchivadaRepository;
 import com.paulruiz.forohub.repository.RespuestaRepository;
+import com.paulruiz.forohub.repository.TopicoArchivadoRepository;
 import com.paulruiz.forohub.repository.TopicoRepository;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,9 +43,24 @@ public class RespuestaService {
     @Autowired
     private TopicoRepository topicoRepository;
 
+    // Tópicos y respuestas que el archivador sacó de las tablas vivas
+    @Autowired
+    private TopicoArchivadoRepository topicoArchivadoRepository;
+
+    @Autowired
+    private RespuestaArchivadaRepository respuestaArchivadaRepository;
+
     @Autowired
     private AutorizacionService autorizacionService;
 
+    // Outbox de notificaciones: se escribe en la misma transacción que la respuesta
+    @Autowired
+    private NotificacionesService notificacionesService;
+
+    // Eventos de dominio: SSE, hub WebSocket y demás oyentes (se entregan después del commit)
+    @Autowired
+    private BusEventos busEventos;
+
     // ============================================
     // Crear respuesta
     // ============================================
@@ -42,13 +71,15 @@ public class RespuestaService {
       Actualiza automáticamente el status del tópico a NO_SOLUCIONADO
 
       @param respuestaDTO Datos de la respuesta
-      @return Respuesta creada
+      @return Respuesta creada en DTO
       @throws TopicoNotFoundException si el tópico no existe
+      @throws TopicoCerradoException si el tópico está cerrado
      */
     @Transactional
-    public Respuesta crearRespuesta(RespuestaDTO respuestaDTO) {
-        // Buscar tópico
+    public DetalleRespuestaDTO crearRespuesta(RespuestaDTO respuestaDTO) {
+        // Buscar tópico (un tópico cerrado no admite respuestas)
         Topico topico = buscarTopico(respuestaDTO.topicoId());
+        validarAbierto(topico);
 
         // Obtener autor del JWT automáticamente
         Usuario autor = autorizacionService.obtenerUsuarioAutenticado();
@@ -60,13 +91,19 @@ public class RespuestaService {
         respuesta.setAutor(autor);  // Autor obtenido del JWT
         respuesta.setSolucion(false);
 
-        // Guardar respuesta
+        // Guardar respuesta y notificar al autor del tópico (outbox)
         respuestaRepository.save(respuesta);
+        notificacionesService.registrarRespuestaNueva(respuesta);
 
         // Actualizar status del tópico
+        StatusTopico statusAnterior = topico.getStatus();
         topico.actualizarStatus(true, false);
 
-        return respuesta;
+        DetalleRespuestaDTO detalle = new DetalleRespuestaDTO(respuesta);
+        busEventos.publicar(new RespuestaCreada(respuesta.getId(), topico.getId(), autor.getId(), detalle));
+        publicarStatusSiCambio(topico, statusAnterior);
+
+        return detalle;
     }
 
     // ============================================
@@ -75,11 +112,23 @@ public class RespuestaService {
 
     /*
       Lista todas las respuestas de un tópico
+      Si el tópico ya no está vivo, las lee del archivo (partición del año del tópico)
 
       @param topicoId ID del tópico
       @return Lista de respuestas en DTO
+      @throws TopicoNotFoundException si el tópico no existe
      */
+    @Transactional(readOnly = true)
     public List<DetalleRespuestaDTO> listarRespuestasDeTopico(Long topicoId) {
+        // Validar que el tópico existe (vivo o archivado)
+        if (!topicoRepository.existsById(topicoId)) {
+            TopicoArchivado archivado = topicoArchivadoRepository.findById(topicoId)
+                    .orElseThrow(() -> new TopicoNotFoundException(topicoId));
+            return respuestaArchivadaRepository.buscarPorTopico(topicoId, archivado.getAnio()).stream()
+                    .map(DetalleRespuestaDTO::new)
+                    .collect(Collectors.toList());
+        }
+
         List<Respuesta> respuestas = respuestaRepository.findByTopicoId(topicoId);
 
         return respuestas.stream()
@@ -92,14 +141,34 @@ public class RespuestaService {
     // ============================================
 
     /*
-      Busca una respuesta por su ID
+      Busca una respuesta viva por su ID (la usan actualizar, eliminar y marcar solución)
 
       @param id ID de la respuesta
       @return Respuesta encontrada
+      @throws RespuestaArchivadaException si está archivada (solo lectura)
       @throws RespuestaNotFoundException si no existe
      */
+    @Transactional(readOnly = true)
     public Respuesta obtenerRespuestaPorId(Long id) {
         return respuestaRepository.findById(id)
+                .orElseThrow(() -> respuestaArchivadaRepository.existsById(id)
+                        ? new RespuestaArchivadaException(id)
+                        : new RespuestaNotFoundException(id));
+    }
+
+    /*
+      Obtiene el detalle de una respuesta ya convertido a DTO
+      Si ya no está viva, la lee del archivo
+
+      @param id ID de la respuesta
+      @return Detalle de la respuesta
+      @throws RespuestaNotFoundException si no existe
+     */
+    @Transactional(readOnly = true)
+    public DetalleRespuestaDTO obtenerDetalleRespuesta(Long id) {
+        return respuestaRepository.findById(id)
+                .map(DetalleRespuestaDTO::new)
+                .or(() -> respuestaArchivadaRepository.buscarConTopicoYAutor(id).map(DetalleRespuestaDTO::new))
                 .orElseThrow(() -> new RespuestaNotFoundException(id));
     }
 
@@ -113,19 +182,24 @@ public class RespuestaService {
 
       @param id ID de la respuesta
       @param actualizarDTO Nuevo mensaje
-      @return Respuesta actualizada
+      @return Respuesta actualizada en DTO
       @throws RespuestaNotFoundException si no existe
+      @throws RespuestaArchivadaException si está archivada
       @throws AccesoDenegadoException si no tiene permisos
      */
     @Transactional
-    public Respuesta actualizarRespuesta(Long id, ActualizarRespuestaDTO actualizarDTO) {
+    public DetalleRespuestaDTO actualizarRespuesta(Long id, ActualizarRespuestaDTO actualizarDTO) {
         Respuesta respuesta = obtenerRespuestaPorId(id);
 
         // Validar permisos
         autorizacionService.validarPermisoParaModificarRespuesta(respuesta);
 
         respuesta.setMensaje(actualizarDTO.mensaje());
-        return respuesta;
+
+        DetalleRespuestaDTO detalle = new DetalleRespuestaDTO(respuesta);
+        busEventos.publicar(new RespuestaActualizada(respuesta.getId(), respuesta.getTopico().getId(), detalle));
+
+        return detalle;
     }
 
     // ============================================
@@ -139,6 +213,7 @@ public class RespuestaService {
 
       @param id ID de la respuesta a eliminar
       @throws RespuestaNotFoundException si no existe
+      @throws RespuestaArchivadaException si está archivada
       @throws AccesoDenegadoException si no tiene permisos
      */
     @Transactional
@@ -157,7 +232,11 @@ public class RespuestaService {
         Long cantidadRespuestas = respuestaRepository.countByTopicoId(topico.getId());
         boolean tieneSolucion = respuestaRepository.existeSolucionEnTopico(topico.getId());
 
+        StatusTopico statusAnterior = topico.getStatus();
         topico.actualizarStatus(cantidadRespuestas > 0, tieneSolucion);
+
+        busEventos.publicar(new RespuestaEliminada(id, topico.getId()));
+        publicarStatusSiCambio(topico, statusAnterior);
     }
 
     // ============================================
@@ -170,14 +249,17 @@ public class RespuestaService {
       Solo puede haber una solución por tópico
 
       @param id ID de la respuesta
-      @return Respuesta marcada como solución
+      @return Respuesta marcada como solución en DTO
       @throws RespuestaNotFoundException si no existe
+      @throws RespuestaArchivadaException si está archivada
       @throws SolucionDuplicadaException si ya hay una solución
+      @throws TopicoCerradoException si el tópico está cerrado
       @throws AccesoDenegadoException si no tiene permisos
      */
     @Transactional
-    public Respuesta marcarComoSolucion(Long id) {
+    public DetalleRespuestaDTO marcarComoSolucion(Long id) {
         Respuesta respuesta = obtenerRespuestaPorId(id);
+        validarAbierto(respuesta.getTopico());
 
         // Validar permisos
         autorizacionService.validarPermisoParaMarcarSolucion(respuesta);
@@ -187,24 +269,51 @@ public class RespuestaService {
             throw new SolucionDuplicadaException();
         }
 
-        // Marcar como solución
+        // Marcar como solución y notificar a los autores del tópico y de la respuesta (outbox)
         respuesta.setSolucion(true);
+        notificacionesService.registrarSolucionMarcada(respuesta, autorizacionService.obtenerUsuarioAutenticado());
 
         // Actualizar status del tópico a SOLUCIONADO
-        respuesta.getTopico().actualizarStatus(true, true);
+        Topico topico = respuesta.getTopico();
+        StatusTopico statusAnterior = topico.getStatus();
+        topico.actualizarStatus(true, true);
+
+        DetalleRespuestaDTO detalle = new DetalleRespuestaDTO(respuesta);
+        busEventos.publicar(new SolucionMarcada(respuesta.getId(), topico.getId(),
+                respuesta.getAutor().getId(), detalle));
+        publicarStatusSiCambio(topico, statusAnterior);
 
-        return respuesta;
+        return detalle;
     }
 
     // ============================================
     // Métodos privados
     // ============================================
 
-    // Busca un tópico por ID
+    // Busca un tópico vivo por ID (los archivados son de solo lectura)
+    // @throws TopicoArchivadoException si está archivado
     // @throws TopicoNotFoundException si no existe
 
     private Topico buscarTopico(Long id) {
         return topicoRepository.findById(id)
-                .orElseThrow(() -> new TopicoNotFoundException(id));
+                .orElseThrow(() -> topicoArchivadoRepository.existsById(id)
+                        ? new TopicoArchivadoException(id)
+                        : new TopicoNotFoundException(id));
+    }
+
+    // Un tópico CERRADO (moderación o cierre por inactividad) ya no recibe respuestas ni soluciones
+
+    private void validarAbierto(Topico topico) {
+        if (topico.getStatus() == StatusTopico.CERRADO) {
+            throw new TopicoCerradoException(topico.getId());
+        }
+    }
+
+    // Publica el cambio de status (SSE y WebSocket lo reciben del bus) solo si la operación lo cambió
+
+    private void publicarStatusSiCambio(Topico topico, StatusTopico statusAnterior) {
+        if (topico.getStatus() != statusAnterior) {
+            busEventos.publicar(new StatusCambiado(topico.getId(), topico.getCurso().getId(), topico.getStatus()));
+        }
     }
 }
\ No newline at end of file
@@ -1,26 +1,60 @@
 package com.paulruiz.forohub.service;
 
 import com.paulruiz.forohub.dto.ActualizarTopicoDTO;
+import com.paulruiz.forohub.dto.DetalleTopicoDTO;
+import com.paulruiz.forohub.dto.LoteDTO;
 import com.paulruiz.forohub.dto.TopicoDTO;
 import com.paulruiz.forohub.infra.errores.CursoNotFoundException;
+import com.paulruiz.forohub.infra.errores.ParametroInvalidoException;
+import com.paulruiz.forohub.infra.errores.TopicoArchivadoException;
 import com.paulruiz.forohub.infra.errores.TopicoDuplicadoException;
 import com.paulruiz.forohub.infra.errores.TopicoNotFoundException;
+import com.paulruiz.forohub.infra.eventos.BusEventos;
+import com.paulruiz.forohub.infra.eventos.TopicoCreado;
+import com.paulruiz.forohub.infra.eventos.TopicoEliminado;
 import com.paulruiz.forohub.model.Curso;
 import com.paulruiz.forohub.model.Topico;
 import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.CampoTopico;
+import com.paulruiz.forohub.repository.ClaveTopico;
 import com.paulruiz.forohub.repository.CursoRepository;
+import com.paulruiz.forohub.repository.Desplazamiento;
+import com.paulruiz.forohub.repository.TopicoArchivadoRepository;
 import com.paulruiz.forohub.repository.TopicoRepository;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 
 // Servicio que contiene la lógica de negocio para Tópicos
 
 @Service
 public class TopicoService {
 
+    // Vista "resumen" del listado: extracto en lugar del mensaje completo
+    private static final String VISTA_RESUMEN_NOMBRE = "resumen";
+    private static final List<CampoTopico> VISTA_RESUMEN = List.of(
+            CampoTopico.ID, CampoTopico.TITULO, CampoTopico.EXTRACTO, CampoTopico.FECHA_CREACION,
+            CampoTopico.STATUS, CampoTopico.NOMBRE_AUTOR, CampoTopico.NOMBRE_CURSO);
+
     @Autowired
     private TopicoRepository topicoRepository;
 
@@ -30,6 +64,23 @@ public class TopicoService {
     @Autowired
     private AutorizacionService autorizacionService;
 
+    // Eventos de dominio para los oyentes asíncronos (se entregan después del commit)
+    @Autowired
+    private BusEventos busEventos;
+
+    // Tópicos que el archivador sacó de la tabla viva (solo lectura)
+    @Autowired
+    private TopicoArchivadoRepository topicoArchivadoRepository;
+
+    @Value("${forohub.archivo.vigencia-conteo:5m}")
+    private Duration vigenciaConteoArchivo;
+
+    private final AtomicReference<ConteoArchivo> conteoArchivo = new AtomicReference<>();
+
+    // Máximo de IDs por lectura por lote (GET /topicos?ids=)
+    @Value("${forohub.lote.max-ids:100}")
+    private int maxIdsLote;
+
     // ============================================
     // Crear tópico
     // ============================================
@@ -40,12 +91,12 @@ public class TopicoService {
       Valida que no exista duplicado (mismo título y mensaje)
 
       @param topicoDTO Datos del tópico a crear
-      @return Tópico creado
+      @return Tópico creado en DTO
       @throws TopicoDuplicadoException si el tópico está duplicado
       @throws CursoNotFoundException si el curso no existe
      */
     @Transactional
-    public Topico crearTopico(TopicoDTO topicoDTO) {
+    public DetalleTopicoDTO crearTopico(TopicoDTO topicoDTO) {
         // Validar que no exista duplicado
         validarDuplicado(topicoDTO.titulo(), topicoDTO.mensaje());
 
@@ -62,8 +113,10 @@ public class TopicoService {
         topico.setAutor(autor);  // Autor obtenido del JWT
         topico.setCurso(curso);
 
-        // Guardar y retornar
-        return topicoRepository.save(topico);
+        // Guardar, publicar el evento (hub WebSocket y demás oyentes) y retornar
+        DetalleTopicoDTO detalle = new DetalleTopicoDTO(topicoRepository.save(topico));
+        busEventos.publicar(new TopicoCreado(detalle.id(), curso.getId(), autor.getId(), detalle));
+        return detalle;
     }
 
     // ============================================
@@ -71,13 +124,60 @@ public class TopicoService {
     // ============================================
 
     /*
-      Lista todos los tópicos con paginación
+      Lista todos los tópicos con paginación, vivos y archivados
+      Los DTOs se arman dentro de la transacción (open-in-view está deshabilitado)
+
+      Un tópico archivado no es necesariamente más antiguo que los vivos: se archiva por
+      inactividad, y uno viejo con respuestas recientes sigue vivo. Por eso las dos tablas
+      se mezclan en el orden pedido:
+      - Solo por fechaCreacion (el orden por defecto): listarPorFecha
+      - Otro orden: la base mezcla ambas tablas (proyectar) y se cargan los tópicos de la página
 
       @param paginacion Configuración de paginación
-      @return Página de tópicos
+      @return Página de tópicos en DTO
+      @throws ParametroInvalidoException si el orden no es válido o la página está fuera de rango
      */
-    public Page<Topico> listarTopicos(Pageable paginacion) {
-        return topicoRepository.findAll(paginacion);
+    @Transactional(readOnly = true)
+    public Page<DetalleTopicoDTO> listarTopicos(Pageable paginacion) {
+        validarPagina(paginacion);
+        validarOrden(paginacion.getSort());
+
+        Sort.Order porFecha = paginacion.getSort().getOrderFor("fechaCreacion");
+        if (porFecha != null && paginacion.getSort().stream().count() == 1) {
+            return listarPorFecha(paginacion, porFecha.getDirection());
+        }
+
+        Page<Map<String, Object>> pagina = topicoRepository.proyectar(List.of(CampoTopico.ID), paginacion);
+        List<Long> ids = pagina.getContent().stream()
+                .map(fila -> (Long) fila.get(CampoTopico.ID.getNombre()))
+                .toList();
+        Map<Long, DetalleTopicoDTO> detalles = buscarVivosYArchivados(ids);
+
+        // Un tópico borrado o archivado entre las dos lecturas se omite
+        List<DetalleTopicoDTO> contenido = ids.stream()
+                .map(detalles::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(contenido, paginacion, pagina.getTotalElements());
+    }
+
+    /*
+      Lista tópicos (vivos y archivados) leyendo solo los campos pedidos (?fields= o ?vista=resumen)
+      Con fields se respeta el orden indicado; vista=resumen usa VISTA_RESUMEN
+      El orden de la página solo acepta campos proyectables (no "mensaje")
+
+      @param fields Campos separados por coma (puede ser null)
+      @param vista Vista predefinida (puede ser null)
+      @param paginacion Configuración de paginación
+      @return Página de filas campo → valor
+      @throws ParametroInvalidoException si un campo, la vista, el orden o la página no son válidos
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> listarTopicosProyectados(String fields, String vista, Pageable paginacion) {
+        List<CampoTopico> campos = resolverCampos(fields, vista);
+        validarPagina(paginacion);
+        validarOrden(paginacion.getSort());
+        return topicoRepository.proyectar(campos, paginacion);
     }
 
     // ============================================
@@ -85,18 +185,68 @@ public class TopicoService {
     // ============================================
 
     /*
-      Busca un tópico por su ID
+      Busca un tópico vivo por su ID (para modificarlo)
+      Los archivados son de solo lectura: se leen con obtenerDetalleTopico
 
       @param id ID del tópico
       @return Tópico encontrado
+      @throws TopicoArchivadoException si el tópico está archivado
       @throws TopicoNotFoundException si no existe
      */
 
+    @Transactional(readOnly = true)
     public Topico obtenerTopicoPorId(Long id) {
         return topicoRepository.findById(id)
+                .orElseThrow(() -> topicoArchivadoRepository.existsById(id)
+                        ? new TopicoArchivadoException(id)
+                        : new TopicoNotFoundException(id));
+    }
+
+    /*
+      Valida que el tópico exista sin cargarlo
+
+      @param id ID del tópico
+      @throws TopicoNotFoundException si no existe
+     */
+    @Transactional(readOnly = true)
+    public void validarExistencia(Long id) {
+        if (!topicoRepository.existsById(id)) {
+            throw new TopicoNotFoundException(id);
+        }
+    }
+
+    /*
+      Obtiene el detalle de un tópico ya convertido a DTO
+      Busca primero en la tabla viva y después en el archivo
+
+      @param id ID del tópico
+      @return Detalle del tópico
+      @throws TopicoNotFoundException si no existe
+     */
+    @Transactional(readOnly = true)
+    public DetalleTopicoDTO obtenerDetalleTopico(Long id) {
+        return topicoRepository.findById(id)
+                .map(DetalleTopicoDTO::new)
+                .or(() -> topicoArchivadoRepository.buscarConAutorYCurso(id).map(DetalleTopicoDTO::new))
                 .orElseThrow(() -> new TopicoNotFoundException(id));
     }
 
+    /*
+      Obtiene varios tópicos en una sola consulta (autor y curso incluidos), en el orden pedido
+      Los que no están vivos se buscan en el archivo con una segunda consulta
+
+      @param ids IDs de los tópicos (se ignoran repetidos)
+      @return Tópicos encontrados y los IDs que no existen
+      @throws ParametroInvalidoException si no hay IDs o superan forohub.lote.max-ids
+     */
+    @Transactional(readOnly = true)
+    public LoteDTO<DetalleTopicoDTO> obtenerLoteTopicos(List<Long> ids) {
+        List<Long> pedidos = IdsLote.normalizar(ids, maxIdsLote);
+
+        List<DetalleTopicoDTO> encontrados = new ArrayList<>(buscarVivosYArchivados(pedidos).values());
+        return LoteDTO.armar(pedidos, encontrados, DetalleTopicoDTO::id, Function.identity());
+    }
+
     // ============================================
     // Actualizar tópico
     // ============================================
@@ -108,14 +258,14 @@ public class TopicoService {
 
       @param id ID del tópico a actualizar
       @param actualizarDTO Datos a actualizar
-      @return Tópico actualizado
+      @return Tópico actualizado en DTO
       @throws TopicoNotFoundException si el tópico no existe
       @throws TopicoDuplicadoException si se crea un duplicado
       @throws CursoNotFoundException si el curso no existe
       @throws AccesoDenegadoException si no tiene permisos
      */
     @Transactional
-    public Topico actualizarTopico(Long id, ActualizarTopicoDTO actualizarDTO) {
+    public DetalleTopicoDTO actualizarTopico(Long id, ActualizarTopicoDTO actualizarDTO) {
         // Buscar tópico
         Topico topico = obtenerTopicoPorId(id);
 
@@ -135,7 +285,7 @@ public class TopicoService {
         // Actualizar datos
         topico.actualizarDatos(actualizarDTO, curso);
 
-        return topico;
+        return new DetalleTopicoDTO(topico);
     }
 
     // ============================================
@@ -158,6 +308,183 @@ public class TopicoService {
         autorizacionService.validarPermisoParaModificarTopico(topico);
 
         topicoRepository.delete(topico);
+        busEventos.publicar(new TopicoEliminado(topico.getId(), topico.getCurso().getId()));
+    }
+
+    // ============================================
+    // Lectura combinada de vivos y archivados
+    // ============================================
+
+    /*
+      Listado por fecha: vivos y archivados mezclados por (fechaCreacion, id)
+
+      "primera" es la tabla que abre el orden (vivos si es descendente) y "otra" la restante.
+      Las filas de la primera anteriores a la primera clave de la otra forman el prefijo;
+      las de la otra posteriores a la última clave de la primera, el sufijo. Prefijo y sufijo
+      se leen directamente con su desplazamiento en cada tabla; solo la ventana entre ambos,
+      donde las tablas se intercalan, se mezcla por claves
+
+      Camino rápido: la página entera cae en el prefijo (las primeras páginas, casi siempre)
+     */
+    private Page<DetalleTopicoDTO> listarPorFecha(Pageable paginacion, Sort.Direction direccion) {
+        boolean descendente = direccion.isDescending();
+        Sort orden = Sort.by(direccion, "fechaCreacion", "id");
+        Comparator<ClaveTopico> comparador = Comparator.comparing(ClaveTopico::fechaCreacion)
+                .thenComparing(ClaveTopico::id);
+        if (descendente) {
+            comparador = comparador.reversed();
+        }
+        TablaTopicos primera = descendente ? vivos(true) : archivados(false);
+        TablaTopicos otra = descendente ? archivados(true) : vivos(false);
+
+        long desde = paginacion.getOffset();
+        int tamano = paginacion.getPageSize();
+        long hasta = desde + tamano;
+
+        List<DetalleTopicoDTO> dePrimera = primera.filas().apply(new Desplazamiento(desde, tamano, orden));
+        List<ClaveTopico> inicioOtra = otra.claves().apply(new Desplazamiento(0, 1, orden));
+        if (dePrimera.size() == tamano && (inicioOtra.isEmpty()
+                || comparador.compare(clave(dePrimera.get(tamano - 1)), inicioOtra.get(0)) < 0)) {
+            return new PageImpl<>(dePrimera, paginacion, topicoRepository.count() + contarArchivados());
+        }
+
+        // Fuera del camino rápido los desplazamientos dependen de los totales: se cuentan exactos
+
+        long totalPrimera = primera.total().getAsLong();
+        long totalOtra = otra.total().getAsLong();
+        List<ClaveTopico> finPrimera = primera.claves().apply(new Desplazamiento(0, 1, orden.reverse()));
+        long prefijo = inicioOtra.isEmpty() ? totalPrimera : primera.contarAntesDe().applyAsLong(inicioOtra.get(0));
+        long sufijo = finPrimera.isEmpty() ? totalOtra : totalOtra - otra.contarAntesDe().applyAsLong(finPrimera.get(0));
+        long finVentana = totalPrimera + totalOtra - sufijo;
+
+        List<DetalleTopicoDTO> contenido = new ArrayList<>();
+        if (desde < prefijo) {
+            int enPrefijo = (int) (Math.min(hasta, prefijo) - desde);
+            contenido.addAll(dePrimera.subList(0, Math.min(enPrefijo, dePrimera.size())));
+        }
+        long inicioVentana = Math.max(desde, prefijo);
+        long corteVentana = Math.min(hasta, finVentana);
+        if (inicioVentana < corteVentana) {
+            contenido.addAll(mezclarVentana(primera, otra, orden, comparador, prefijo, inicioVentana, corteVentana));
+        }
+        // En el sufijo todas las filas de la primera ya quedaron atrás
+        long inicioSufijo = Math.max(desde, finVentana);
+        long finSufijo = Math.min(hasta, totalPrimera + totalOtra);
+        if (inicioSufijo < finSufijo) {
+            contenido.addAll(otra.filas().apply(
+                    new Desplazamiento(inicioSufijo - totalPrimera, (int) (finSufijo - inicioSufijo), orden)));
+        }
+        return new PageImpl<>(contenido, paginacion, totalPrimera + totalOtra);
+    }
+
+    /*
+      Posiciones [desde, hasta) de la ventana que empieza en la posición "prefijo"
+      Mezcla solo claves (ID y fecha, desde el índice) y carga completas las de la página
+     */
+    private List<DetalleTopicoDTO> mezclarVentana(TablaTopicos primera, TablaTopicos otra, Sort orden,
+                                                  Comparator<ClaveTopico> comparador,
+                                                  long prefijo, long desde, long hasta) {
+        int leer = (int) (hasta - prefijo);
+        List<ClaveTopico> clavesPrimera = primera.claves().apply(new Desplazamiento(prefijo, leer, orden));
+        List<ClaveTopico> clavesOtra = otra.claves().apply(new Desplazamiento(0, leer, orden));
+
+        List<ClaveTopico> pagina = new ArrayList<>();
+        List<Long> idsPrimera = new ArrayList<>();
+        List<Long> idsOtra = new ArrayList<>();
+        int p = 0;
+        int o = 0;
+        for (long posicion = prefijo; posicion < hasta && (p < clavesPrimera.size() || o < clavesOtra.size()); posicion++) {
+            boolean deOtra = p == clavesPrimera.size()
+                    || (o < clavesOtra.size() && comparador.compare(clavesOtra.get(o), clavesPrimera.get(p)) < 0);
+            ClaveTopico clave = deOtra ? clavesOtra.get(o++) : clavesPrimera.get(p++);
+            if (posicion >= desde) {
+                pagina.add(clave);
+                (deOtra ? idsOtra : idsPrimera).add(clave.id());
+            }
+        }
+
+        Map<Long, DetalleTopicoDTO> detalles = new HashMap<>();
+        if (!idsPrimera.isEmpty()) {
+            primera.porIds().apply(idsPrimera).forEach(detalle -> detalles.put(detalle.id(), detalle));
+        }
+        if (!idsOtra.isEmpty()) {
+            otra.porIds().apply(idsOtra).forEach(detalle -> detalles.put(detalle.id(), detalle));
+        }
+        return pagina.stream()
+                .map(clave -> detalles.get(clave.id()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /*
+      Lecturas de una de las dos tablas para listarPorFecha
+
+      @param contarAntesDe Filas que van antes de la clave en el orden del listado
+     */
+    private record TablaTopicos(Function<Pageable, List<DetalleTopicoDTO>> filas,
+                                Function<Pageable, List<ClaveTopico>> claves,
+                                ToLongFunction<ClaveTopico> contarAntesDe,
+                                LongSupplier total,
+                                Function<Collection<Long>, List<DetalleTopicoDTO>> porIds) {
+    }
+
+    private TablaTopicos vivos(boolean descendente) {
+        return new TablaTopicos(
+                tramo -> topicoRepository.listarConAutorYCurso(tramo).stream().map(DetalleTopicoDTO::new).toList(),
+                topicoRepository::listarClaves,
+                clave -> descendente
+                        ? topicoRepository.contarPosteriores(clave.fechaCreacion(), clave.id())
+                        : topicoRepository.contarAnteriores(clave.fechaCreacion(), clave.id()),
+                topicoRepository::count,
+                ids -> topicoRepository.buscarLoteConAutorYCurso(ids).stream().map(DetalleTopicoDTO::new).toList());
+    }
+
+    private TablaTopicos archivados(boolean descendente) {
+        return new TablaTopicos(
+                tramo -> topicoArchivadoRepository.listarConAutorYCurso(tramo).stream().map(DetalleTopicoDTO::new).toList(),
+                topicoArchivadoRepository::listarClaves,
+                clave -> descendente
+                        ? topicoArchivadoRepository.contarPosteriores(clave.fechaCreacion(), clave.id())
+                        : topicoArchivadoRepository.contarAnteriores(clave.fechaCreacion(), clave.id()),
+                topicoArchivadoRepository::count,
+                ids -> topicoArchivadoRepository.buscarLoteConAutorYCurso(ids).stream().map(DetalleTopicoDTO::new).toList());
+    }
+
+    private static ClaveTopico clave(DetalleTopicoDTO detalle) {
+        return new ClaveTopico(detalle.id(), detalle.fechaCreacion());
+    }
+
+    // Busca los IDs entre los vivos y, los que falten, en el archivo (una consulta IN por tabla)
+
+    private Map<Long, DetalleTopicoDTO> buscarVivosYArchivados(Collection<Long> ids) {
+        Map<Long, DetalleTopicoDTO> encontrados = new HashMap<>();
+        if (ids.isEmpty()) {
+            return encontrados;
+        }
+        topicoRepository.buscarLoteConAutorYCurso(ids)
+                .forEach(topico -> encontrados.put(topico.getId(), new DetalleTopicoDTO(topico)));
+
+        if (encontrados.size() < ids.size()) {
+            List<Long> restantes = ids.stream().filter(id -> !encontrados.containsKey(id)).toList();
+            topicoArchivadoRepository.buscarLoteConAutorYCurso(restantes)
+                    .forEach(topico -> encontrados.put(topico.getId(), new DetalleTopicoDTO(topico)));
+        }
+        return encontrados;
+    }
+
+    // El archivo solo crece una vez al día: su total se reutiliza durante forohub.archivo.vigencia-conteo
+
+    private long contarArchivados() {
+        ConteoArchivo conteo = conteoArchivo.get();
+        long ahora = System.nanoTime();
+        if (conteo == null || ahora - conteo.calculado() > vigenciaConteoArchivo.toNanos()) {
+            conteo = new ConteoArchivo(topicoArchivadoRepository.count(), ahora);
+            conteoArchivo.set(conteo);
+        }
+        return conteo.total();
+    }
+
+    private record ConteoArchivo(long total, long calculado) {
     }
 
     // ============================================
@@ -182,6 +509,48 @@ public class TopicoService {
         }
     }
 
+    // fields tiene prioridad sobre vista; sin repetidos y en el orden pedido
+    // @throws ParametroInvalidoException si un campo o la vista no existen, o fields no nombra ninguno (",")
+
+    private List<CampoTopico> resolverCampos(String fields, String vista) {
+        if (fields == null || fields.isBlank()) {
+            if (!VISTA_RESUMEN_NOMBRE.equals(vista)) {
+                throw new ParametroInvalidoException("vista",
+                        "Vista desconocida: " + vista + " (disponible: " + VISTA_RESUMEN_NOMBRE + ")");
+            }
+            return VISTA_RESUMEN;
+        }
+        List<CampoTopico> campos = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(nombre -> !nombre.isEmpty())
+                .distinct()
+                .map(nombre -> CampoTopico.desde(nombre).orElseThrow(() ->
+                        new ParametroInvalidoException("fields", "Campo desconocido: " + nombre)))
+                .toList();
+        if (campos.isEmpty()) {
+            throw new ParametroInvalidoException("fields", "Indique al menos un campo");
+        }
+        return campos;
+    }
+
+    // @throws ParametroInvalidoException si se ordena por un campo no proyectable o por "mensaje"
+
+    // Hibernate pagina con int: offset + tamaño debe caber en uno
+
+    private void validarPagina(Pageable paginacion) {
+        if (paginacion.getOffset() + paginacion.getPageSize() > Integer.MAX_VALUE) {
+            throw new ParametroInvalidoException("page", "Página fuera de rango: " + paginacion.getPageNumber());
+        }
+    }
+
+    private void validarOrden(Sort sort) {
+        sort.forEach(orden -> {
+            if (CampoTopico.desde(orden.getProperty()).filter(campo -> campo != CampoTopico.MENSAJE).isEmpty()) {
+                throw new ParametroInvalidoException("sort", "No se puede ordenar por: " + orden.getProperty());
+            }
+        });
+    }
+
     // Busca un curso por ID
     // @throws CursoNotFoundException si no existe
 
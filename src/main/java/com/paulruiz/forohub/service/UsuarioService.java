@@ -1,21 +1,28 @@
 package com.paulruiz.forohub.service;
 
+import com.paulruiz.forohub.dto.DetalleUsuarioDTO;
+import com.paulruiz.forohub.dto.LoteDTO;
 import com.paulruiz.forohub.dto.RegistroUsuarioDTO;
 import com.paulruiz.forohub.infra.errores.EmailDuplicadoException;
+import com.paulruiz.forohub.infra.errores.ParametroInvalidoException;
 import com.paulruiz.forohub.infra.errores.PerfilNotFoundException;
 import com.paulruiz.forohub.infra.errores.UsuarioActivoException;
 import com.paulruiz.forohub.infra.errores.UsuarioBloqueadoException;
 import com.paulruiz.forohub.infra.errores.UsuarioNotFoundException;
+import com.paulruiz.forohub.infra.eventos.BusEventos;
+import com.paulruiz.forohub.infra.eventos.UsuarioBloqueado;
 import com.paulruiz.forohub.model.Perfil;
 import com.paulruiz.forohub.model.Usuario;
 import com.paulruiz.forohub.repository.PerfilRepository;
 import com.paulruiz.forohub.repository.UsuarioRepository;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 // Servicio que contiene la lógica de negocio para Usuarios
@@ -32,6 +39,14 @@ public class UsuarioService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    // Eventos de dominio para los oyentes asíncronos (se entregan después del commit)
+    @Autowired
+    private BusEventos busEventos;
+
+    // Máximo de IDs por lectura por lote (GET /usuarios?ids=)
+    @Value("${forohub.lote.max-ids:100}")
+    private int maxIdsLote;
+
     // ============================================
     // Registrar usuario
     // ============================================
@@ -88,11 +103,26 @@ public class UsuarioService {
       @return Usuario encontrado
       @throws UsuarioNotFoundException si no existe
      */
+    @Transactional(readOnly = true)
     public Usuario obtenerUsuarioPorId(Long id) {
         return usuarioRepository.findById(id)
                 .orElseThrow(() -> new UsuarioNotFoundException(id));
     }
 
+    /*
+      Obtiene varios usuarios en una sola consulta, en el orden pedido
+
+      @param ids IDs de los usuarios (se ignoran repetidos)
+      @return Usuarios encontrados y los IDs que no existen
+      @throws ParametroInvalidoException si no hay IDs o superan forohub.lote.max-ids
+     */
+    @Transactional(readOnly = true)
+    public LoteDTO<DetalleUsuarioDTO> obtenerLoteUsuarios(List<Long> ids) {
+        List<Long> pedidos = IdsLote.normalizar(ids, maxIdsLote);
+        return LoteDTO.armar(pedidos, usuarioRepository.buscarLoteConPerfiles(pedidos),
+                Usuario::getId, DetalleUsuarioDTO::new);
+    }
+
     // ============================================
     // Bloquear usuario
     // ============================================
@@ -116,6 +146,7 @@ public class UsuarioService {
 
         // Marcar como inactivo
         usuario.setActivo(false);
+        busEventos.publicar(new UsuarioBloqueado(usuario.getId()));
     }
 
     // ============================================
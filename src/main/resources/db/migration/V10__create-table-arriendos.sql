@@ -0,0 +1,16 @@
+-- ============================================
+-- TABLA: arriendos
+-- Arriendos (leases) para tareas programadas: en un despliegue con varios
+-- nodos solo el titular de un arriendo vigente ejecuta la tarea
+-- ============================================
+
+CREATE TABLE arriendos (
+                           nombre VARCHAR(50) NOT NULL,
+                           titular VARCHAR(100),
+                           vence DATETIME NOT NULL,
+
+                           PRIMARY KEY (nombre)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Una fila por tarea, vencida desde el inicio
+INSERT INTO arriendos (nombre, titular, vence) VALUES ('cierre-inactivos', NULL, '2000-01-01 00:00:00');
@@ -0,0 +1,43 @@
+-- ============================================
+-- TABLAS: topicos_archivo y respuestas_archivo
+-- Tópicos antiguos (y sus respuestas) que el archivador saca de las tablas vivas
+-- La columna anio (año de creación del tópico) es la clave de partición en MySQL
+-- (ver db/vendor/mysql): las respuestas usan el año de su tópico y quedan en la misma partición
+-- Sin claves foráneas: MySQL no las admite en tablas particionadas
+-- ============================================
+
+CREATE TABLE topicos_archivo (
+                                 id BIGINT NOT NULL,
+                                 anio SMALLINT NOT NULL,
+                                 titulo VARCHAR(200) NOT NULL,
+                                 mensaje TEXT NOT NULL,
+                                 extracto VARCHAR(200) NOT NULL,
+                                 fecha_creacion DATETIME NOT NULL,
+                                 status VARCHAR(50) NOT NULL,
+                                 autor_id BIGINT NOT NULL,
+                                 curso_id BIGINT NOT NULL,
+                                 fecha_archivo DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                 PRIMARY KEY (id, anio)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX idx_topicos_archivo_fecha ON topicos_archivo(anio, fecha_creacion);
+CREATE INDEX idx_topicos_archivo_curso ON topicos_archivo(curso_id);
+CREATE INDEX idx_topicos_archivo_autor ON topicos_archivo(autor_id);
+
+CREATE TABLE respuestas_archivo (
+                                    id BIGINT NOT NULL,
+                                    anio SMALLINT NOT NULL,
+                                    topico_id BIGINT NOT NULL,
+                                    mensaje TEXT NOT NULL,
+                                    fecha_creacion DATETIME NOT NULL,
+                                    autor_id BIGINT NOT NULL,
+                                    solucion BOOLEAN NOT NULL DEFAULT FALSE,
+
+                                    PRIMARY KEY (id, anio)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX idx_respuestas_archivo_topico ON respuestas_archivo(topico_id);
+
+-- Arriendo del archivador (una sola instancia activa entre todos los nodos)
+INSERT INTO arriendos (nombre, titular, vence) VALUES ('archivo-topicos', NULL, '2000-01-01 00:00:00');
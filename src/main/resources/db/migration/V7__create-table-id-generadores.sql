@@ -0,0 +1,30 @@
+-- ============================================
+-- TABLA: id_generadores
+-- Generador de IDs por bloques (pooled hi/lo) usado por Hibernate
+-- Reemplaza AUTO_INCREMENT para permitir JDBC batch inserts
+-- ============================================
+
+CREATE TABLE id_generadores (
+                                entidad VARCHAR(50) NOT NULL,
+                                siguiente_valor BIGINT NOT NULL,
+
+                                PRIMARY KEY (entidad)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Inicializar cada contador por encima de los IDs existentes
+-- Con el optimizador pooled, el valor guardado es el límite superior
+-- del próximo bloque de 50 IDs (allocationSize)
+INSERT INTO id_generadores (entidad, siguiente_valor)
+SELECT 'usuarios', COALESCE(MAX(id), 0) + 50 FROM usuarios;
+
+INSERT INTO id_generadores (entidad, siguiente_valor)
+SELECT 'perfiles', COALESCE(MAX(id), 0) + 50 FROM perfiles;
+
+INSERT INTO id_generadores (entidad, siguiente_valor)
+SELECT 'cursos', COALESCE(MAX(id), 0) + 50 FROM cursos;
+
+INSERT INTO id_generadores (entidad, siguiente_valor)
+SELECT 'topicos', COALESCE(MAX(id), 0) + 50 FROM topicos;
+
+INSERT INTO id_generadores (entidad, siguiente_valor)
+SELECT 'respuestas', COALESCE(MAX(id), 0) + 50 FROM respuestas;
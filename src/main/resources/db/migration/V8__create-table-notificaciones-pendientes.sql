@@ -0,0 +1,31 @@
+-- ============================================
+-- TABLA: notificaciones_pendientes
+-- Outbox transaccional: la notificación se inserta en la misma transacción
+-- que la respuesta y un despachador en segundo plano la entrega por su canal
+-- Las entregadas se borran; las que agotan los reintentos quedan como FALLIDA
+-- ============================================
+
+CREATE TABLE notificaciones_pendientes (
+                                           id BIGINT NOT NULL,
+                                           tipo VARCHAR(30) NOT NULL,
+                                           canal VARCHAR(30) NOT NULL,
+                                           destinatario_id BIGINT NOT NULL,
+                                           datos TEXT NOT NULL,
+                                           estado VARCHAR(20) NOT NULL DEFAULT 'PENDIENTE',
+                                           intentos INT NOT NULL DEFAULT 0,
+                                           proximo_intento DATETIME NOT NULL,
+                                           ultimo_error VARCHAR(500),
+                                           fecha_creacion DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                           PRIMARY KEY (id),
+
+                                           CONSTRAINT fk_notificaciones_destinatario
+                                               FOREIGN KEY (destinatario_id) REFERENCES usuarios(id)
+                                                   ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- El despachador reclama por estado y fecha del próximo intento
+CREATE INDEX idx_notificaciones_despacho ON notificaciones_pendientes(estado, proximo_intento);
+
+-- IDs por bloques como el resto de las entidades
+INSERT INTO id_generadores (entidad, siguiente_valor) VALUES ('notificaciones_pendientes', 50);
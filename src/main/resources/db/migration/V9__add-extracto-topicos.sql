@@ -0,0 +1,10 @@
+-- ============================================
+-- COLUMNA: topicos.extracto
+-- Primeros caracteres del mensaje para los listados (vista=resumen)
+-- El mensaje es TEXT y suele quedar en páginas de desborde de InnoDB:
+-- el listado resumido lee solo columnas de la fila sin tocar esas páginas
+-- ============================================
+
+ALTER TABLE topicos ADD COLUMN extracto VARCHAR(200) NOT NULL DEFAULT '';
+
+UPDATE topicos SET extracto = LEFT(mensaje, 200);
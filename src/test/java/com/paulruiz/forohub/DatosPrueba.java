@@ -0,0 +1,83 @@
+package com.paulruiz.forohub;
+
+import com.paulruiz.forohub.model.Curso;
+import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.CursoRepository;
+import com.paulruiz.forohub.repository.RespuestaRepository;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import com.paulruiz.forohub.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ Datos de prueba para las pruebas de integración (perfil "test")
+ Cada llamada crea filas nuevas con nombres únicos: las pruebas comparten
+ la base en memoria y no deben depender de lo que dejaron otras
+
+ Uso: @Import(DatosPrueba.class) en la clase de prueba
+ */
+@TestComponent
+public class DatosPrueba {
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    public Usuario usuario() {
+        Usuario usuario = new Usuario();
+        String sufijo = sufijo();
+        usuario.setNombre("Usuario " + sufijo);
+        usuario.setEmail("usuario-" + sufijo + "@forohub.com");
+        usuario.setContrasena("$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8ssKQqpXRXUhieo2r6");
+        return usuarioRepository.save(usuario);
+    }
+
+    public Curso curso() {
+        Curso curso = new Curso();
+        curso.setNombre("Curso " + sufijo());
+        curso.setCategoria("Pruebas");
+        return cursoRepository.save(curso);
+    }
+
+    // Tópico de un autor y curso nuevos
+
+    public Topico topico(LocalDateTime fechaCreacion) {
+        return topico(usuario(), curso(), fechaCreacion);
+    }
+
+    public Topico topico(Usuario autor, Curso curso, LocalDateTime fechaCreacion) {
+        Topico topico = new Topico();
+        topico.setTitulo("Tópico " + sufijo());
+        topico.setMensaje("Mensaje de prueba");
+        topico.setFechaCreacion(fechaCreacion);
+        topico.setAutor(autor);
+        topico.setCurso(curso);
+        return topicoRepository.save(topico);
+    }
+
+    public Respuesta respuesta(Topico topico, LocalDateTime fechaCreacion) {
+        Respuesta respuesta = new Respuesta();
+        respuesta.setMensaje("Respuesta de prueba");
+        respuesta.setFechaCreacion(fechaCreacion);
+        respuesta.setTopico(topico);
+        respuesta.setAutor(topico.getAutor());
+        return respuestaRepository.save(respuesta);
+    }
+
+    private String sufijo() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
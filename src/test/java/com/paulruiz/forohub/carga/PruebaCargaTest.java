@@ -0,0 +1,305 @@
+package com.paulruiz.forohub.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ Prueba de carga de punta a punta (perfil "carga", H2 en memoria)
+
+ Cada cliente virtual corre en su propio hilo virtual con su usuario y token,
+ y ejecuta una mezcla de operaciones:
+ - 35% GET /topicos, 30% GET /topicos/{id}, 15% POST /respuestas
+ - 10% POST /topicos, 5% POST /login, 5% PUT /respuestas/{id}/marcar-solucion
+
+ Parámetros (system properties):
+ - carga.clientes: clientes concurrentes (default 200)
+ - carga.calentamiento: segundos sin medir (default 10)
+ - carga.duracion: segundos medidos (default 60)
+ - spring.threads.virtual.enabled: atender las peticiones con hilos virtuales (default false)
+
+ El reporte queda en target/carga-reporte-{plataforma|virtual}-{clientes}.txt
+ para comparar ambos modos con la misma cantidad de clientes
+ */
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("carga")
+class PruebaCargaTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PruebaCargaTest.class);
+
+    private static final int CLIENTES = Integer.getInteger("carga.clientes", 200);
+    private static final Duration CALENTAMIENTO = Duration.ofSeconds(Long.getLong("carga.calentamiento", 10));
+    private static final Duration DURACION = Duration.ofSeconds(Long.getLong("carga.duracion", 60));
+    private static final String CONTRASENA = "carga123";
+
+    @LocalServerPort
+    private int puerto;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean hilosVirtuales;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient http;
+    private final RegistroLatencias registro = new RegistroLatencias();
+
+    // IDs de tópicos visibles para todos los clientes
+    private final List<Long> topicos = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void mezclaRealistaDeOperaciones() throws Exception {
+        try (ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            http = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            // Preparación: registrar usuarios, login y tópicos iniciales
+            List<ClienteVirtual> clientes = new ArrayList<>();
+            for (int i = 0; i < CLIENTES; i++) {
+                clientes.add(new ClienteVirtual(i));
+            }
+            ejecutarEnParalelo(ejecutor, clientes, ClienteVirtual::preparar);
+
+            // Carga: calentamiento sin medir + medición
+            long inicioMedicion = System.nanoTime() + CALENTAMIENTO.toNanos();
+            long fin = inicioMedicion + DURACION.toNanos();
+            ejecutarEnParalelo(ejecutor, clientes, cliente -> cliente.ejecutar(inicioMedicion, fin));
+        }
+
+        String modo = hilosVirtuales ? "virtual" : "plataforma";
+        String reporte = "Hilos " + modo + ", " + CLIENTES + " clientes\n"
+                + registro.reporte(DURACION.toSeconds());
+        log.info("Reporte de carga:\n{}", reporte);
+        Files.writeString(Path.of("target", "carga-reporte-" + modo + "-" + CLIENTES + ".txt"), reporte);
+
+        assertThat(registro.totalExitosas()).isPositive();
+    }
+
+    private void ejecutarEnParalelo(ExecutorService executor, List<ClienteVirtual> clientes,
+                                    TareaCliente tarea) throws Exception {
+        List<Future<?>> futuros = new ArrayList<>();
+        for (ClienteVirtual cliente : clientes) {
+            futuros.add(executor.submit(() -> {
+                tarea.ejecutar(cliente);
+                return null;
+            }));
+        }
+        for (Future<?> futuro : futuros) {
+            futuro.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TareaCliente {
+        void ejecutar(ClienteVirtual cliente) throws Exception;
+    }
+
+    // ============================================
+    // Cliente virtual
+    // ============================================
+
+    private class ClienteVirtual {
+
+        private final int numero;
+        private final String email;
+        private final Random random;
+        private final AtomicInteger contador = new AtomicInteger();
+        private final List<Long> misTopicos = new ArrayList<>();
+        // Respuestas en mis tópicos sin solución (candidatas a marcar-solucion)
+        private final Deque<Long> respuestasPendientes = new ArrayDeque<>();
+        private String token;
+        private boolean preparando;
+
+        ClienteVirtual(int numero) {
+            this.numero = numero;
+            this.email = "carga" + numero + "@forohub.com";
+            this.random = new Random(numero);
+        }
+
+        void preparar() throws Exception {
+            preparando = true;
+            enviar("POST /usuarios", post("/usuarios", """
+                    {"nombre": "Cliente %d", "email": "%s", "contrasena": "%s"}
+                    """.formatted(numero, email, CONTRASENA), false), false);
+            login(false);
+            crearTopico(false);
+            crearTopico(false);
+            preparando = false;
+        }
+
+        void ejecutar(long inicioMedicion, long fin) throws Exception {
+            long ahora;
+            while ((ahora = System.nanoTime()) < fin) {
+                boolean medir = ahora >= inicioMedicion;
+                int dado = random.nextInt(100);
+
+                if (dado < 35) {
+                    listarTopicos(medir);
+                } else if (dado < 65) {
+                    detalleTopico(medir);
+                } else if (dado < 80) {
+                    responder(medir);
+                } else if (dado < 90) {
+                    crearTopico(medir);
+                } else if (dado < 95) {
+                    login(medir);
+                } else {
+                    marcarSolucion(medir);
+                }
+            }
+        }
+
+        // ============================================
+        // Operaciones
+        // ============================================
+
+        private void login(boolean medir) throws Exception {
+            HttpResponse<String> respuesta = enviar("POST /login", post("/login", """
+                    {"email": "%s", "contrasena": "%s"}
+                    """.formatted(email, CONTRASENA), false), medir);
+            if (respuesta.statusCode() == 200) {
+                token = leer(respuesta).get("token").asText();
+            }
+        }
+
+        private void listarTopicos(boolean medir) throws Exception {
+            int pagina = random.nextInt(5);
+            enviar("GET /topicos", get("/topicos?page=" + pagina), medir);
+        }
+
+        private void detalleTopico(boolean medir) throws Exception {
+            Long id = topicoAlAzar();
+            if (id != null) {
+                enviar("GET /topicos/{id}", get("/topicos/" + id), medir);
+            }
+        }
+
+        private void crearTopico(boolean medir) throws Exception {
+            int n = contador.incrementAndGet();
+            long cursoId = 1 + random.nextInt(5);
+            HttpResponse<String> respuesta = enviar("POST /topicos", post("/topicos", """
+                    {"titulo": "Tópico %d-%d", "mensaje": "Mensaje de carga %d del cliente %d", "cursoId": %d}
+                    """.formatted(numero, n, n, numero, cursoId), true), medir);
+            if (respuesta.statusCode() == 201) {
+                long id = leer(respuesta).get("id").asLong();
+                misTopicos.add(id);
+                topicos.add(id);
+            }
+        }
+
+        // Responde a un tópico propio la mitad de las veces, para tener soluciones que marcar
+
+        private void responder(boolean medir) throws Exception {
+            boolean propio = !misTopicos.isEmpty() && random.nextBoolean();
+            Long topicoId = propio ? misTopicos.get(random.nextInt(misTopicos.size())) : topicoAlAzar();
+            if (topicoId == null) {
+                return;
+            }
+            HttpResponse<String> respuesta = enviar("POST /respuestas", post("/respuestas", """
+                    {"mensaje": "Respuesta de carga del cliente %d", "topicoId": %d}
+                    """.formatted(numero, topicoId), true), medir);
+            if (propio && respuesta.statusCode() == 201) {
+                respuestasPendientes.add(leer(respuesta).get("id").asLong());
+                misTopicos.remove(topicoId);
+            }
+        }
+
+        private void marcarSolucion(boolean medir) throws Exception {
+            Long respuestaId = respuestasPendientes.poll();
+            if (respuestaId == null) {
+                listarTopicos(medir);
+                return;
+            }
+            enviar("PUT /respuestas/{id}/marcar-solucion", HttpRequest.newBuilder(uri("/respuestas/" + respuestaId + "/marcar-solucion"))
+                    .header("Authorization", "Bearer " + token)
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build(), medir);
+        }
+
+        // ============================================
+        // HTTP
+        // ============================================
+
+        // Durante la preparación se reintenta lo que rechazan los bulkheads (503)
+
+        private HttpResponse<String> enviar(String endpoint, HttpRequest request, boolean medir) throws Exception {
+            HttpResponse<String> respuesta = PruebaCargaTest.this.enviar(endpoint, request, medir);
+            while (preparando && respuesta.statusCode() == 503) {
+                Thread.sleep(100 + random.nextInt(900));
+                respuesta = PruebaCargaTest.this.enviar(endpoint, request, medir);
+            }
+            return respuesta;
+        }
+
+        private Long topicoAlAzar() {
+            synchronized (topicos) {
+                return topicos.isEmpty() ? null : topicos.get(random.nextInt(topicos.size()));
+            }
+        }
+
+        private HttpRequest get(String ruta) {
+            return HttpRequest.newBuilder(uri(ruta))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest post(String ruta, String json, boolean autenticado) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri(ruta))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json));
+            if (autenticado) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder.build();
+        }
+    }
+
+    private HttpResponse<String> enviar(String endpoint, HttpRequest request, boolean medir) throws Exception {
+        long inicio = System.nanoTime();
+        HttpResponse<String> respuesta = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (medir) {
+            int status = respuesta.statusCode();
+            registro.registrar(endpoint, System.nanoTime() - inicio, status >= 200 && status < 300);
+        }
+        return respuesta;
+    }
+
+    private JsonNode leer(HttpResponse<String> respuesta) throws Exception {
+        return objectMapper.readTree(respuesta.body());
+    }
+
+    private URI uri(String ruta) {
+        return URI.create("http://localhost:" + puerto + ruta);
+    }
+}
@@ -0,0 +1,86 @@
+package com.paulruiz.forohub.carga;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/*
+ Registro de latencias por endpoint para la prueba de carga
+ Calcula p50/p95/p99, máximo y throughput al final de la medición
+ */
+class RegistroLatencias {
+
+    private final Map<String, Serie> series = new ConcurrentHashMap<>();
+
+    void registrar(String endpoint, long nanos, boolean exitosa) {
+        series.computeIfAbsent(endpoint, e -> new Serie()).agregar(nanos, exitosa);
+    }
+
+    long totalExitosas() {
+        return series.values().stream().mapToLong(Serie::exitosas).sum();
+    }
+
+    /*
+     Arma el reporte en texto plano, una fila por endpoint
+
+     @param segundos Duración de la medición (para el throughput)
+     */
+    String reporte(double segundos) {
+        StringBuilder reporte = new StringBuilder();
+        reporte.append(String.format(Locale.ROOT, "%-32s %9s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "total", "errores", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        new ConcurrentSkipListMap<>(series).forEach((endpoint, serie) -> {
+            long[] latencias = serie.ordenadas();
+            reporte.append(String.format(Locale.ROOT, "%-32s %9d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint,
+                    latencias.length,
+                    latencias.length - serie.exitosas(),
+                    latencias.length / segundos,
+                    percentil(latencias, 0.50),
+                    percentil(latencias, 0.95),
+                    percentil(latencias, 0.99),
+                    latencias.length == 0 ? 0 : latencias[latencias.length - 1] / 1_000_000.0));
+        });
+        return reporte.toString();
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1_000_000.0;
+    }
+
+    // Latencias de un endpoint (arreglo que crece, protegido por el monitor de la serie)
+
+    private static class Serie {
+
+        private long[] latencias = new long[1024];
+        private int cantidad;
+        private int errores;
+
+        synchronized void agregar(long nanos, boolean exitosa) {
+            if (cantidad == latencias.length) {
+                latencias = Arrays.copyOf(latencias, cantidad * 2);
+            }
+            latencias[cantidad++] = nanos;
+            if (!exitosa) {
+                errores++;
+            }
+        }
+
+        synchronized long exitosas() {
+            return cantidad - errores;
+        }
+
+        synchronized long[] ordenadas() {
+            long[] copia = Arrays.copyOf(latencias, cantidad);
+            Arrays.sort(copia);
+            return copia;
+        }
+    }
+}
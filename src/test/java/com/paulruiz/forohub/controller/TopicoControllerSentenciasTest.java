@@ -0,0 +1,104 @@
+package com.paulruiz.forohub.controller;
+
+import com.paulruiz.forohub.DatosPrueba;
+import com.paulruiz.forohub.infra.sql.PresupuestoSentencias;
+import com.paulruiz.forohub.model.Topico;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Presupuesto de sentencias SQL del listado de tópicos
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(DatosPrueba.class)
+@WithMockUser
+class TopicoControllerSentenciasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DatosPrueba datos;
+
+    // Autores y cursos distintos en la primera página: un N+1 repetiría su SELECT por tópico
+    @Test
+    @PresupuestoSentencias(5)
+    void listarTopicosNoGeneraNMasUno() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            datos.topico(LocalDateTime.now());
+        }
+
+        mockMvc.perform(get("/topicos"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-SQL-Sentencias"));
+    }
+
+    // Proyección: una consulta para la página y, como mucho, otra para el total
+    // Con autores y cursos distintos: las uniones no deben repetir sentencias por fila
+    @Test
+    @PresupuestoSentencias(2)
+    void listarTopicosResumenUsaUnaSolaConsulta() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            datos.topico(LocalDateTime.now());
+        }
+
+        mockMvc.perform(get("/topicos").param("vista", "resumen"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido.length()").value(greaterThanOrEqualTo(3)))
+                .andExpect(jsonPath("$.contenido[0].titulo").exists())
+                .andExpect(jsonPath("$.contenido[0].mensaje").doesNotExist());
+    }
+
+    @Test
+    @PresupuestoSentencias(2)
+    void listarTopicosConFieldsDevuelveSoloLosCamposPedidos() throws Exception {
+        Topico topico = datos.topico(LocalDateTime.now().plusYears(1));
+
+        mockMvc.perform(get("/topicos")
+                        .param("fields", "id,nombreCurso")
+                        .param("sort", "fechaCreacion,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido[0].id").value(topico.getId()))
+                .andExpect(jsonPath("$.contenido[0].nombreCurso").value(topico.getCurso().getNombre()))
+                .andExpect(jsonPath("$.contenido[0].titulo").doesNotExist());
+    }
+
+    @Test
+    void listarTopicosConFieldsSinCamposRetorna400() throws Exception {
+        mockMvc.perform(get("/topicos").param("fields", ","))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listarTopicosConCampoDesconocidoRetorna400() throws Exception {
+        mockMvc.perform(get("/topicos").param("fields", "id,contrasena"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Lote: todos los IDs en un solo IN con autor y curso, más el IN de los perfiles de los autores
+    @Test
+    @PresupuestoSentencias(2)
+    void obtenerLoteTopicosUsaUnaSolaConsulta() throws Exception {
+        long primero = datos.topico(LocalDateTime.now()).getId();
+        long segundo = datos.topico(LocalDateTime.now()).getId();
+        long tercero = datos.topico(LocalDateTime.now()).getId();
+
+        mockMvc.perform(get("/topicos").param("ids", tercero + "," + primero + "," + segundo + "," + primero))
+                .andExpect(status().isOk());
+    }
+}
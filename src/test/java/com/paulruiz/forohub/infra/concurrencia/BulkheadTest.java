@@ -0,0 +1,72 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Pruebas del semáforo con espera acotada y sus métricas
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void sinEsperaRechazaAlAgotarLosPermisos() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("prueba", 2, Duration.ZERO, registry);
+
+        assertThat(bulkhead.entrar()).isTrue();
+        assertThat(bulkhead.entrar()).isTrue();
+        assertThat(bulkhead.entrar()).isFalse();
+
+        assertThat(registry.get("forohub.bulkhead.rechazos").tag("bulkhead", "prueba").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("forohub.bulkhead.en.curso").tag("bulkhead", "prueba").gauge().value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void salirDevuelveElPermiso() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("prueba", 1, Duration.ZERO, registry);
+
+        assertThat(bulkhead.entrar()).isTrue();
+        bulkhead.salir();
+
+        assertThat(bulkhead.entrar()).isTrue();
+        assertThat(registry.get("forohub.bulkhead.en.curso").tag("bulkhead", "prueba").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void conEsperaRechazaAlVencerElPlazo() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("prueba", 1, Duration.ofMillis(50), registry);
+        bulkhead.entrar();
+
+        long inicio = System.nanoTime();
+        assertThat(bulkhead.entrar()).isFalse();
+
+        assertThat(System.nanoTime() - inicio).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void conEsperaObtieneElPermisoLiberadoPorOtroHilo() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("prueba", 1, Duration.ofSeconds(5), registry);
+        bulkhead.entrar();
+
+        CompletableFuture<Boolean> espera = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.entrar();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        bulkhead.salir();
+
+        assertThat(espera.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
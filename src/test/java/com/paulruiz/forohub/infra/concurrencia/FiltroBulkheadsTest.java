@@ -0,0 +1,118 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ Pruebas de clasificación, rechazo y límite de escrituras del filtro de bulkheads
+ Con un permiso por clase, una petición anidada dentro de la cadena encuentra
+ el bulkhead ocupado (el semáforo no es reentrante) sin necesidad de otros hilos
+ */
+
+class FiltroBulkheadsTest {
+
+    private static final BulkheadProperties.Limite UNO = new BulkheadProperties.Limite(1, Duration.ZERO);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void lecturaOcupadaRechazaOtraLecturaCon503() throws Exception {
+        FiltroBulkheads filtro = crear(propiedades(1, 4), 10);
+
+        MockHttpServletResponse anidada = new MockHttpServletResponse();
+        filtro.doFilter(peticion("GET", "/topicos"), new MockHttpServletResponse(),
+                (req, res) -> filtro.doFilter(peticion("GET", "/topicos/1"), anidada, cadenaVacia()));
+
+        assertThat(anidada.getStatus()).isEqualTo(503);
+        assertThat(anidada.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rechazos("lecturas")).isEqualTo(1);
+    }
+
+    @Test
+    void lecturaOcupadaNoBloqueaEscrituras() throws Exception {
+        FiltroBulkheads filtro = crear(propiedades(1, 4), 10);
+
+        MockHttpServletResponse anidada = new MockHttpServletResponse();
+        filtro.doFilter(peticion("GET", "/topicos"), new MockHttpServletResponse(),
+                (req, res) -> filtro.doFilter(peticion("POST", "/topicos"), anidada, cadenaVacia()));
+
+        assertThat(anidada.getStatus()).isEqualTo(200);
+        assertThat(rechazos("lecturas") + rechazos("escrituras")).isZero();
+    }
+
+    @Test
+    void clasificaLoginAdminYDocumentacion() throws Exception {
+        FiltroBulkheads filtro = crear(propiedades(1, 4), 10);
+
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        MockHttpServletResponse admin = new MockHttpServletResponse();
+        MockHttpServletResponse documentacion = new MockHttpServletResponse();
+        filtro.doFilter(peticion("POST", "/login"), new MockHttpServletResponse(),
+                (req, res) -> filtro.doFilter(peticion("POST", "/login"), login, cadenaVacia()));
+        filtro.doFilter(peticion("PUT", "/usuarios/5/desbloquear"), new MockHttpServletResponse(),
+                (req, res) -> filtro.doFilter(peticion("GET", "/admin/cache"), admin, cadenaVacia()));
+        filtro.doFilter(peticion("GET", "/topicos"), new MockHttpServletResponse(),
+                (req, res) -> filtro.doFilter(peticion("GET", "/v3/api-docs"), documentacion, cadenaVacia()));
+
+        assertThat(login.getStatus()).isEqualTo(503);
+        assertThat(admin.getStatus()).isEqualTo(503);
+        assertThat(documentacion.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void escriturasEnCeroUsanElPoolMenosLaReserva() {
+        assertThat(FiltroBulkheads.concurrenciaEscrituras(propiedades(0, 4), 10)).isEqualTo(6);
+    }
+
+    @Test
+    void escriturasSobreElPoolFallanAlArrancar() {
+        assertThatThrownBy(() -> crear(propiedades(40, 4), 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("forohub.bulkhead.escrituras.concurrencia");
+    }
+
+    @Test
+    void reservaIgualAlPoolFallaAlArrancar() {
+        assertThatThrownBy(() -> FiltroBulkheads.concurrenciaEscrituras(propiedades(0, 10), 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("reserva-lecturas");
+    }
+
+    // ============================================
+    // Utilidades
+    // ============================================
+
+    private FiltroBulkheads crear(BulkheadProperties properties, int tamanoPool) {
+        // El pool no se abre: solo se lee maximumPoolSize
+        HikariDataSource primario = new HikariDataSource();
+        primario.setMaximumPoolSize(tamanoPool);
+        return new FiltroBulkheads(properties, primario, registry);
+    }
+
+    private BulkheadProperties propiedades(int escrituras, int reservaLecturas) {
+        return new BulkheadProperties(UNO, UNO,
+                new BulkheadProperties.Limite(escrituras, Duration.ZERO), UNO, reservaLecturas);
+    }
+
+    private MockHttpServletRequest peticion(String metodo, String ruta) {
+        return new MockHttpServletRequest(metodo, ruta);
+    }
+
+    private FilterChain cadenaVacia() {
+        return (req, res) -> {
+        };
+    }
+
+    private double rechazos(String bulkhead) {
+        return registry.get("forohub.bulkhead.rechazos").tag("bulkhead", bulkhead).counter().count();
+    }
+}
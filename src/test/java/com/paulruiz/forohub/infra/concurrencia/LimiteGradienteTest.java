@@ -0,0 +1,75 @@
+package com.paulruiz.forohub.infra.concurrencia;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Pruebas del límite adaptativo con latencias simuladas (sin hilos ni reloj real)
+
+class LimiteGradienteTest {
+
+    private static final long VENTANA = Duration.ofMillis(100).toNanos();
+    private static final long MS = 1_000_000;
+
+    private long ahora;
+
+    @Test
+    void latenciaEstableConCargaAltaAumentaElLimite() {
+        LimiteGradiente limite = crear();
+
+        simular(limite, 50, 10 * MS, 100);
+
+        assertThat(limite.getLimite()).isGreaterThan(100);
+    }
+
+    @Test
+    void latenciaEnAumentoReduceElLimite() {
+        LimiteGradiente limite = crear();
+        simular(limite, 20, 10 * MS, 100);
+        int antes = limite.getLimite();
+
+        simular(limite, 10, 80 * MS, antes);
+
+        assertThat(limite.getLimite()).isLessThan(antes);
+    }
+
+    @Test
+    void pocaCargaNoAumentaElLimite() {
+        LimiteGradiente limite = crear();
+
+        simular(limite, 50, 10 * MS, 10);
+
+        assertThat(limite.getLimite()).isEqualTo(100);
+    }
+
+    @Test
+    void latenciaQueSigueSubiendoLlevaAlMinimo() {
+        LimiteGradiente limite = crear();
+        long rtt = 10 * MS;
+
+        // +20% de latencia en cada ventana
+        for (int v = 0; v < 60; v++) {
+            rtt = rtt * 6 / 5;
+            simular(limite, 1, rtt, 1000);
+        }
+
+        assertThat(limite.getLimite()).isEqualTo(10);
+    }
+
+    private LimiteGradiente crear() {
+        return new LimiteGradiente(100, 10, 1000, 1.5, 0.2, Duration.ofNanos(VENTANA));
+    }
+
+    // Cada ventana recibe 20 peticiones con la misma latencia y concurrencia
+
+    private void simular(LimiteGradiente limite, int ventanas, long rtt, int enCurso) {
+        for (int v = 0; v < ventanas; v++) {
+            for (int i = 0; i < 20; i++) {
+                ahora += VENTANA / 19;
+                limite.registrar(ahora, rtt, enCurso);
+            }
+        }
+    }
+}
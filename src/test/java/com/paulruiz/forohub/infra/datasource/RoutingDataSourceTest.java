@@ -0,0 +1,154 @@
+package com.paulruiz.forohub.infra.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Pruebas de enrutamiento primario/réplica con dos bases H2 embebidas
+
+class RoutingDataSourceTest {
+
+    private EmbeddedDatabase primario;
+    private EmbeddedDatabase replica;
+
+    @BeforeEach
+    void setUp() {
+        primario = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("primario")
+                .build();
+        replica = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("replica")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+        primario.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void escrituraVaAlPrimario() throws Exception {
+        RoutingDataSource routing = crearRouting(replica);
+
+        assertThat(baseDe(routing)).contains("primario");
+    }
+
+    @Test
+    void lecturaReadOnlyVaALaReplica() throws Exception {
+        RoutingDataSource routing = crearRouting(replica);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(baseDe(routing)).contains("replica");
+    }
+
+    @Test
+    void replicaCaidaUsaElPrimario() throws Exception {
+        DriverManagerDataSource caida = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/caida");
+        RoutingDataSource routing = crearRouting(caida);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(baseDe(routing)).contains("primario");
+    }
+
+    @Test
+    void despuesDeEscribirElUsuarioLeeDelPrimario() throws Exception {
+        RoutingDataSource routing = crearRouting(replica);
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("ana@forohub.com", null, "ROLE_USER"));
+
+        // Transacción de escritura confirmada
+        TransactionSynchronizationManager.initSynchronization();
+        baseDe(routing);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Lectura inmediata del mismo usuario
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(baseDe(routing)).contains("primario");
+
+        // Otro usuario sigue leyendo de la réplica
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("luis@forohub.com", null, "ROLE_USER"));
+        assertThat(baseDe(routing)).contains("replica");
+    }
+
+    @Test
+    void conexionAnidadaDelPrimarioVaALaReserva() throws Exception {
+        EmbeddedDatabase reserva = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("reserva")
+                .build();
+        try {
+            RoutingDataSource routing = new RoutingDataSource(primario, reserva, List.of(),
+                    Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+            // Transacción abierta + asignación de IDs en conexión aparte
+            try (Connection transaccion = routing.getConnection()) {
+                assertThat(transaccion.getMetaData().getURL()).contains("primario");
+                assertThat(baseDe(routing)).contains("reserva");
+            }
+
+            // Cerrada la primera, la siguiente vuelve al primario
+            assertThat(baseDe(routing)).contains("primario");
+        } finally {
+            reserva.shutdown();
+        }
+    }
+
+    @Test
+    void cerrarDosVecesNoDescuentaOtraConexion() throws Exception {
+        EmbeddedDatabase reserva = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("reserva")
+                .build();
+        try {
+            RoutingDataSource routing = new RoutingDataSource(primario, reserva, List.of(),
+                    Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+            Connection primera = routing.getConnection();
+            primera.close();
+            try (Connection segunda = routing.getConnection()) {
+                primera.close();
+                assertThat(segunda.getMetaData().getURL()).contains("primario");
+                assertThat(baseDe(routing)).contains("reserva");
+            }
+        } finally {
+            reserva.shutdown();
+        }
+    }
+
+    private RoutingDataSource crearRouting(DataSource replica) {
+        return new RoutingDataSource(primario, List.of(replica),
+                Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    private String baseDe(DataSource dataSource) throws Exception {
+        try (Connection conexion = dataSource.getConnection()) {
+            return conexion.getMetaData().getURL();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.paulruiz.forohub.infra.eventos;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Descartes del bus: anillo lleno y cola de un oyente llena (AbortPolicy)
+
+class BusEventosTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BusEventos bus;
+
+    @AfterEach
+    void detener() throws InterruptedException {
+        bus.detener();
+    }
+
+    @Test
+    void colaLlenaDeUnOyenteDescartaSoloParaEseOyente() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        OyentePrueba lento = new OyentePrueba("lento", liberar);
+        OyentePrueba rapido = new OyentePrueba("rapido", null);
+        bus = iniciar(4096, List.of(lento, rapido), Map.of("lento", new EventosProperties.Ejecutor(1, 1)));
+
+        // 1 en ejecución (bloqueado), 1 en cola, el tercero lo rechaza la AbortPolicy
+        for (long id = 1; id <= 3; id++) {
+            bus.publicar(new UsuarioBloqueado(id));
+        }
+
+        esperarHasta(() -> descartados("lento") == 1);
+        esperarHasta(() -> rapido.recibidos.size() == 3);
+        assertThat(rapido.recibidos).hasSize(3);
+
+        liberar.countDown();
+        esperarHasta(() -> lento.recibidos.size() == 2);
+        assertThat(lento.recibidos).extracting(evento -> ((UsuarioBloqueado) evento).usuarioId())
+                .containsExactly(1L, 2L);
+        assertThat(descartados("lento")).isEqualTo(1);
+        assertThat(descartados("rapido")).isZero();
+    }
+
+    @Test
+    void anilloLlenoDescartaSinBloquearAlServicio() throws Exception {
+        OyentePrueba oyente = new OyentePrueba("oyente", null);
+        bus = iniciar(2, List.of(oyente), Map.of());
+        // Sin despachador nadie vacía el anillo
+        bus.detener();
+
+        long inicio = System.nanoTime();
+        for (long id = 1; id <= 3; id++) {
+            bus.publicar(new UsuarioBloqueado(id));
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)).isLessThan(1000);
+        assertThat(descartados("bus")).isEqualTo(1);
+        assertThat(meterRegistry.get("forohub.eventos.pendientes").tag("oyente", "bus").gauge().value())
+                .isEqualTo(2);
+    }
+
+    private BusEventos iniciar(int capacidad, List<OyenteDominio> oyentes,
+                               Map<String, EventosProperties.Ejecutor> ejecutores) {
+        BusEventos nuevo = new BusEventos();
+        ReflectionTestUtils.setField(nuevo, "properties",
+                new EventosProperties(capacidad, new EventosProperties.Ejecutor(1, 1000), ejecutores));
+        ReflectionTestUtils.setField(nuevo, "oyentes", oyentes);
+        ReflectionTestUtils.setField(nuevo, "meterRegistry", meterRegistry);
+        nuevo.iniciar();
+        return nuevo;
+    }
+
+    private double descartados(String oyente) {
+        var contador = meterRegistry.find("forohub.eventos.descartados").tag("oyente", oyente).counter();
+        return contador != null ? contador.count() : 0;
+    }
+
+    private void esperarHasta(BooleanSupplier condicion) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicion.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+
+    // Registra lo que recibe; si tiene un cerrojo espera a que lo liberen en cada evento
+
+    private static class OyentePrueba implements OyenteDominio {
+
+        private final String nombre;
+        private final CountDownLatch liberar;
+        private final List<EventoDominio> recibidos = new CopyOnWriteArrayList<>();
+
+        OyentePrueba(String nombre, CountDownLatch liberar) {
+            this.nombre = nombre;
+            this.liberar = liberar;
+        }
+
+        @Override
+        public String nombre() {
+            return nombre;
+        }
+
+        @Override
+        public Set<Class<? extends EventoDominio>> tipos() {
+            return Set.of(UsuarioBloqueado.class);
+        }
+
+        @Override
+        public void recibir(EventoDominio evento) throws InterruptedException {
+            if (liberar != null) {
+                liberar.await();
+            }
+            recibidos.add(evento);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.paulruiz.forohub.infra.mantenimiento;
+
+import com.paulruiz.forohub.DatosPrueba;
+import com.paulruiz.forohub.dto.DetalleRespuestaDTO;
+import com.paulruiz.forohub.dto.DetalleTopicoDTO;
+import com.paulruiz.forohub.dto.LoteDTO;
+import com.paulruiz.forohub.infra.errores.ParametroInvalidoException;
+import com.paulruiz.forohub.infra.errores.RespuestaArchivadaException;
+import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.repository.RespuestaRepository;
+import com.paulruiz.forohub.repository.TopicoArchivadoRepository;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import com.paulruiz.forohub.service.RespuestaService;
+import com.paulruiz.forohub.service.TopicoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ Archivo de tópicos: traslado por lotes, re-verificación al bloquear,
+ lecturas que caen al archivo y listado mezclado por fecha
+
+ Los tópicos de la prueba del listado son de 1971: en orden ascendente son los primeros
+ del listado aunque la base en memoria sea compartida
+ */
+
+@SpringBootTest(properties = {
+        "forohub.archivo.activo=true",
+        "forohub.archivo.cron=-",
+        "forohub.archivo.meses=6",
+        "forohub.archivo.lote=2",
+        "forohub.archivo.pausa=0ms",
+        "forohub.archivo.vigencia-conteo=0ms"
+})
+@ActiveProfiles("test")
+@Import(DatosPrueba.class)
+class ArchivadorTopicosTest {
+
+    private static final LocalDateTime ANTIGUO = LocalDateTime.now().minusYears(2);
+
+    @Autowired
+    private ArchivadorTopicos archivador;
+
+    @Autowired
+    private TopicoService topicoService;
+
+    @Autowired
+    private RespuestaService respuestaService;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    @Autowired
+    private TopicoArchivadoRepository topicoArchivadoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatosPrueba datos;
+
+    @Test
+    void mueveLosInactivosConSusRespuestasYDejaLosActivos() {
+        Topico inactivo = datos.topico(ANTIGUO);
+        Respuesta respuestaAntigua = datos.respuesta(inactivo, ANTIGUO.plusDays(1));
+        Topico conRespuestaReciente = datos.topico(ANTIGUO);
+        datos.respuesta(conRespuestaReciente, LocalDateTime.now());
+        Topico reciente = datos.topico(LocalDateTime.now());
+
+        archivador.archivar();
+
+        assertThat(topicoRepository.existsById(inactivo.getId())).isFalse();
+        assertThat(respuestaRepository.existsById(respuestaAntigua.getId())).isFalse();
+        assertThat(topicoArchivadoRepository.findById(inactivo.getId()).orElseThrow().getAnio())
+                .isEqualTo((short) ANTIGUO.getYear());
+        assertThat(topicoRepository.existsById(conRespuestaReciente.getId())).isTrue();
+        assertThat(topicoRepository.existsById(reciente.getId())).isTrue();
+    }
+
+    @Test
+    void elBloqueoVuelveAVerificarLaInactividad() {
+        LocalDateTime corte = LocalDateTime.now().minusMonths(6);
+        Topico inactivo = datos.topico(ANTIGUO);
+        Topico respondidoTrasElSelect = datos.topico(ANTIGUO);
+        datos.respuesta(respondidoTrasElSelect, LocalDateTime.now());
+        Topico reciente = datos.topico(LocalDateTime.now());
+
+        List<Long> bloqueados = new TransactionTemplate(transactionManager).execute(status ->
+                topicoRepository.bloquearLote(
+                        List.of(inactivo.getId(), respondidoTrasElSelect.getId(), reciente.getId()), corte));
+
+        assertThat(bloqueados).containsExactly(inactivo.getId());
+    }
+
+    @Test
+    void lasLecturasEncuentranLosArchivados() {
+        Topico archivado = datos.topico(ANTIGUO);
+        Respuesta respuesta = datos.respuesta(archivado, ANTIGUO.plusDays(1));
+        Topico vivo = datos.topico(LocalDateTime.now());
+
+        archivador.archivar();
+
+        assertThat(topicoService.obtenerDetalleTopico(archivado.getId()).titulo()).isEqualTo(archivado.getTitulo());
+        assertThat(respuestaService.listarRespuestasDeTopico(archivado.getId()))
+                .extracting(DetalleRespuestaDTO::mensaje).containsExactly("Respuesta de prueba");
+        assertThat(respuestaService.obtenerDetalleRespuesta(respuesta.getId()).topicoId()).isEqualTo(archivado.getId());
+
+        // Modificar, eliminar o marcar como solución una respuesta archivada es un conflicto, no un 404
+        assertThatThrownBy(() -> respuestaService.eliminarRespuesta(respuesta.getId()))
+                .isInstanceOf(RespuestaArchivadaException.class);
+        assertThatThrownBy(() -> respuestaService.marcarComoSolucion(respuesta.getId()))
+                .isInstanceOf(RespuestaArchivadaException.class);
+
+        LoteDTO<DetalleTopicoDTO> lote = topicoService.obtenerLoteTopicos(List.of(vivo.getId(), archivado.getId(), -1L));
+        assertThat(lote.contenido()).extracting(DetalleTopicoDTO::id).containsExactly(vivo.getId(), archivado.getId());
+        assertThat(lote.faltantes()).containsExactly(-1L);
+    }
+
+    @Test
+    void elListadoPorFechaMezclaVivosYArchivados() {
+        // Archivados 1 y 3; los vivos 2 y 4 son igual de viejos pero con respuestas recientes
+        Topico archivado1 = datos.topico(LocalDateTime.of(1971, 1, 1, 0, 0));
+        Topico vivo2 = datos.topico(LocalDateTime.of(1971, 2, 1, 0, 0));
+        Topico archivado3 = datos.topico(LocalDateTime.of(1971, 3, 1, 0, 0));
+        Topico vivo4 = datos.topico(LocalDateTime.of(1971, 4, 1, 0, 0));
+        datos.respuesta(vivo2, LocalDateTime.now());
+        datos.respuesta(vivo4, LocalDateTime.now());
+
+        archivador.archivar();
+
+        Sort porFecha = Sort.by(Sort.Direction.ASC, "fechaCreacion");
+        Page<DetalleTopicoDTO> primera = topicoService.listarTopicos(PageRequest.of(0, 2, porFecha));
+        Page<DetalleTopicoDTO> segunda = topicoService.listarTopicos(PageRequest.of(1, 2, porFecha));
+
+        assertThat(primera.getContent()).extracting(DetalleTopicoDTO::id)
+                .containsExactly(archivado1.getId(), vivo2.getId());
+        assertThat(segunda.getContent()).extracting(DetalleTopicoDTO::id)
+                .containsExactly(archivado3.getId(), vivo4.getId());
+        assertThat(primera.getTotalElements())
+                .isEqualTo(topicoRepository.count() + topicoArchivadoRepository.count());
+    }
+
+    @Test
+    void cadaPaginaPorFechaCoincideConLaMezclaCompleta() {
+        // Vivos viejos con respuestas recientes intercalados con archivados, más vivos nuevos
+        for (int i = 0; i < 4; i++) {
+            datos.topico(LocalDateTime.of(2000, 1 + 2 * i, 1, 0, 0));
+            Topico vivo = datos.topico(LocalDateTime.of(2000, 2 + 2 * i, 1, 0, 0));
+            datos.respuesta(vivo, LocalDateTime.now());
+            datos.topico(LocalDateTime.now());
+        }
+        archivador.archivar();
+
+        for (Sort.Direction direccion : Sort.Direction.values()) {
+            List<Long> esperados = mezclaCompleta(direccion);
+            for (int tamano : List.of(2, 3, 7)) {
+                List<Long> leidos = new ArrayList<>();
+                for (int pagina = 0; pagina * tamano < esperados.size(); pagina++) {
+                    Page<DetalleTopicoDTO> leida = topicoService.listarTopicos(
+                            PageRequest.of(pagina, tamano, Sort.by(direccion, "fechaCreacion")));
+                    assertThat(leida.getTotalElements()).isEqualTo(esperados.size());
+                    leida.getContent().forEach(detalle -> leidos.add(detalle.id()));
+                }
+                assertThat(leidos).as("%s, páginas de %d", direccion, tamano).isEqualTo(esperados);
+            }
+        }
+    }
+
+    @Test
+    void otrosOrdenesYLasProyeccionesIncluyenLosArchivados() {
+        Topico archivado = datos.topico(LocalDateTime.of(2001, 1, 1, 0, 0));
+        archivador.archivar();
+        long total = topicoRepository.count() + topicoArchivadoRepository.count();
+
+        // Por título: cada tópico una sola vez, vivos y archivados
+        Set<Long> vistos = new HashSet<>();
+        for (int pagina = 0; pagina * 50 < total; pagina++) {
+            Page<DetalleTopicoDTO> leida = topicoService.listarTopicos(
+                    PageRequest.of(pagina, 50, Sort.by("titulo")));
+            assertThat(leida.getTotalElements()).isEqualTo(total);
+            leida.getContent().forEach(detalle -> assertThat(vistos.add(detalle.id())).isTrue());
+        }
+        assertThat(vistos).hasSize((int) total).contains(archivado.getId());
+
+        Page<Map<String, Object>> resumen = topicoService.listarTopicosProyectados("id", null,
+                PageRequest.of(0, (int) total, Sort.by(Sort.Direction.ASC, "fechaCreacion")));
+        assertThat(resumen.getTotalElements()).isEqualTo(total);
+        assertThat(resumen.getContent()).hasSize((int) total).contains(Map.of("id", archivado.getId()));
+    }
+
+    @Test
+    void unOrdenNoListableOUnaPaginaFueraDeRangoSonParametrosInvalidos() {
+        assertThatThrownBy(() -> topicoService.listarTopicos(PageRequest.of(0, 10, Sort.by("mensaje"))))
+                .isInstanceOf(ParametroInvalidoException.class);
+        assertThatThrownBy(() -> topicoService.listarTopicos(
+                PageRequest.of(Integer.MAX_VALUE, 10, Sort.by("fechaCreacion"))))
+                .isInstanceOf(ParametroInvalidoException.class);
+        assertThatThrownBy(() -> topicoService.listarTopicosProyectados("id", null,
+                PageRequest.of(Integer.MAX_VALUE, 10, Sort.by("fechaCreacion"))))
+                .isInstanceOf(ParametroInvalidoException.class);
+    }
+
+    // Referencia: todas las claves de ambas tablas ordenadas en memoria
+
+    private List<Long> mezclaCompleta(Sort.Direction direccion) {
+        Comparator<Object[]> comparador = Comparator.<Object[], LocalDateTime>comparing(clave -> (LocalDateTime) clave[1])
+                .thenComparing(clave -> (Long) clave[0]);
+        List<Object[]> claves = new ArrayList<>();
+        topicoRepository.findAll().forEach(t -> claves.add(new Object[]{t.getId(), t.getFechaCreacion()}));
+        topicoArchivadoRepository.findAll().forEach(t -> claves.add(new Object[]{t.getId(), t.getFechaCreacion()}));
+        claves.sort(direccion.isAscending() ? comparador : comparador.reversed());
+        return claves.stream().map(clave -> (Long) clave[0]).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.paulruiz.forohub.infra.mantenimiento;
+
+import com.paulruiz.forohub.model.Arriendo;
+import com.paulruiz.forohub.repository.ArriendoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// Arriendos de tareas: un solo titular a la vez, renovación propia y vencimiento con el reloj de la base
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArriendosTareasTest {
+
+    private static final String OTRO_NODO = "1@otro-nodo";
+
+    @Autowired
+    private ArriendosTareas arriendos;
+
+    @Autowired
+    private ArriendoRepository arriendoRepository;
+
+    private String nombre;
+
+    @BeforeEach
+    void crearArriendoVencido() {
+        nombre = "prueba-" + UUID.randomUUID().toString().substring(0, 8);
+        arriendoRepository.save(new Arriendo(nombre, null, LocalDateTime.of(2000, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void unArriendoVigenteEsDeUnSoloNodoYSuTitularLoRenueva() {
+        assertThat(arriendos.tomar(nombre, Duration.ofMinutes(1))).isTrue();
+        assertThat(arriendos.tomar(nombre, Duration.ofMinutes(1))).isTrue();
+
+        assertThat(arriendoRepository.tomar(nombre, OTRO_NODO, 60)).isZero();
+        assertThat(arriendoRepository.findById(nombre).orElseThrow().getTitular()).isEqualTo(arriendos.getTitular());
+    }
+
+    @Test
+    void elVencimientoSeCalculaEnLaBase() {
+        arriendos.tomar(nombre, Duration.ofMinutes(5));
+
+        assertThat(arriendoRepository.findById(nombre).orElseThrow().getVence())
+                .isCloseTo(LocalDateTime.now().plusMinutes(5), within(10, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void alLiberarloOtroNodoPuedeTomarlo() throws Exception {
+        arriendos.tomar(nombre, Duration.ofMinutes(1));
+
+        arriendos.liberar(nombre);
+        Thread.sleep(10);
+
+        assertThat(arriendoRepository.tomar(nombre, OTRO_NODO, 60)).isEqualTo(1);
+        assertThat(arriendos.tomar(nombre, Duration.ofMinutes(1))).isFalse();
+    }
+}
@@ -0,0 +1,187 @@
+package com.paulruiz.forohub.infra.mantenimiento;
+
+import com.paulruiz.forohub.DatosPrueba;
+import com.paulruiz.forohub.infra.eventos.EventoDominio;
+import com.paulruiz.forohub.infra.eventos.OyenteDominio;
+import com.paulruiz.forohub.infra.eventos.StatusCambiado;
+import com.paulruiz.forohub.model.Arriendo;
+import com.paulruiz.forohub.model.Curso;
+import com.paulruiz.forohub.model.StatusTopico;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.ArriendoRepository;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cierre de inactivos: lotes por keyset, re-verificación bloqueada, avisos y conteo de los cerrados, arriendo
+
+@SpringBootTest(properties = {
+        "forohub.cierre-inactivos.activo=true",
+        "forohub.cierre-inactivos.retraso-inicial=1h",
+        "forohub.cierre-inactivos.dias=90",
+        "forohub.cierre-inactivos.lote=2",
+        "forohub.cierre-inactivos.pausa=0ms"
+})
+@ActiveProfiles("test")
+@Import({DatosPrueba.class, CierreTopicosInactivosTest.Configuracion.class})
+class CierreTopicosInactivosTest {
+
+    private static final String ARRIENDO = "cierre-inactivos";
+    private static final LocalDateTime ANTIGUO = LocalDateTime.now().minusDays(200);
+
+    @Autowired
+    private CierreTopicosInactivos cierre;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private ArriendoRepository arriendoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OyenteStatus oyente;
+
+    @Autowired
+    private DatosPrueba datos;
+
+    @Test
+    void cierraPorLotesYAvisaYCuentaSoloLosQueCerro() throws Exception {
+        Usuario autor = datos.usuario();
+        Curso curso = datos.curso();
+        Topico inactivo1 = datos.topico(autor, curso, ANTIGUO);
+        Topico inactivo2 = datos.topico(autor, curso, ANTIGUO);
+        Topico inactivo3 = datos.topico(autor, curso, ANTIGUO);
+        Topico conRespuestaReciente = datos.topico(autor, curso, ANTIGUO);
+        datos.respuesta(conRespuestaReciente, LocalDateTime.now());
+        Topico solucionado = datos.topico(autor, curso, ANTIGUO);
+        solucionado.setStatus(StatusTopico.SOLUCIONADO);
+        topicoRepository.save(solucionado);
+        Topico reciente = datos.topico(autor, curso, LocalDateTime.now());
+
+        double cerradosAntes = contador("forohub.cierre.inactivos.topicos");
+        double lotesAntes = contador("forohub.cierre.inactivos.lotes");
+        int avisosAntes = oyente.cerrados.size();
+
+        cierre.cerrarInactivos();
+
+        assertThat(status(inactivo1)).isEqualTo(StatusTopico.CERRADO);
+        assertThat(status(inactivo2)).isEqualTo(StatusTopico.CERRADO);
+        assertThat(status(inactivo3)).isEqualTo(StatusTopico.CERRADO);
+        assertThat(status(conRespuestaReciente)).isEqualTo(StatusTopico.NO_RESPONDIDO);
+        assertThat(status(solucionado)).isEqualTo(StatusTopico.SOLUCIONADO);
+        assertThat(status(reciente)).isEqualTo(StatusTopico.NO_RESPONDIDO);
+
+        // Un aviso por cada tópico contado como cerrado, y ninguno para los que siguieron abiertos
+        long cerrados = (long) (contador("forohub.cierre.inactivos.topicos") - cerradosAntes);
+        esperarHasta(() -> oyente.cerrados.size() - avisosAntes == cerrados);
+        List<Long> avisados = oyente.cerrados.subList(avisosAntes, oyente.cerrados.size());
+        assertThat(avisados).hasSize((int) cerrados)
+                .contains(inactivo1.getId(), inactivo2.getId(), inactivo3.getId())
+                .doesNotContain(conRespuestaReciente.getId(), solucionado.getId(), reciente.getId());
+        assertThat(contador("forohub.cierre.inactivos.lotes") - lotesAntes).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void elBloqueoVuelveAVerificarYDejaFueraAlQueRecibioUnaRespuesta() {
+        Topico inactivo = datos.topico(ANTIGUO);
+        Topico respondidoTrasElSelect = datos.topico(ANTIGUO);
+        datos.respuesta(respondidoTrasElSelect, LocalDateTime.now());
+
+        List<Long> bloqueados = new TransactionTemplate(transactionManager).execute(status ->
+                topicoRepository.bloquearInactivos(List.of(inactivo.getId(), respondidoTrasElSelect.getId()),
+                        List.of("NO_RESPONDIDO", "NO_SOLUCIONADO"), LocalDateTime.now().minusDays(90)));
+
+        assertThat(bloqueados).containsExactly(inactivo.getId());
+    }
+
+    @Test
+    void sinElArriendoNoCierraNada() {
+        Topico inactivo = datos.topico(ANTIGUO);
+        arriendoRepository.save(new Arriendo(ARRIENDO, "1@otro-nodo", LocalDateTime.now().plusHours(1)));
+        double sinArriendoAntes = ejecuciones("sin-arriendo");
+        try {
+            cierre.cerrarInactivos();
+        } finally {
+            arriendoRepository.save(new Arriendo(ARRIENDO, null, LocalDateTime.of(2000, 1, 1, 0, 0)));
+        }
+
+        assertThat(ejecuciones("sin-arriendo") - sinArriendoAntes).isEqualTo(1);
+        assertThat(status(inactivo)).isEqualTo(StatusTopico.NO_RESPONDIDO);
+    }
+
+    private StatusTopico status(Topico topico) {
+        return topicoRepository.findById(topico.getId()).orElseThrow().getStatus();
+    }
+
+    private double contador(String nombre) {
+        return meterRegistry.counter(nombre).count();
+    }
+
+    private double ejecuciones(String resultado) {
+        return meterRegistry.counter("forohub.cierre.inactivos.ejecuciones", "resultado", resultado).count();
+    }
+
+    private void esperarHasta(BooleanSupplier condicion) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicion.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+    }
+
+    @TestConfiguration
+    static class Configuracion {
+
+        @Bean
+        OyenteStatus oyenteStatus() {
+            return new OyenteStatus();
+        }
+    }
+
+    // Registra los tópicos avisados como CERRADO por el bus
+
+    static class OyenteStatus implements OyenteDominio {
+
+        private final List<Long> cerrados = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String nombre() {
+            return "prueba-cierre";
+        }
+
+        @Override
+        public Set<Class<? extends EventoDominio>> tipos() {
+            return Set.of(StatusCambiado.class);
+        }
+
+        @Override
+        public void recibir(EventoDominio evento) {
+            if (evento instanceof StatusCambiado cambio && cambio.status() == StatusTopico.CERRADO) {
+                cerrados.add(cambio.topicoId());
+            }
+        }
+    }
+}
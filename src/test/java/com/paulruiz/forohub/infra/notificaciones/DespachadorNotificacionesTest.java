@@ -0,0 +1,151 @@
+package com.paulruiz.forohub.infra.notificaciones;
+
+import com.paulruiz.forohub.DatosPrueba;
+import com.paulruiz.forohub.model.EstadoNotificacion;
+import com.paulruiz.forohub.model.NotificacionPendiente;
+import com.paulruiz.forohub.model.TipoNotificacion;
+import com.paulruiz.forohub.repository.NotificacionPendienteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// Reclamo, arriendo y reintentos del despachador del outbox (canal de prueba)
+
+@SpringBootTest(properties = {
+        "forohub.notificaciones.arriendo=10m",
+        "forohub.notificaciones.backoff-inicial=5s",
+        "forohub.notificaciones.max-intentos=3"
+})
+@ActiveProfiles("test")
+@Import({DatosPrueba.class, DespachadorNotificacionesTest.Configuracion.class})
+class DespachadorNotificacionesTest {
+
+    @Autowired
+    private DespachadorNotificaciones despachador;
+
+    @Autowired
+    private NotificacionPendienteRepository notificacionRepository;
+
+    @Autowired
+    private CanalPrueba canal;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatosPrueba datos;
+
+    @BeforeEach
+    void limpiar() {
+        canal.fallar = false;
+        canal.proximoIntentoAlEnviar.clear();
+    }
+
+    @Test
+    void entregaLasListasYLasBorraDelOutbox() {
+        NotificacionPendiente lista = guardar(LocalDateTime.now().minusSeconds(1), 0);
+
+        despachador.despachar();
+
+        assertThat(canal.proximoIntentoAlEnviar).containsKey(lista.getId());
+        assertThat(notificacionRepository.findById(lista.getId())).isEmpty();
+        assertThat(meterRegistry.get("forohub.notificaciones.pendientes").gauge().value()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void duranteLaEntregaLaFilaQuedaArrendadaYLasFuturasNoSeReclaman() {
+        NotificacionPendiente lista = guardar(LocalDateTime.now().minusSeconds(1), 0);
+        NotificacionPendiente arrendadaPorOtroNodo = guardar(LocalDateTime.now().plusMinutes(5), 0);
+
+        despachador.despachar();
+
+        // Mientras se entregaba, otro nodo la veía reservada por el arriendo (10m)
+        assertThat(canal.proximoIntentoAlEnviar.get(lista.getId()))
+                .isCloseTo(LocalDateTime.now().plusMinutes(10), within(1, ChronoUnit.MINUTES));
+        assertThat(canal.proximoIntentoAlEnviar).doesNotContainKey(arrendadaPorOtroNodo.getId());
+        assertThat(notificacionRepository.findById(arrendadaPorOtroNodo.getId())).isPresent();
+    }
+
+    @Test
+    void unFalloSeReprogramaConBackoffYAlAgotarLosIntentosQuedaFallida() {
+        canal.fallar = true;
+        NotificacionPendiente primera = guardar(LocalDateTime.now().minusSeconds(1), 0);
+        NotificacionPendiente ultima = guardar(LocalDateTime.now().minusSeconds(1), 2);
+
+        despachador.despachar();
+
+        NotificacionPendiente reintento = notificacionRepository.findById(primera.getId()).orElseThrow();
+        assertThat(reintento.getEstado()).isEqualTo(EstadoNotificacion.PENDIENTE);
+        assertThat(reintento.getIntentos()).isEqualTo(1);
+        assertThat(reintento.getUltimoError()).contains("canal caído");
+        assertThat(reintento.getProximoIntento())
+                .isCloseTo(LocalDateTime.now().plusSeconds(5), within(3, ChronoUnit.SECONDS));
+
+        NotificacionPendiente fallida = notificacionRepository.findById(ultima.getId()).orElseThrow();
+        assertThat(fallida.getEstado()).isEqualTo(EstadoNotificacion.FALLIDA);
+        assertThat(fallida.getIntentos()).isEqualTo(3);
+    }
+
+    private NotificacionPendiente guardar(LocalDateTime proximoIntento, int intentos) {
+        NotificacionPendiente notificacion = new NotificacionPendiente();
+        notificacion.setTipo(TipoNotificacion.RESPUESTA_NUEVA);
+        notificacion.setCanal(CanalPrueba.NOMBRE);
+        notificacion.setDestinatarioId(datos.usuario().getId());
+        notificacion.setDatos("{}");
+        notificacion.setIntentos(intentos);
+        notificacion.setProximoIntento(proximoIntento);
+        return notificacionRepository.save(notificacion);
+    }
+
+    @TestConfiguration
+    static class Configuracion {
+
+        @Bean
+        CanalPrueba canalPrueba(NotificacionPendienteRepository notificacionRepository) {
+            return new CanalPrueba(notificacionRepository);
+        }
+    }
+
+    // Registra el proximo_intento que ve la base mientras entrega; falla a pedido
+
+    static class CanalPrueba implements CanalNotificacion {
+
+        static final String NOMBRE = "prueba";
+
+        private final NotificacionPendienteRepository notificacionRepository;
+        private final Map<Long, LocalDateTime> proximoIntentoAlEnviar = new ConcurrentHashMap<>();
+        private volatile boolean fallar;
+
+        CanalPrueba(NotificacionPendienteRepository notificacionRepository) {
+            this.notificacionRepository = notificacionRepository;
+        }
+
+        @Override
+        public String nombre() {
+            return NOMBRE;
+        }
+
+        @Override
+        public void enviar(NotificacionPendiente notificacion) throws Exception {
+            notificacionRepository.findById(notificacion.getId())
+                    .ifPresent(fila -> proximoIntentoAlEnviar.put(fila.getId(), fila.getProximoIntento()));
+            if (fallar) {
+                throw new IllegalStateException("canal caído");
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.paulruiz.forohub.infra.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ Presupuesto de sentencias SQL por petición HTTP en una prueba de integración
+ La prueba falla si alguna petición ejecutada durante el test supera "value"
+ o si alguna sentencia se repite "maxRepeticiones" veces o más (posible N+1)
+
+ Requiere un contexto Spring con FiltroSentencias (ejem: @SpringBootTest + MockMvc)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(PresupuestoSentenciasExtension.class)
+public @interface PresupuestoSentencias {
+
+    // Máximo de sentencias permitidas por petición
+    int value();
+
+    // Repeticiones de una misma sentencia que se consideran N+1
+    int maxRepeticiones() default 5;
+}
@@ -0,0 +1,71 @@
+package com.paulruiz.forohub.infra.sql;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/*
+ Extensión de JUnit que registra un observador en FiltroSentencias
+ antes de cada prueba y valida el presupuesto al terminar
+ */
+public class PresupuestoSentenciasExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PresupuestoSentenciasExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        List<ResumenSentencias> resumenes = new CopyOnWriteArrayList<>();
+        Consumer<ResumenSentencias> observador = resumenes::add;
+
+        filtro(context).agregarObservador(observador);
+
+        context.getStore(NAMESPACE).put("resumenes", resumenes);
+        context.getStore(NAMESPACE).put("observador", observador);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        Consumer<ResumenSentencias> observador =
+                context.getStore(NAMESPACE).remove("observador", Consumer.class);
+        List<ResumenSentencias> resumenes =
+                context.getStore(NAMESPACE).remove("resumenes", List.class);
+
+        filtro(context).quitarObservador(observador);
+
+        PresupuestoSentencias presupuesto = presupuesto(context);
+        for (ResumenSentencias resumen : resumenes) {
+            if (resumen.sentencias() > presupuesto.value()) {
+                fail(resumen.endpoint() + " ejecutó " + resumen.sentencias()
+                        + " sentencias SQL, presupuesto: " + presupuesto.value());
+            }
+            // Conteo completo: el umbral del filtro (forohub.sql.umbral-repeticiones) no limita al presupuesto
+            resumen.repeticiones().forEach((sql, veces) -> {
+                if (veces >= presupuesto.maxRepeticiones()) {
+                    fail("Posible N+1 en " + resumen.endpoint() + ": " + veces + " veces " + sql);
+                }
+            });
+        }
+    }
+
+    private FiltroSentencias filtro(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(FiltroSentencias.class);
+    }
+
+    // La anotación del método tiene prioridad sobre la de la clase
+
+    private PresupuestoSentencias presupuesto(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), PresupuestoSentencias.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), PresupuestoSentencias.class))
+                .orElseThrow();
+    }
+}
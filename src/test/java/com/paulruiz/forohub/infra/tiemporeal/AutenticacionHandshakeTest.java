@@ -0,0 +1,76 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import com.paulruiz.forohub.infra.security.TokenService;
+import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Pruebas del handshake de /ws/foro: el JWT llega por subprotocolo, nunca por la URL
+
+class AutenticacionHandshakeTest {
+
+    private static final String EMAIL = "ana@forohub.com";
+
+    private final AutenticacionHandshake handshake = new AutenticacionHandshake();
+    private String token;
+
+    @BeforeEach
+    void configurar() {
+        TokenService tokenService = new TokenService();
+        ReflectionTestUtils.setField(tokenService, "secret", "secreto-de-prueba");
+        ReflectionTestUtils.setField(tokenService, "expiration", 3_600_000L);
+
+        Usuario usuario = new Usuario();
+        usuario.setEmail(EMAIL);
+        token = tokenService.generarToken(usuario);
+
+        UsuarioRepository usuarioRepository = mock(UsuarioRepository.class);
+        when(usuarioRepository.findByEmail(EMAIL)).thenReturn(usuario);
+
+        ReflectionTestUtils.setField(handshake, "tokenService", tokenService);
+        ReflectionTestUtils.setField(handshake, "usuarioRepository", usuarioRepository);
+    }
+
+    @Test
+    void tokenEnElSubprotocoloAbreLaConexionConSuExpiracion() {
+        MockHttpServletRequest peticion = new MockHttpServletRequest("GET", "/ws/foro");
+        peticion.addHeader("Sec-WebSocket-Protocol", AutenticacionHandshake.PROTOCOLO + ", " + token);
+        Map<String, Object> atributos = new HashMap<>();
+
+        boolean aceptado = handshake.beforeHandshake(new ServletServerHttpRequest(peticion),
+                new ServletServerHttpResponse(new MockHttpServletResponse()), null, atributos);
+
+        assertThat(aceptado).isTrue();
+        assertThat(atributos).containsEntry(AutenticacionHandshake.ATRIBUTO_EMAIL, EMAIL);
+        assertThat(atributos.get(AutenticacionHandshake.ATRIBUTO_EXPIRA)).isInstanceOf(Instant.class);
+    }
+
+    @Test
+    void tokenEnLaUrlSeRechaza() {
+        MockHttpServletRequest peticion = new MockHttpServletRequest("GET", "/ws/foro");
+        peticion.setQueryString("token=" + token);
+        peticion.addParameter("token", token);
+        MockHttpServletResponse respuesta = new MockHttpServletResponse();
+
+        boolean aceptado = handshake.beforeHandshake(new ServletServerHttpRequest(peticion),
+                new ServletServerHttpResponse(respuesta), null, new HashMap<>());
+
+        assertThat(aceptado).isFalse();
+        assertThat(respuesta.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+}
@@ -0,0 +1,65 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Pruebas del historial y desalojo de un canal (suscriptores sin hilo escritor)
+
+class CanalTopicoTest {
+
+    private static final int BUFFER = 4;
+
+    @Test
+    void reanudarConLastEventIdEncolaSoloLosEventosPosteriores() {
+        CanalTopico canal = new CanalTopico(10, 0);
+        for (long id = 1; id <= 3; id++) {
+            canal.publicar(evento(id));
+        }
+
+        SuscriptorSse suscriptor = suscriptor();
+        canal.suscribir(suscriptor, 1L);
+
+        assertThat(suscriptor.capacidadLibre()).isEqualTo(BUFFER - 2);
+    }
+
+    @Test
+    void idFueraDelHistorialRecibeSoloReiniciar() {
+        CanalTopico canal = new CanalTopico(2, 0);
+        for (long id = 1; id <= 5; id++) {
+            canal.publicar(evento(id));
+        }
+
+        SuscriptorSse suscriptor = suscriptor();
+        canal.suscribir(suscriptor, 1L);
+
+        assertThat(suscriptor.capacidadLibre()).isEqualTo(BUFFER - 1);
+    }
+
+    @Test
+    void suscriptorConBufferLlenoEsDevueltoComoLentoYQuitado() {
+        CanalTopico canal = new CanalTopico(10, 0);
+        SuscriptorSse lento = suscriptor();
+        canal.suscribir(lento, null);
+
+        for (long id = 1; id <= BUFFER; id++) {
+            assertThat(canal.publicar(evento(id))).isEmpty();
+        }
+        List<SuscriptorSse> lentos = canal.publicar(evento(BUFFER + 1));
+
+        assertThat(lentos).containsExactly(lento);
+        assertThat(canal.cantidadSuscriptores()).isZero();
+    }
+
+    private SuscriptorSse suscriptor() {
+        return new SuscriptorSse(1L, new SseEmitter(), BUFFER, Duration.ofSeconds(30), s -> { });
+    }
+
+    private EventoTopico evento(long id) {
+        return new EventoTopico(id, "respuesta-creada", "{}");
+    }
+}
@@ -0,0 +1,92 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paulruiz.forohub.infra.eventos.TopicoEliminado;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Pruebas del hub: cierre de sesiones al vencer el token y difusión de tópicos eliminados
+
+class HubForoTest {
+
+    private final HubForo hub = new HubForo();
+
+    @BeforeEach
+    void configurar() {
+        ReflectionTestUtils.setField(hub, "tiempoEnvio", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(hub, "bufferBytes", 1024);
+        ReflectionTestUtils.setField(hub, "maxSuscripciones", 10);
+        ReflectionTestUtils.setField(hub, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hub, "objectMapper", new ObjectMapper());
+        hub.inicializar();
+    }
+
+    @AfterEach
+    void detener() {
+        hub.detener();
+    }
+
+    @Test
+    void laSesionSeCierraCuandoVenceElToken() throws Exception {
+        WebSocketSession sesion = sesion("s1", Instant.now().plusMillis(100));
+
+        hub.registrar(sesion);
+
+        verify(sesion, timeout(2000)).close(SesionForo.TOKEN_EXPIRADO);
+    }
+
+    @Test
+    void quitarLaSesionCancelaElCierrePorExpiracion() throws Exception {
+        WebSocketSession sesion = sesion("s2", Instant.now().plusMillis(100));
+
+        hub.registrar(sesion);
+        hub.quitar("s2");
+
+        verify(sesion, after(300).never()).close(any());
+    }
+
+    @Test
+    void unTopicoEliminadoLlegaALosSuscritosASuCanal() throws Exception {
+        WebSocketSession sesion = sesion("s3", Instant.now().plusSeconds(60));
+        hub.registrar(sesion);
+        hub.suscribir("s3", "topico:7");
+
+        hub.recibir(new TopicoEliminado(7L, 3L));
+
+        ArgumentCaptor<TextMessage> mensaje = ArgumentCaptor.forClass(TextMessage.class);
+        verify(sesion, timeout(1000)).sendMessage(mensaje.capture());
+        assertThat(mensaje.getValue().getPayload())
+                .contains("\"tipo\":\"topico-eliminado\"")
+                .contains("\"id\":7");
+    }
+
+    private WebSocketSession sesion(String id, Instant expira) {
+        Map<String, Object> atributos = new HashMap<>();
+        atributos.put(AutenticacionHandshake.ATRIBUTO_EXPIRA, expira);
+        WebSocketSession sesion = mock(WebSocketSession.class);
+        when(sesion.getId()).thenReturn(id);
+        when(sesion.isOpen()).thenReturn(true);
+        when(sesion.getAttributes()).thenReturn(atributos);
+        return sesion;
+    }
+}
@@ -0,0 +1,112 @@
+package com.paulruiz.forohub.infra.tiemporeal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Pruebas de la cola de envío de una sesión WebSocket (sesión simulada)
+
+class SesionForoTest {
+
+    private final ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    @Test
+    void losMensajesLleganEnElOrdenEnQueSeEncolaron() throws Exception {
+        List<String> recibidos = new CopyOnWriteArrayList<>();
+        WebSocketSession sesion = sesionAbierta();
+        doAnswer(invocacion -> {
+            // Envíos de duración variable: con un hilo por mensaje se desordenarían
+            Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+            recibidos.add(((TextMessage) invocacion.getArgument(0)).getPayload());
+            return null;
+        }).when(sesion).sendMessage(any());
+
+        SesionForo sesionForo = new SesionForo(sesion, ejecutor, Duration.ofSeconds(5), 1 << 20);
+        List<String> enviados = IntStream.range(0, 200).mapToObj(String::valueOf).toList();
+        enviados.forEach(texto -> sesionForo.enviar(new TextMessage(texto)));
+
+        esperarHasta(() -> recibidos.size() == enviados.size());
+        assertThat(recibidos).containsExactlyElementsOf(enviados);
+    }
+
+    @Test
+    void superarElBufferCierraLaSesion() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        WebSocketSession sesion = sesionAbierta();
+        doAnswer(invocacion -> {
+            liberar.await();
+            return null;
+        }).when(sesion).sendMessage(any());
+
+        SesionForo sesionForo = new SesionForo(sesion, ejecutor, Duration.ofSeconds(5), 10);
+        sesionForo.enviar(new TextMessage("1234"));  // en envío (bloqueado)
+        sesionForo.enviar(new TextMessage("12345678"));
+        sesionForo.enviar(new TextMessage("12345678"));  // 16 bytes pendientes > 10
+        liberar.countDown();
+
+        verify(sesion, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    void unEnvioQueSuperaElTiempoCierraLaSesionAlEncolarElSiguiente() throws Exception {
+        CountDownLatch enviando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        WebSocketSession sesion = sesionAbierta();
+        doAnswer(invocacion -> {
+            enviando.countDown();
+            liberar.await();
+            return null;
+        }).when(sesion).sendMessage(any());
+
+        SesionForo sesionForo = new SesionForo(sesion, ejecutor, Duration.ofMillis(20), 1 << 20);
+        sesionForo.enviar(new TextMessage("lento"));
+        assertThat(enviando.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(sesion, never()).close(any());
+
+        Thread.sleep(50);
+        sesionForo.enviar(new TextMessage("siguiente"));
+        liberar.countDown();
+
+        verify(sesion).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private WebSocketSession sesionAbierta() {
+        WebSocketSession sesion = mock(WebSocketSession.class);
+        when(sesion.getId()).thenReturn("s1");
+        when(sesion.isOpen()).thenReturn(true);
+        return sesion;
+    }
+
+    private void esperarHasta(java.util.function.BooleanSupplier condicion) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicion.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+}
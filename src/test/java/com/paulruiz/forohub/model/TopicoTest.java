@@ -0,0 +1,39 @@
+package com.paulruiz.forohub.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Status de un tópico según sus respuestas; un tópico CERRADO no vuelve a cambiar
+
+class TopicoTest {
+
+    @Test
+    void elStatusSigueALasRespuestasYLaSolucion() {
+        Topico topico = new Topico();
+
+        topico.actualizarStatus(true, false);
+        assertThat(topico.getStatus()).isEqualTo(StatusTopico.NO_SOLUCIONADO);
+
+        topico.actualizarStatus(true, true);
+        assertThat(topico.getStatus()).isEqualTo(StatusTopico.SOLUCIONADO);
+
+        topico.actualizarStatus(false, false);
+        assertThat(topico.getStatus()).isEqualTo(StatusTopico.NO_RESPONDIDO);
+    }
+
+    @Test
+    void unTopicoCerradoNoCambiaConNuevasRespuestasNiSoluciones() {
+        Topico topico = new Topico();
+        topico.setStatus(StatusTopico.CERRADO);
+
+        topico.actualizarStatus(true, false);
+        assertThat(topico.getStatus()).isEqualTo(StatusTopico.CERRADO);
+
+        topico.actualizarStatus(true, true);
+        assertThat(topico.getStatus()).isEqualTo(StatusTopico.CERRADO);
+
+        topico.actualizarStatus(false, false);
+        assertThat(topico.getStatus()).isEqualTo(StatusTopico.CERRADO);
+    }
+}
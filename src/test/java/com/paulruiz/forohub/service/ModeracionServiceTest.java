@@ -0,0 +1,123 @@
+package com.paulruiz.forohub.service;
+
+import com.paulruiz.forohub.DatosPrueba;
+import com.paulruiz.forohub.dto.ModeracionTopicosDTO;
+import com.paulruiz.forohub.dto.ProgresoModeracionDTO;
+import com.paulruiz.forohub.model.AccionModeracion;
+import com.paulruiz.forohub.model.Curso;
+import com.paulruiz.forohub.model.EstadoModeracion;
+import com.paulruiz.forohub.model.StatusTopico;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.model.Usuario;
+import com.paulruiz.forohub.repository.RespuestaRepository;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Moderación por lotes: keyset por filtro, tramos de una lista de IDs y borrado con respuestas
+
+@SpringBootTest(properties = {
+        "forohub.moderacion.lote=2",
+        "forohub.moderacion.pausa=0ms"
+})
+@ActiveProfiles("test")
+@Import(DatosPrueba.class)
+class ModeracionServiceTest {
+
+    @Autowired
+    private ModeracionService moderacionService;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    @Autowired
+    private DatosPrueba datos;
+
+    @BeforeEach
+    void autenticarAdmin() {
+        Usuario admin = datos.usuario();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin, null, List.of()));
+    }
+
+    @AfterEach
+    void limpiarAutenticacion() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void cerrarPorFiltroRecorreLosLotesPorKeysetYSaltaLosYaCerrados() throws Exception {
+        List<Topico> topicos = crearTopicosDeUnCurso(5);
+        Long cursoId = topicos.get(0).getCurso().getId();
+
+        ProgresoModeracionDTO progreso = esperarFin(moderacionService.iniciar(
+                new ModeracionTopicosDTO(AccionModeracion.CERRAR, null, cursoId, null, null, null)));
+
+        assertThat(progreso.estado()).isEqualTo(EstadoModeracion.COMPLETADA);
+        assertThat(progreso.total()).isEqualTo(5);
+        assertThat(progreso.procesados()).isEqualTo(5);
+        assertThat(progreso.lotes()).isEqualTo(3);
+        topicos.forEach(topico -> assertThat(topicoRepository.findById(topico.getId()).orElseThrow().getStatus())
+                .isEqualTo(StatusTopico.CERRADO));
+
+        // Repetirla no encuentra tópicos abiertos
+        ProgresoModeracionDTO repetida = esperarFin(moderacionService.iniciar(
+                new ModeracionTopicosDTO(AccionModeracion.CERRAR, null, cursoId, null, null, null)));
+        assertThat(repetida.procesados()).isZero();
+        assertThat(repetida.lotes()).isZero();
+    }
+
+    @Test
+    void eliminarPorIdsBorraEnTramosConSusRespuestas() throws Exception {
+        List<Topico> topicos = crearTopicosDeUnCurso(4);
+        datos.respuesta(topicos.get(0), LocalDateTime.now());
+        List<Long> ids = topicos.subList(0, 3).stream().map(Topico::getId).toList();
+
+        ProgresoModeracionDTO progreso = esperarFin(moderacionService.iniciar(
+                new ModeracionTopicosDTO(AccionModeracion.ELIMINAR, ids, null, null, null, null)));
+
+        assertThat(progreso.estado()).isEqualTo(EstadoModeracion.COMPLETADA);
+        assertThat(progreso.procesados()).isEqualTo(3);
+        assertThat(progreso.lotes()).isEqualTo(2);
+        assertThat(topicoRepository.findAllById(ids)).isEmpty();
+        assertThat(respuestaRepository.countByTopicoId(ids.get(0))).isZero();
+        assertThat(topicoRepository.existsById(topicos.get(3).getId())).isTrue();
+    }
+
+    private List<Topico> crearTopicosDeUnCurso(int cantidad) {
+        Usuario autor = datos.usuario();
+        Curso curso = datos.curso();
+        List<Topico> topicos = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            topicos.add(datos.topico(autor, curso, LocalDateTime.now()));
+        }
+        return topicos;
+    }
+
+    private ProgresoModeracionDTO esperarFin(ProgresoModeracionDTO inicial) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ProgresoModeracionDTO progreso = inicial;
+        while (progreso.fin() == null && System.nanoTime() < limite) {
+            Thread.sleep(20);
+            progreso = moderacionService.obtenerProgreso(inicial.id());
+        }
+        return progreso;
+    }
+}
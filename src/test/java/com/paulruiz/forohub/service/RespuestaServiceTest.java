@@ -0,0 +1,85 @@
+package com.paulruiz.forohub.service;
+
+import com.paulruiz.forohub.DatosPrueba;
+import com.paulruiz.forohub.dto.RespuestaDTO;
+import com.paulruiz.forohub.infra.errores.TopicoCerradoException;
+import com.paulruiz.forohub.model.Respuesta;
+import com.paulruiz.forohub.model.StatusTopico;
+import com.paulruiz.forohub.model.Topico;
+import com.paulruiz.forohub.repository.RespuestaRepository;
+import com.paulruiz.forohub.repository.TopicoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Respuestas: un tópico cerrado no admite respuestas nuevas ni soluciones
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(DatosPrueba.class)
+class RespuestaServiceTest {
+
+    @Autowired
+    private RespuestaService respuestaService;
+
+    @Autowired
+    private TopicoRepository topicoRepository;
+
+    @Autowired
+    private RespuestaRepository respuestaRepository;
+
+    @Autowired
+    private DatosPrueba datos;
+
+    @AfterEach
+    void limpiarAutenticacion() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void unTopicoCerradoRechazaRespuestasNuevas() {
+        Topico topico = cerrado(datos.topico(LocalDateTime.now()));
+        autenticar(topico);
+
+        assertThatThrownBy(() -> respuestaService.crearRespuesta(new RespuestaDTO("Una más", topico.getId())))
+                .isInstanceOf(TopicoCerradoException.class);
+        assertThat(respuestaRepository.countByTopicoId(topico.getId())).isZero();
+    }
+
+    @Test
+    void unTopicoCerradoRechazaMarcarSolucion() {
+        Topico topico = datos.topico(LocalDateTime.now());
+        Respuesta respuesta = datos.respuesta(topico, LocalDateTime.now());
+        cerrado(topico);
+        autenticar(topico);
+
+        assertThatThrownBy(() -> respuestaService.marcarComoSolucion(respuesta.getId()))
+                .isInstanceOf(TopicoCerradoException.class);
+        assertThat(respuestaRepository.findById(respuesta.getId()).orElseThrow().getSolucion()).isFalse();
+        assertThat(topicoRepository.findById(topico.getId()).orElseThrow().getStatus())
+                .isEqualTo(StatusTopico.CERRADO);
+    }
+
+    private Topico cerrado(Topico topico) {
+        topico.setStatus(StatusTopico.CERRADO);
+        return topicoRepository.save(topico);
+    }
+
+    // El autor del tópico puede responder y marcar la solución
+
+    private void autenticar(Topico topico) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(topico.getAutor(), null, List.of()));
+    }
+}